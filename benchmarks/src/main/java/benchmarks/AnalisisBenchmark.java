@@ -0,0 +1,90 @@
+package main.java.benchmarks;
+
+import main.java.domain.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de los análisis que recorren todos los jugadores: sobre los objetos {@link Jugador}
+ * y sobre una {@link TablaJugadores} por columnas.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnalisisBenchmark {
+    @Param({"100", "5000"})
+    public int numEquipos;
+
+    private List<Equipo> equipos;
+    private TablaJugadores tabla;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        equipos = DatosBenchmark.equipos(numEquipos, DatosBenchmark.SEMILLA);
+        tabla = TablaJugadores.desdeEquipos(equipos);
+    }
+
+    @Benchmark
+    public double calidadMediaObjetos() {
+        double suma = 0;
+        int num = 0;
+        for (Equipo equipo : equipos) {
+            for (Jugador jugador : equipo.getJugadores()) {
+                suma += jugador.getCalidad();
+                num++;
+            }
+        }
+        return suma / num;
+    }
+
+    @Benchmark
+    public double calidadMediaTabla() {
+        return tabla.getCalidadMedia();
+    }
+
+    @Benchmark
+    public Jugador[] mejoresPorPosicionObjetos() {
+        Jugador[] mejores = new Jugador[Posicion.NUM_POSICIONES];
+        for (Equipo equipo : equipos) {
+            for (Jugador jugador : equipo.getJugadores()) {
+                int codigo = jugador.getPosicionCampo().ordinal();
+                if (mejores[codigo] == null || jugador.compareTo(mejores[codigo]) < 0) {
+                    mejores[codigo] = jugador;
+                }
+            }
+        }
+        return mejores;
+    }
+
+    @Benchmark
+    public int[] mejoresPorPosicionTabla() {
+        return tabla.getMejoresPorPosicion();
+    }
+
+    @Benchmark
+    public List<Jugador> ordenarPorCalidadObjetos() {
+        List<Jugador> todos = new ArrayList<>(tabla.size());
+        for (Equipo equipo : equipos) {
+            todos.addAll(equipo.getJugadores());
+        }
+        Collections.sort(todos);
+        return todos;
+    }
+
+    @Benchmark
+    public int[] ordenarPorCalidadTabla() {
+        return tabla.getFilasPorCalidad();
+    }
+
+    @Benchmark
+    public TablaJugadores crearTabla() {
+        return TablaJugadores.desdeEquipos(equipos);
+    }
+}
@@ -0,0 +1,54 @@
+package main.java.benchmarks;
+
+import main.java.domain.*;
+import main.java.services.GeneradorDatos;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Datos generados para los benchmarks.
+ * <p>
+ * Todo se genera con {@link GeneradorDatos} a partir de una semilla, de modo que dos ejecuciones miden
+ * exactamente los mismos equipos y el mismo mercado.
+ */
+final class DatosBenchmark {
+    static final long SEMILLA = 42L;
+
+    private DatosBenchmark() {
+    }
+
+    /**
+     * Crea equipos completos con {@link GeneradorDatos}.
+     *
+     * @param numEquipos El número de equipos a crear.
+     * @param semilla    La semilla de los datos.
+     * @return La lista de equipos.
+     */
+    static List<Equipo> equipos(int numEquipos, long semilla) {
+        return new GeneradorDatos(semilla).generarEquipos(numEquipos);
+    }
+
+    /**
+     * Crea una liga con los equipos indicados.
+     */
+    static Liga liga(List<Equipo> equipos) {
+        Liga liga = new Liga("Liga benchmark");
+        for (Equipo equipo : equipos) {
+            liga.agregarEquipo(equipo);
+        }
+        return liga;
+    }
+
+    /**
+     * Sustituye la salida estándar por una que descarta todo, para no medir la escritura en la consola.
+     *
+     * @return La salida estándar anterior, para restaurarla con {@link System#setOut(PrintStream)}.
+     */
+    static PrintStream silenciarSalida() {
+        PrintStream anterior = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        return anterior;
+    }
+}
@@ -0,0 +1,65 @@
+package main.java.benchmarks;
+
+import main.java.domain.Entrenador;
+import main.java.domain.Jugador;
+import main.java.domain.Persona;
+import main.java.services.FileManager;
+import main.java.services.GeneradorDatos;
+import main.java.services.ServicioEntrenamiento;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de una sesión de entrenamiento de todo el mercado: el recorrido secuencial del menú
+ * frente al entrenamiento en bloque de {@link ServicioEntrenamiento}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntrenamientoBenchmark {
+    @Param({"100000", "1000000"})
+    public int tamano;
+
+    private List<Persona> mercado;
+    private long semilla = DatosBenchmark.SEMILLA;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        Path archivo = Files.createTempFile("fm-benchmark", ".txt");
+        try {
+            new GeneradorDatos(DatosBenchmark.SEMILLA).escribirMercado(archivo, tamano);
+            FileManager.setSilencioso(true);
+            mercado = FileManager.cargarMercado(archivo);
+        } finally {
+            FileManager.setSilencioso(false);
+            Files.delete(archivo);
+        }
+    }
+
+    @Benchmark
+    public List<Persona> entrenarSecuencial() {
+        for (Persona persona : mercado) {
+            persona.entrenamiento();
+            if (persona instanceof Jugador jugador) {
+                jugador.canviDePosicio();
+            } else if (persona instanceof Entrenador entrenador) {
+                entrenador.incrementarSou();
+            }
+        }
+        return mercado;
+    }
+
+    @Benchmark
+    public List<Persona> entrenarEnBloque() {
+        ServicioEntrenamiento.entrenarMercado(mercado, semilla++);
+        return mercado;
+    }
+}
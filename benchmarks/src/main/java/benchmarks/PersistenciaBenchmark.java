@@ -0,0 +1,87 @@
+package main.java.benchmarks;
+
+import main.java.domain.*;
+import main.java.services.CodecEquipos;
+import main.java.services.FileManager;
+import main.java.services.GeneradorDatos;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks de la carga del mercado y del guardado y la carga de equipos sobre datos generados.
+ * Los archivos se crean en un directorio temporal que se borra al terminar.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistenciaBenchmark {
+    /**
+     * Número de personas del mercado; el número de equipos es una décima parte.
+     */
+    @Param({"1000", "100000"})
+    public int tamano;
+
+    private Path directorio;
+    private Path archivoMercado;
+    private Path archivoEquipos;
+    private Path archivoGuardado;
+    private List<Equipo> equipos;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        directorio = Files.createTempDirectory("fm-benchmark");
+        archivoMercado = directorio.resolve("mercat_fitxatges.txt");
+        archivoEquipos = directorio.resolve("equipos.txt");
+        archivoGuardado = directorio.resolve("equipos-guardado.txt");
+        new GeneradorDatos(DatosBenchmark.SEMILLA).escribirMercado(archivoMercado, tamano);
+        equipos = DatosBenchmark.equipos(tamano / 10, DatosBenchmark.SEMILLA);
+        FileManager.setSilencioso(true);
+        FileManager.guardarEquipos(equipos, archivoEquipos);
+    }
+
+    @TearDown(Level.Trial)
+    public void limpiar() throws IOException {
+        FileManager.setSilencioso(false);
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            for (Path archivo : (Iterable<Path>) archivos.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(archivo);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Persona> cargarMercado() {
+        return FileManager.cargarMercado(archivoMercado);
+    }
+
+    @Benchmark
+    public void guardarEquipos() {
+        FileManager.guardarEquipos(equipos, archivoGuardado);
+    }
+
+    /**
+     * Carga perezosa: solo se abre el archivo y se lee el directorio.
+     */
+    @Benchmark
+    public List<Equipo> cargarEquipos() {
+        return FileManager.cargarEquipos(archivoEquipos);
+    }
+
+    /**
+     * Carga completa de todos los equipos, con sus entrenadores y jugadores.
+     */
+    @Benchmark
+    public List<Equipo> cargarEquiposCompletos() throws IOException {
+        return CodecEquipos.cargar(archivoEquipos);
+    }
+}
@@ -0,0 +1,156 @@
+package main.java.benchmarks;
+
+import main.java.domain.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la simulación de partidos y de ligas completas.
+ * <p>
+ * La salida estándar se descarta durante las mediciones, ya que {@link Partido#jugar()} y
+ * {@link Liga#disputarLiga()} imprimen cada resultado por defecto. Las variantes "sin salida" usan
+ * {@link OyentePartido#NINGUNO} y miden solo la simulación.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulacionBenchmark {
+    @Param({"20", "100", "500"})
+    public int numEquipos;
+
+    private List<Equipo> equipos;
+
+    /**
+     * Un jugador de cada equipo, el primero de su plantilla, para cambiar su calidad.
+     */
+    private Jugador[] jugadores;
+    private Liga liga;
+    private Liga ligaSinSalida;
+    private Liga ligaDisputada;
+    private SplittableRandom rand;
+    private PrintStream salidaOriginal;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        salidaOriginal = DatosBenchmark.silenciarSalida();
+        equipos = DatosBenchmark.equipos(numEquipos, DatosBenchmark.SEMILLA);
+        jugadores = new Jugador[numEquipos];
+        for (int i = 0; i < numEquipos; i++) {
+            jugadores[i] = equipos.get(i).getJugadores().get(0);
+        }
+        liga = DatosBenchmark.liga(equipos);
+        ligaSinSalida = DatosBenchmark.liga(equipos);
+        ligaSinSalida.setOyente(OyentePartido.NINGUNO);
+        ligaDisputada = DatosBenchmark.liga(equipos);
+        ligaDisputada.disputarLigaParalela(DatosBenchmark.SEMILLA);
+        rand = new SplittableRandom(DatosBenchmark.SEMILLA);
+    }
+
+    @TearDown(Level.Trial)
+    public void restaurar() {
+        System.setOut(salidaOriginal);
+    }
+
+    /**
+     * Un partido tal como lo juega el menú: calcula los factores, simula e imprime el resultado.
+     */
+    @Benchmark
+    public Partido partidoJugar() {
+        Partido partido = siguientePartido();
+        partido.jugar();
+        return partido;
+    }
+
+    /**
+     * Un partido jugado como en el menú, pero sin notificar el resultado a nadie.
+     */
+    @Benchmark
+    public Partido partidoJugarSinSalida() {
+        Partido partido = siguientePartido();
+        partido.jugar(OyentePartido.NINGUNO);
+        return partido;
+    }
+
+    /**
+     * Un partido simulado con un generador propio, sin imprimir el resultado.
+     */
+    @Benchmark
+    public Partido partidoSimular() {
+        Partido partido = siguientePartido();
+        partido.simular(rand);
+        return partido;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Liga disputarLiga() {
+        liga.disputarLiga();
+        return liga;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Liga disputarLigaSinSalida() {
+        ligaSinSalida.disputarLiga();
+        return ligaSinSalida;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Liga disputarLigaParalela() {
+        ligaSinSalida.disputarLigaParalela(DatosBenchmark.SEMILLA);
+        return ligaSinSalida;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Liga disputarLigaParalelaConsola() {
+        liga.disputarLigaParalela(DatosBenchmark.SEMILLA);
+        return liga;
+    }
+
+    @Benchmark
+    public void mostrarClasificacion() {
+        ligaDisputada.mostrarClasificacion();
+    }
+
+    /**
+     * Calidad media con la caché válida, como ocurre entre dos partidos de la misma jornada.
+     */
+    @Benchmark
+    public double calcularCalidadMedia() {
+        return equipos.get(siguienteIndice()).calcularCalidadMedia();
+    }
+
+    /**
+     * Calidad media después de cambiar la calidad de un jugador, que obliga a recalcularla.
+     */
+    @Benchmark
+    public void calcularCalidadMediaTrasCambio(Blackhole bh) {
+        int indice = siguienteIndice();
+        Equipo equipo = equipos.get(indice);
+        Jugador jugador = jugadores[indice];
+        jugador.setCalidad(jugador.getCalidad());
+        bh.consume(equipo.calcularCalidadMedia());
+    }
+
+    private Partido siguientePartido() {
+        int local = siguienteIndice();
+        return new Partido(equipos.get(local), equipos.get((local + 1) % numEquipos));
+    }
+
+    private int siguienteIndice() {
+        int indice = siguiente;
+        siguiente = indice + 1 == numEquipos ? 0 : indice + 1;
+        return indice;
+    }
+}
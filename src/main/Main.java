@@ -24,20 +24,32 @@ public class Main {
      *     <li>Una vez que el usuario sale del menú, guarda el estado actual de los equipos y el mercado
      *     de vuelta a los archivos utilizando {@code FileManager}.</li>
      * </ol>
+     * <p>
+     * Si se reciben argumentos, la aplicación se ejecuta sin menú mediante {@link ModoBatch}:
+     * {@code --batch orden[=valor]...} ejecuta las órdenes indicadas y {@code --script archivo} las lee de un archivo.
+     * Al terminar, el proceso devuelve el código de salida de {@link ModoBatch#ejecutar(String[])}.
      */
 
     public static void main(String[] args) {
+        if (args.length > 0) {
+            if (args[0].equals("--batch")) {
+                System.exit(ModoBatch.ejecutar(Arrays.copyOfRange(args, 1, args.length)));
+            } else if (args[0].equals("--script")) {
+                System.exit(ModoBatch.ejecutar(args));
+            }
+            System.err.println("Uso: Main [--batch orden[=valor]... | --script archivo]");
+            System.exit(ModoBatch.SALIDA_ORDEN_NO_VALIDA);
+        }
+
         // Cargar datos existentes
-        List<Persona> mercado = FileManager.cargarMercado();
+        Mercado mercado = FileManager.cargarMercado();
         List<Equipo> equipos = FileManager.cargarEquipos();
 
         // Mostrar estadísticas iniciales
         System.out.println("\n=== Football Manager ===");
         System.out.printf("Equipos cargados: %d%n", equipos.size());
-        System.out.printf("Jugadores en mercado: %d%n",
-                mercado.stream().filter(p -> p instanceof Jugador).count());
-        System.out.printf("Entrenadores en mercado: %d%n",
-                mercado.stream().filter(p -> p instanceof Entrenador).count());
+        System.out.printf("Jugadores en mercado: %d%n", mercado.getNumJugadores(null));
+        System.out.printf("Entrenadores en mercado: %d%n", mercado.getEntrenadores().size());
         System.out.printf("Total jugadores creados: %d%n", Jugador.getTotalJugadores());
         System.out.printf("Total entrenadores creados: %d%n", Entrenador.getTotalEntrenadores());
 
@@ -0,0 +1,155 @@
+package main.java.domain;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Calendario de una temporada a doble vuelta: cada equipo juega contra cada uno de los demás una vez como
+ * local y otra como visitante, repartidos en jornadas en las que cada equipo juega como mucho un partido.
+ * <p>
+ * Las jornadas de la primera vuelta se generan con el método del círculo: el primer equipo queda fijo y los
+ * demás giran una posición en cada jornada, de modo que en {@code n - 1} jornadas (con {@code n} par) todos
+ * se enfrentan una vez. Con un número impar de equipos se añade un hueco y, en cada jornada, el equipo
+ * emparejado con él descansa. Local y visitante se asignan de forma que los equipos los alternen casi
+ * siempre de una jornada a otra. La segunda vuelta repite las jornadas de la primera en el mismo orden,
+ * con local y visitante intercambiados.
+ * <p>
+ * El calendario solo guarda los emparejamientos (índices de equipos); los partidos se crean cuando se
+ * piden con {@link #crearPartidos(int)}. Es inmutable.
+ */
+public final class Calendario implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final List<Equipo> equipos;
+
+    /**
+     * Índice del equipo local de cada partido, jornada a jornada.
+     */
+    private final int[][] locales;
+
+    /**
+     * Índice del equipo visitante de cada partido, jornada a jornada.
+     */
+    private final int[][] visitantes;
+
+    /**
+     * Genera el calendario a doble vuelta de una lista de equipos.
+     *
+     * @param equipos Los equipos participantes, al menos dos y sin repetir.
+     * @throws IllegalArgumentException si hay menos de dos equipos.
+     * @throws NullPointerException     si la lista o alguno de sus equipos es nulo.
+     */
+    public Calendario(List<Equipo> equipos) {
+        for (Equipo equipo : equipos) {
+            Objects.requireNonNull(equipo, "El equipo no puede ser nulo.");
+        }
+        if (equipos.size() < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos dos equipos para crear un calendario.");
+        }
+        this.equipos = List.copyOf(equipos);
+
+        int n = this.equipos.size();
+        // Con un número impar de equipos, el índice n es el hueco: quien se empareja con él descansa
+        int participantes = n % 2 == 0 ? n : n + 1;
+        int jornadasPorVuelta = participantes - 1;
+        int partidosPorJornada = n / 2;
+        this.locales = new int[2 * jornadasPorVuelta][partidosPorJornada];
+        this.visitantes = new int[2 * jornadasPorVuelta][partidosPorJornada];
+
+        int[] ronda = new int[participantes];
+        for (int jornada = 0; jornada < jornadasPorVuelta; jornada++) {
+            ronda[0] = 0;
+            for (int i = 1; i < participantes; i++) {
+                ronda[i] = (i - 1 + jornada) % jornadasPorVuelta + 1;
+            }
+            int partido = 0;
+            for (int k = 0; k < participantes / 2; k++) {
+                int a = ronda[k];
+                int b = ronda[participantes - 1 - k];
+                if (a == n || b == n) {
+                    continue;
+                }
+                // Alternar por jornada (equipo fijo) y por pareja hace que cada equipo alterne local y visitante
+                boolean invertir = k == 0 ? jornada % 2 == 1 : k % 2 == 1;
+                int local = invertir ? b : a;
+                int visitante = invertir ? a : b;
+                locales[jornada][partido] = local;
+                visitantes[jornada][partido] = visitante;
+                locales[jornada + jornadasPorVuelta][partido] = visitante;
+                visitantes[jornada + jornadasPorVuelta][partido] = local;
+                partido++;
+            }
+        }
+    }
+
+    /**
+     * Obtiene el número de jornadas de la temporada (las dos vueltas).
+     *
+     * @return El número de jornadas.
+     */
+    public int getNumJornadas() {
+        return locales.length;
+    }
+
+    /**
+     * Obtiene el número de partidos que se juegan en cada jornada.
+     *
+     * @return El número de partidos por jornada.
+     */
+    public int getPartidosPorJornada() {
+        return locales[0].length;
+    }
+
+    /**
+     * Obtiene una lista no modificable de los equipos del calendario.
+     *
+     * @return Los equipos, en el orden en que se recibieron.
+     */
+    public List<Equipo> getEquipos() {
+        return equipos;
+    }
+
+    /**
+     * Crea los partidos de una jornada, sin jugarlos. Cada llamada crea partidos nuevos.
+     *
+     * @param jornada El número de jornada, empezando por 0.
+     * @return Un array con los partidos de la jornada.
+     * @throws IndexOutOfBoundsException si la jornada no existe.
+     */
+    public Partido[] crearPartidos(int jornada) {
+        Objects.checkIndex(jornada, locales.length);
+        Partido[] partidos = new Partido[locales[jornada].length];
+        for (int i = 0; i < partidos.length; i++) {
+            partidos[i] = new Partido(equipos.get(locales[jornada][i]), equipos.get(visitantes[jornada][i]));
+        }
+        return partidos;
+    }
+
+    /**
+     * Obtiene el equipo que descansa en una jornada.
+     *
+     * @param jornada El número de jornada, empezando por 0.
+     * @return El equipo que no juega en la jornada, o {@code null} si el número de equipos es par.
+     * @throws IndexOutOfBoundsException si la jornada no existe.
+     */
+    public Equipo getEquipoQueDescansa(int jornada) {
+        Objects.checkIndex(jornada, locales.length);
+        if (equipos.size() % 2 == 0) {
+            return null;
+        }
+        boolean[] juega = new boolean[equipos.size()];
+        for (int i = 0; i < locales[jornada].length; i++) {
+            juega[locales[jornada][i]] = true;
+            juega[visitantes[jornada][i]] = true;
+        }
+        for (int i = 0; i < juega.length; i++) {
+            if (!juega[i]) {
+                return equipos.get(i);
+            }
+        }
+        return null;
+    }
+}
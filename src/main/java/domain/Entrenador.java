@@ -1,16 +1,19 @@
 package main.java.domain;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Representa a un Entrenador en el sistema, extendiendo la clase {@link Persona}.
  * Un entrenador tiene atributos específicos como el número de torneos ganados y si es
  * seleccionador nacional, además de las características heredadas de Persona.
- * Mantiene un contador estático del número total de entrenadores creados.
+ * Mantiene un contador del número total de entrenadores creados en {@link Metricas}.
  */
 public class Entrenador extends Persona {
     /**
-     * Contador estático que lleva la cuenta del número total de instancias de Entrenador creadas.
+     * Contador del número total de instancias de Entrenador creadas ({@link Metricas#ENTRENADORES_CREADOS}).
+     * Se pueden crear entrenadores desde varios hilos a la vez sin perder incrementos.
      */
-    private static int totalEntrenadores = 0;
+    private static final LongAdder TOTAL_ENTRENADORES = Metricas.contador(Metricas.ENTRENADORES_CREADOS);
 
     /**
      * Número de torneos ganados por el entrenador.
@@ -41,7 +44,7 @@ public class Entrenador extends Persona {
         super(nombre, apellido, fechaNacimiento, sueldo, motivacion);
         setTorneosGanados(torneosGanados);
         this.seleccionadorNacional = seleccionadorNacional;
-        totalEntrenadores++;
+        TOTAL_ENTRENADORES.increment();
     }
 
     /**
@@ -87,7 +90,7 @@ public class Entrenador extends Persona {
      * @return El contador total de instancias de Entrenador creadas.
      */
     public static int getTotalEntrenadores() {
-        return totalEntrenadores;
+        return TOTAL_ENTRENADORES.intValue();
     }
 
     /**
@@ -1,8 +1,13 @@
 package main.java.domain;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
 
 /**
  * Representa un equipo deportivo en el sistema.
@@ -11,19 +16,57 @@ import java.util.*;
  * un presidente, un entrenador y una lista de jugadores.
  * Proporciona funcionalidades para gestionar la plantilla de jugadores (agregar, eliminar, buscar),
  * calcular la calidad media del equipo, y realizar entrenamientos colectivos.
+ * <p>
+ * La plantilla se indexa por dorsal (un hueco por cada dorsal posible) y por nombre, de modo que las
+ * búsquedas, las altas, las bajas y la comprobación de dorsales ocupados no dependen del tamaño de la plantilla.
  * Implementa {@link Serializable} para permitir la persistencia de sus instancias.
  */
 public class Equipo implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Contador de equipos creados ({@link Metricas#EQUIPOS_CREADOS}).
+     */
+    private static final LongAdder TOTAL_EQUIPOS = Metricas.contador(Metricas.EQUIPOS_CREADOS);
+
     private final String nombre;
     private final int anioFundacion;
     private final String ciudad;
     private String nombreEstadio;
     private String nombrePresidente;
     private Entrenador entrenador;
-    private final List<Jugador> jugadores;
+
+    /**
+     * Jugadores de la plantilla indexados por dorsal: la posición {@code d} contiene el jugador con dorsal
+     * {@code d}, o {@code null} si el dorsal está libre.
+     */
+    private Jugador[] plantilla;
+
+    /**
+     * Número de jugadores de la plantilla.
+     */
+    private transient int numJugadores;
+
+    /**
+     * Jugadores de la plantilla agrupados por nombre. Se reconstruye a partir de {@link #plantilla}
+     * al deserializar.
+     */
+    private transient Map<String, List<Jugador>> jugadoresPorNombre;
+
+    /**
+     * Calidad media de la plantilla calculada por última vez. Solo es válida si {@link #calidadMediaValida} es
+     * {@code true}; cualquier cambio en la plantilla o en la calidad de un jugador la invalida.
+     */
+    private transient double calidadMedia;
+    private transient boolean calidadMediaValida;
+
+    /**
+     * Vistas no modificables de la plantilla ordenadas por posición y por calidad. Se construyen la primera vez
+     * que se piden y se descartan ({@code null}) cuando cambia la plantilla o algún atributo que afecta al orden.
+     */
+    private transient List<Jugador> vistaPorPosicion;
+    private transient List<Jugador> vistaPorCalidad;
 
     /**
      * Constructor principal para crear un nuevo objeto Equipo con todos los detalles.
@@ -47,7 +90,9 @@ public class Equipo implements Serializable {
         this.ciudad = Objects.requireNonNull(ciudad, "La ciudad no puede ser nula");
         this.nombreEstadio = nombreEstadio;
         this.nombrePresidente = nombrePresidente;
-        this.jugadores = new ArrayList<>();
+        this.plantilla = new Jugador[Jugador.DORSAL_MAXIMO + 1];
+        this.jugadoresPorNombre = new HashMap<>();
+        TOTAL_EQUIPOS.increment();
     }
 
     /**
@@ -64,12 +109,40 @@ public class Equipo implements Serializable {
 
     /**
      * Calcula la calidad media de los jugadores del equipo.
+     * <p>
+     * El valor se guarda y solo se vuelve a calcular después de que cambie la plantilla
+     * o la calidad de alguno de sus jugadores, por lo que las lecturas repetidas tienen coste constante.
      *
      * @return La calidad media de los jugadores, o 0 si el equipo no tiene jugadores.
      */
     public double calcularCalidadMedia() {
-        if (jugadores.isEmpty()) return 0;
-        return jugadores.stream().mapToDouble(Jugador::getCalidad).average().orElse(0);
+        if (!calidadMediaValida) {
+            double suma = 0;
+            for (Jugador j : plantilla) {
+                if (j != null) suma += j.getCalidad();
+            }
+            calidadMedia = numJugadores == 0 ? 0 : suma / numJugadores;
+            calidadMediaValida = true;
+        }
+        return calidadMedia;
+    }
+
+    /**
+     * Marca la calidad media como desactualizada. Lo invocan las operaciones de la plantilla
+     * y {@link Jugador#setCalidad(double)} cuando el jugador pertenece a este equipo.
+     */
+    void invalidarCalidadMedia() {
+        calidadMediaValida = false;
+        invalidarVistas();
+    }
+
+    /**
+     * Descarta las vistas ordenadas de la plantilla. Lo invoca {@link Jugador} cuando cambia algún
+     * atributo de un jugador de este equipo que interviene en la ordenación.
+     */
+    void invalidarVistas() {
+        vistaPorPosicion = null;
+        vistaPorCalidad = null;
     }
 
     /**
@@ -78,13 +151,20 @@ public class Equipo implements Serializable {
      *
      * @param jugador El jugador a agregar. No puede ser nulo.
      * @throws NullPointerException     si el jugador es nulo.
-     * @throws IllegalArgumentException si el dorsal del jugador ya existe en el equipo.
+     * @throws IllegalArgumentException si el dorsal del jugador ya existe en el equipo,
+     *                                  o si el jugador ya pertenece a un equipo.
      */
     public void agregarJugador(Jugador jugador) {
         Objects.requireNonNull(jugador, "El jugador no puede ser nulo");
-        if (jugadores.stream().anyMatch(j -> j.getDorsal() == jugador.getDorsal()))
+        if (jugador.getEquipo() != null)
+            throw new IllegalArgumentException("El jugador ya pertenece al equipo " + jugador.getEquipo().getNombre() + ".");
+        if (isDorsalOcupado(jugador.getDorsal()))
             throw new IllegalArgumentException("El dorsal " + jugador.getDorsal() + " ya existe en el equipo.");
-        jugadores.add(jugador);
+        plantilla[jugador.getDorsal()] = jugador;
+        numJugadores++;
+        indexarNombre(jugador);
+        jugador.setEquipo(this);
+        invalidarCalidadMedia();
     }
 
     /**
@@ -95,7 +175,16 @@ public class Equipo implements Serializable {
      * @return {@code true} si el jugador fue encontrado y eliminado, {@code false} en caso contrario.
      */
     public boolean eliminarJugador(String nombre, int dorsal) {
-        return jugadores.removeIf(j -> j.getNombre().equals(nombre) && j.getDorsal() == dorsal);
+        Jugador jugador = buscarJugador(nombre, dorsal);
+        if (jugador == null) {
+            return false;
+        }
+        plantilla[dorsal] = null;
+        numJugadores--;
+        desindexarNombre(jugador, jugador.getNombre());
+        jugador.setEquipo(null);
+        invalidarCalidadMedia();
+        return true;
     }
 
     /**
@@ -106,9 +195,105 @@ public class Equipo implements Serializable {
      * @return El objeto {@link Jugador} si se encuentra, o {@code null} si no existe.
      */
     public Jugador buscarJugador(String nombre, int dorsal) {
-        return jugadores.stream()
-                .filter(j -> j.getNombre().equals(nombre) && j.getDorsal() == dorsal)
-                .findFirst().orElse(null);
+        Jugador jugador = buscarJugador(dorsal);
+        return jugador != null && jugador.getNombre().equals(nombre) ? jugador : null;
+    }
+
+    /**
+     * Busca el jugador de la plantilla que lleva un dorsal.
+     *
+     * @param dorsal El dorsal a buscar.
+     * @return El jugador con ese dorsal, o {@code null} si el dorsal está libre o fuera de rango.
+     */
+    public Jugador buscarJugador(int dorsal) {
+        if (dorsal < Jugador.DORSAL_MINIMO || dorsal > Jugador.DORSAL_MAXIMO) {
+            return null;
+        }
+        return plantilla[dorsal];
+    }
+
+    /**
+     * Busca los jugadores de la plantilla con un nombre.
+     *
+     * @param nombre El nombre a buscar.
+     * @return Una lista no modificable con los jugadores que tienen ese nombre; vacía si no hay ninguno.
+     */
+    public List<Jugador> buscarJugadores(String nombre) {
+        List<Jugador> encontrados = jugadoresPorNombre.get(nombre);
+        return encontrados == null ? List.of() : Collections.unmodifiableList(encontrados);
+    }
+
+    /**
+     * Comprueba si algún jugador de la plantilla lleva un dorsal.
+     *
+     * @param dorsal El dorsal a comprobar.
+     * @return {@code true} si el dorsal está ocupado, {@code false} en caso contrario.
+     */
+    public boolean isDorsalOcupado(int dorsal) {
+        return buscarJugador(dorsal) != null;
+    }
+
+    /**
+     * Obtiene el número de jugadores de la plantilla.
+     *
+     * @return El número de jugadores.
+     */
+    public int getNumeroJugadores() {
+        return numJugadores;
+    }
+
+    /**
+     * Mueve un jugador de la plantilla a un nuevo dorsal. Lo invoca {@link Jugador#setDorsal(int)}
+     * antes de cambiar el dorsal del jugador.
+     *
+     * @param jugador     El jugador que cambia de dorsal.
+     * @param nuevoDorsal El nuevo dorsal, ya validado.
+     * @throws IllegalArgumentException si el nuevo dorsal ya está ocupado en el equipo.
+     */
+    void cambiarDorsal(Jugador jugador, int nuevoDorsal) {
+        if (isDorsalOcupado(nuevoDorsal))
+            throw new IllegalArgumentException("El dorsal " + nuevoDorsal + " ya existe en el equipo.");
+        plantilla[jugador.getDorsal()] = null;
+        plantilla[nuevoDorsal] = jugador;
+    }
+
+    /**
+     * Actualiza el índice por nombre cuando un jugador de la plantilla cambia de nombre.
+     * Lo invoca {@link Jugador#setNombre(String)}.
+     *
+     * @param jugador        El jugador renombrado, con el nuevo nombre ya asignado.
+     * @param nombreAnterior El nombre que tenía el jugador.
+     */
+    void cambiarNombre(Jugador jugador, String nombreAnterior) {
+        desindexarNombre(jugador, nombreAnterior);
+        indexarNombre(jugador);
+    }
+
+    private void indexarNombre(Jugador jugador) {
+        jugadoresPorNombre.computeIfAbsent(jugador.getNombre(), n -> new ArrayList<>(1)).add(jugador);
+    }
+
+    private void desindexarNombre(Jugador jugador, String nombre) {
+        List<Jugador> mismos = jugadoresPorNombre.get(nombre);
+        if (mismos != null) {
+            mismos.remove(jugador);
+            if (mismos.isEmpty()) {
+                jugadoresPorNombre.remove(nombre);
+            }
+        }
+    }
+
+    /**
+     * Devuelve los jugadores de la plantilla en orden de dorsal, en una lista nueva.
+     *
+     * @return Una lista modificable con los jugadores de la plantilla.
+     */
+    private List<Jugador> copiarPlantilla() {
+        List<Jugador> copia = new ArrayList<>(numJugadores);
+        for (Jugador j : plantilla) {
+            if (j != null) copia.add(j);
+        }
+        return copia;
     }
 
     /**
@@ -118,13 +303,25 @@ public class Equipo implements Serializable {
      * y tienen una posibilidad de cambiar de posición.
      */
     public void realizarEntrenamiento() {
+        realizarEntrenamiento(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Realiza una sesión de entrenamiento como {@link #realizarEntrenamiento()}, usando el generador de números
+     * aleatorios indicado para todos los jugadores.
+     *
+     * @param random El generador de números aleatorios. No puede ser nulo.
+     */
+    public void realizarEntrenamiento(RandomGenerator random) {
         if (entrenador != null) {
             entrenador.entrenamiento();
         }
-        jugadores.forEach(j -> {
-            j.entrenamiento();
-            j.canviDePosicio(); // Simula un cambio de posición.
-        });
+        for (Jugador j : plantilla) {
+            if (j != null) {
+                j.entrenamiento(random);
+                j.canviDePosicio(random); // Simula un cambio de posición.
+            }
+        }
     }
 
     /**
@@ -184,27 +381,34 @@ public class Equipo implements Serializable {
     /**
      * Obtiene una lista no modificable de los jugadores del equipo, ordenados por posición y luego por calidad descendente.
      * <p>
-     * La lista devuelta es una copia, por lo que las modificaciones a esta lista no afectarán la lista interna del equipo.
+     * La lista se ordena una sola vez y se reutiliza en las llamadas siguientes hasta que cambia la plantilla.
+     * Es una instantánea: los cambios posteriores del equipo no la modifican, sino que generan una lista nueva.
      *
      * @return Una lista no modificable de jugadores ordenados.
      */
     public final List<Jugador> getJugadores() {
-        List<Jugador> copia = new ArrayList<>(jugadores);
-        copia.sort(Jugador.comparadorPorPosicion());
-        return Collections.unmodifiableList(copia);
+        if (vistaPorPosicion == null) {
+            List<Jugador> copia = copiarPlantilla();
+            copia.sort(Jugador.comparadorPorPosicion());
+            vistaPorPosicion = Collections.unmodifiableList(copia);
+        }
+        return vistaPorPosicion;
     }
 
     /**
      * Obtiene una lista no modificable de los jugadores del equipo, ordenados por calidad descendente.
      * <p>
-     * La lista devuelta es una copia.
+     * Igual que {@link #getJugadores()}, la lista se reutiliza hasta que cambia la plantilla.
      *
      * @return Una lista no modificable de jugadores ordenados por calidad.
      */
     public final List<Jugador> getJugadoresPorCalidad() {
-        List<Jugador> copia = new ArrayList<>(jugadores);
-        Collections.sort(copia); // Ordena por calidad descendente.
-        return Collections.unmodifiableList(copia);
+        if (vistaPorCalidad == null) {
+            List<Jugador> copia = copiarPlantilla();
+            Collections.sort(copia); // Ordena por calidad descendente.
+            vistaPorCalidad = Collections.unmodifiableList(copia);
+        }
+        return vistaPorCalidad;
     }
 
     /**
@@ -246,6 +450,32 @@ public class Equipo implements Serializable {
         return String.format("Equipo: %s (Fund: %d, Ciudad: %s)%nEntrenador: %s%nJugadores: %d",
                 nombre, anioFundacion, ciudad,
                 entrenador != null ? entrenador.getNombre() + " " + entrenador.getApellido() : "Ninguno",
-                jugadores.size());
+                numJugadores);
+    }
+
+    /**
+     * Restaura el índice de la plantilla al deserializar un equipo.
+     * <p>
+     * Los archivos de versiones anteriores guardaban la plantilla en una lista; en ese caso el equipo
+     * se carga con la plantilla vacía.
+     *
+     * @param in El flujo del que se lee el equipo.
+     * @throws IOException            si ocurre un error de lectura.
+     * @throws ClassNotFoundException si no se encuentra la clase de algún objeto serializado.
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (plantilla == null) {
+            plantilla = new Jugador[Jugador.DORSAL_MAXIMO + 1];
+        }
+        jugadoresPorNombre = new HashMap<>();
+        for (Jugador j : plantilla) {
+            if (j != null) {
+                numJugadores++;
+                indexarNombre(j);
+                j.setEquipo(this);
+            }
+        }
     }
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package main.java.domain;
 
-import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Random;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
 
 /**
  * Representa un jugador de un equipo, extendiendo la clase {@link Persona}.
@@ -11,19 +12,38 @@ import java.util.Objects;
  * <p>
  * Implementa {@link Comparable} para permitir la ordenación de jugadores, por defecto por calidad
  * (descendente), luego por motivación (descendente) y finalmente por apellido.
- * Mantiene un contador estático del número total de jugadores creados.
+ * Mantiene un contador del número total de jugadores creados en {@link Metricas}.
  */
 public class Jugador extends Persona implements Comparable<Jugador> {
     /**
-     * Array constante que define las posibles posiciones de un jugador.
+     * Array constante con los códigos de las posibles posiciones de un jugador, en el orden de {@link Posicion}.
      * Las posiciones son: "POR" (Portero), "DEF" (Defensa), "MIG" (Centrocampista), "DAV" (Delantero).
      */
     public static final String[] POSICIONES = {"POR", "DEF", "MIG", "DAV"};
 
     /**
-     * Contador estático que lleva la cuenta del número total de instancias de Jugador creadas.
+     * Comparador de {@link #comparadorPorPosicion()}: compara ordinales en lugar de códigos.
      */
-    private static int totalJugadores = 0;
+    private static final Comparator<Jugador> POR_POSICION = (a, b) -> {
+        int comparacion = Integer.compare(a.posicion.ordinal(), b.posicion.ordinal());
+        return comparacion != 0 ? comparacion : Double.compare(b.calidad, a.calidad);
+    };
+
+    /**
+     * Dorsal más bajo que puede llevar un jugador.
+     */
+    public static final int DORSAL_MINIMO = 1;
+
+    /**
+     * Dorsal más alto que puede llevar un jugador.
+     */
+    public static final int DORSAL_MAXIMO = 99;
+
+    /**
+     * Contador del número total de instancias de Jugador creadas ({@link Metricas#JUGADORES_CREADOS}).
+     * Se pueden crear jugadores desde varios hilos a la vez sin perder incrementos.
+     */
+    private static final LongAdder TOTAL_JUGADORES = Metricas.contador(Metricas.JUGADORES_CREADOS);
 
     /**
      * Número de dorsal del jugador (entre 1 y 99).
@@ -31,15 +51,21 @@ public class Jugador extends Persona implements Comparable<Jugador> {
     protected int dorsal;
 
     /**
-     * Posición del jugador en el campo (por ejemplo, "POR", "DEF").
+     * Posición del jugador en el campo.
      */
-    private String posicion;
+    private Posicion posicion;
 
     /**
      * Nivel de calidad del jugador (entre 30 y 100).
      */
     private double calidad;
 
+    /**
+     * Equipo al que pertenece el jugador, o {@code null} si no pertenece a ninguno (por ejemplo, en el mercado).
+     * Lo mantiene {@link Equipo} al agregar y eliminar jugadores.
+     */
+    private Equipo equipo;
+
     /**
      * Constructor para crear un nuevo objeto Jugador.
      * Inicializa los atributos del jugador.
@@ -56,11 +82,29 @@ public class Jugador extends Persona implements Comparable<Jugador> {
      */
     public Jugador(String nombre, String apellido, String fechaNacimiento, double sueldo, double motivacion, int dorsal,
                    String posicion, double calidad) {
+        this(nombre, apellido, fechaNacimiento, sueldo, motivacion, dorsal, Posicion.desdeCodigo(posicion), calidad);
+    }
+
+    /**
+     * Constructor para crear un nuevo objeto Jugador a partir de una {@link Posicion}.
+     *
+     * @param nombre          El nombre del jugador. No puede ser nulo.
+     * @param apellido        El apellido del jugador. No puede ser nulo.
+     * @param fechaNacimiento La fecha de nacimiento del jugador (formato de cadena).
+     * @param sueldo          El sueldo del jugador.
+     * @param motivacion      El nivel de motivación del jugador (normalmente entre 0 y 10).
+     * @param dorsal          El número de dorsal del jugador (entre 1 y 99).
+     * @param posicion        La posición del jugador en el campo. No puede ser nula.
+     * @param calidad         El nivel de calidad del jugador (entre 30 y 100).
+     * @throws IllegalArgumentException si el dorsal, posición o calidad no son válidos.
+     */
+    public Jugador(String nombre, String apellido, String fechaNacimiento, double sueldo, double motivacion, int dorsal,
+                   Posicion posicion, double calidad) {
         super(nombre, apellido, fechaNacimiento, sueldo, motivacion);
         setDorsal(dorsal);
         setPosicion(posicion);
         setCalidad(calidad);
-        totalJugadores++;
+        TOTAL_JUGADORES.increment();
     }
 
     /**
@@ -77,8 +121,17 @@ public class Jugador extends Persona implements Comparable<Jugador> {
      */
     @Override
     public void entrenamiento() {
+        entrenamiento(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Simula una sesión de entrenamiento como {@link #entrenamiento()}, usando el generador de números
+     * aleatorios indicado. Permite entrenar a muchos jugadores en paralelo con resultados reproducibles.
+     *
+     * @param random El generador de números aleatorios. No puede ser nulo.
+     */
+    public void entrenamiento(RandomGenerator random) {
         aumentarMotivacionBase();
-        Random random = new Random();
         double incrementoCalidad;
         int probabilidad = random.nextInt(10);
         if (probabilidad == 0) {
@@ -94,17 +147,27 @@ public class Jugador extends Persona implements Comparable<Jugador> {
     /**
      * Simula la posibilidad de que un jugador cambie de posición aleatoriamente.
      * <p>
-     * Hay un 5% de probabilidad de que el jugador cambie a una nueva posición aleatoria de {@link #POSICIONES}.
+     * Hay un 5% de probabilidad de que el jugador cambie a una nueva posición aleatoria, distinta de la actual.
      * Si cambia de posición, su calidad aumenta en 1 punto (limitado a 100).
      */
     public void canviDePosicio() {
-        Random random = new Random();
+        canviDePosicio(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Simula un posible cambio de posición como {@link #canviDePosicio()}, usando el generador de números
+     * aleatorios indicado.
+     *
+     * @param random El generador de números aleatorios. No puede ser nulo.
+     */
+    public void canviDePosicio(RandomGenerator random) {
         if (random.nextDouble() < 0.05) {
-            String nuevaPosicion;
-            do {
-                nuevaPosicion = POSICIONES[random.nextInt(POSICIONES.length)];
-            } while (nuevaPosicion.equals(posicion));
-            setPosicion(nuevaPosicion);
+            // Se elige entre las otras posiciones saltando la actual, sin repetir el sorteo
+            int nueva = random.nextInt(Posicion.NUM_POSICIONES - 1);
+            if (nueva >= posicion.ordinal()) {
+                nueva++;
+            }
+            setPosicion(Posicion.desdeOrdinal(nueva));
             setCalidad(Math.min(100, calidad + 1));
         }
     }
@@ -115,17 +178,19 @@ public class Jugador extends Persona implements Comparable<Jugador> {
      * @return El contador total de instancias de Jugador creadas.
      */
     public static int getTotalJugadores() {
-        return totalJugadores;
+        return TOTAL_JUGADORES.intValue();
     }
 
     /**
      * Establece el contador total de jugadores.
-     * Este método debería usarse con precaución, típicamente al cargar datos persistidos.
+     * Este método debería usarse con precaución, típicamente al cargar datos persistidos: los jugadores
+     * que se creen a la vez desde otros hilos pueden no contarse.
      *
      * @param totalJugadores El nuevo valor para el contador total de jugadores.
      */
     public static void setTotalJugadores(int totalJugadores) {
-        Jugador.totalJugadores = totalJugadores;
+        TOTAL_JUGADORES.reset();
+        TOTAL_JUGADORES.add(totalJugadores);
     }
 
     /**
@@ -139,14 +204,19 @@ public class Jugador extends Persona implements Comparable<Jugador> {
 
     /**
      * Establece el dorsal del jugador.
+     * <p>
+     * Si el jugador pertenece a un equipo, el nuevo dorsal debe estar libre en él.
      *
      * @param dorsal El nuevo número de dorsal. Debe estar entre 1 y 99.
-     * @throws IllegalArgumentException si el dorsal está fuera del rango válido.
+     * @throws IllegalArgumentException si el dorsal está fuera del rango válido o ya está ocupado en su equipo.
      */
     public void setDorsal(int dorsal) {
-        if (dorsal < 1 || dorsal > 99) {
+        if (dorsal < DORSAL_MINIMO || dorsal > DORSAL_MAXIMO) {
             throw new IllegalArgumentException("El dorsal debe estar entre 1 y 99.");
         }
+        if (equipo != null && dorsal != this.dorsal) {
+            equipo.cambiarDorsal(this, dorsal);
+        }
         this.dorsal = dorsal;
     }
 
@@ -156,11 +226,20 @@ public class Jugador extends Persona implements Comparable<Jugador> {
      * @return La cadena que representa la posición del jugador (por ejemplo, "POR", "DEF").
      */
     public String getPosicion() {
+        return posicion.getCodigo();
+    }
+
+    /**
+     * Obtiene la posición del jugador en el campo como {@link Posicion}.
+     *
+     * @return La posición del jugador.
+     */
+    public final Posicion getPosicionCampo() {
         return posicion;
     }
 
     /**
-     * Establece la posición del jugador.
+     * Establece la posición del jugador a partir de su código.
      * <p>
      * La posición debe ser una de las definidas en {@link #POSICIONES}.
      *
@@ -168,10 +247,23 @@ public class Jugador extends Persona implements Comparable<Jugador> {
      * @throws IllegalArgumentException si la posición no es válida o es nula.
      */
     public final void setPosicion(String posicion) {
-        if (!Arrays.asList(POSICIONES).contains(posicion)) {
+        setPosicion(Posicion.desdeCodigo(posicion));
+    }
+
+    /**
+     * Establece la posición del jugador.
+     *
+     * @param posicion La nueva posición del jugador.
+     * @throws IllegalArgumentException si la posición es nula.
+     */
+    public final void setPosicion(Posicion posicion) {
+        if (posicion == null) {
             throw new IllegalArgumentException("Posición no válida. Debe ser POR, DEF, MIG o DAV.");
         }
         this.posicion = posicion;
+        if (equipo != null) {
+            equipo.invalidarVistas();
+        }
     }
 
     /**
@@ -194,6 +286,42 @@ public class Jugador extends Persona implements Comparable<Jugador> {
             throw new IllegalArgumentException("La calidad debe estar entre 30 y 100.");
         }
         this.calidad = calidad;
+        if (equipo != null) {
+            equipo.invalidarCalidadMedia();
+        }
+    }
+
+    /**
+     * Obtiene el equipo al que pertenece el jugador.
+     *
+     * @return El equipo del jugador, o {@code null} si no pertenece a ninguno.
+     */
+    public final Equipo getEquipo() {
+        return equipo;
+    }
+
+    /**
+     * Establece el equipo al que pertenece el jugador. Solo lo usa {@link Equipo}.
+     *
+     * @param equipo El nuevo equipo del jugador, o {@code null} si deja de pertenecer a uno.
+     */
+    final void setEquipo(Equipo equipo) {
+        this.equipo = equipo;
+    }
+
+    /**
+     * Establece el nombre del jugador, manteniendo actualizado el índice de su equipo.
+     *
+     * @param nombre El nuevo nombre del jugador. No puede ser nulo ni vacío.
+     * @throws IllegalArgumentException si el nombre es nulo o está vacío.
+     */
+    @Override
+    public void setNombre(String nombre) {
+        String anterior = this.nombre;
+        super.setNombre(nombre);
+        if (equipo != null) {
+            equipo.cambiarNombre(this, anterior);
+        }
     }
 
     /**
@@ -207,6 +335,18 @@ public class Jugador extends Persona implements Comparable<Jugador> {
             throw new IllegalArgumentException("El apellido no puede ser nulo o vacío.");
         }
         this.apellido = apellido;
+        atributosModificados();
+    }
+
+    /**
+     * Descarta las vistas ordenadas de la plantilla del equipo, ya que la motivación
+     * y el apellido intervienen en la ordenación de los jugadores.
+     */
+    @Override
+    protected void atributosModificados() {
+        if (equipo != null) {
+            equipo.invalidarVistas();
+        }
     }
 
     /**
@@ -242,15 +382,15 @@ public class Jugador extends Persona implements Comparable<Jugador> {
      * <p>
      * La ordenación:
      * <ul>
-     *     <li>Por posición (orden alfabético, ascendente)</li>
+     *     <li>Por posición (orden de alineación de {@link Posicion}: porteros, defensas, centrocampistas
+     *     y delanteros)</li>
      *     <li>Por calidad (descendiente)</li>
      * </ul>
      *
      * @return Un {@link Comparator} para jugadores.
      */
     public static Comparator<Jugador> comparadorPorPosicion() {
-        return Comparator.comparing(Jugador::getPosicion, Comparator.nullsFirst(Comparator.naturalOrder()))
-                .thenComparing(Comparator.comparingDouble(Jugador::getCalidad).reversed());
+        return POR_POSICION;
     }
 
     /**
@@ -3,6 +3,8 @@ package main.java.domain;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Representa una liga deportiva compuesta por varios equipos.
@@ -12,12 +14,22 @@ import java.util.*;
  * y mostrar una clasificación detallada basada en los resultados de los partidos. También puede identificar al equipo
  * con más goles a favor y más goles en contra.
  * <p>
+ * Además, una liga puede disputarse como una temporada a doble vuelta siguiendo un {@link Calendario}: se inicia
+ * con {@link #iniciarTemporada()} y se juega jornada a jornada con {@link #jugarJornada()}, de modo que la
+ * clasificación se puede consultar después de cada jornada.
+ * <p>
  * Implementa {@link Serializable} para permitir la persistencia de sus instancias.
  */
 public class Liga implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Número máximo de partidos que una tarea de la simulación paralela juega de forma secuencial
+     * antes de dividirse en dos subtareas.
+     */
+    private static final int UMBRAL_PARTIDOS_SECUENCIAL = 64;
+
     /**
      * Nombre de la liga.
      */
@@ -33,6 +45,28 @@ public class Liga implements Serializable {
      */
     private final List<Partido> partidos;
 
+    /**
+     * Estadísticas acumuladas de cada equipo participante, en el orden en que se agregaron a la liga.
+     * Se actualizan en tiempo constante cada vez que termina un partido.
+     */
+    private final Map<Equipo, EquipoStats> estadisticas;
+
+    /**
+     * Oyente al que se notifica cada partido disputado. Si es {@code null} (por ejemplo, tras deserializar
+     * la liga), los resultados se muestran en la consola.
+     */
+    private transient OyentePartido oyente;
+
+    /**
+     * Calendario de la temporada en curso, o {@code null} si no se ha iniciado ninguna.
+     */
+    private Calendario calendario;
+
+    /**
+     * Número de jornadas de la temporada en curso que ya se han jugado.
+     */
+    private int jornadasJugadas;
+
     /**
      * Constructor para crear una nueva Liga.
      *
@@ -43,6 +77,8 @@ public class Liga implements Serializable {
         this.nombre = Objects.requireNonNull(nombre, "El nombre de la liga no puede ser nulo.");
         this.equipos = new ArrayList<>();
         this.partidos = new ArrayList<>();
+        this.estadisticas = new LinkedHashMap<>();
+        this.oyente = new OyenteConsola();
     }
 
     /**
@@ -52,12 +88,17 @@ public class Liga implements Serializable {
      *
      * @param equipo El equipo a agregar. No puede ser nulo.
      * @return {@code true} si el equipo fue agregado exitosamente, {@code false} si el equipo ya existía.
-     * @throws NullPointerException si el equipo es nulo.
+     * @throws NullPointerException  si el equipo es nulo.
+     * @throws IllegalStateException si hay una temporada en curso que no ha terminado.
      */
     public boolean agregarEquipo(Equipo equipo) {
         Objects.requireNonNull(equipo, "El equipo no puede ser nulo.");
+        if (calendario != null && !isTemporadaTerminada()) {
+            throw new IllegalStateException("No se pueden agregar equipos durante una temporada.");
+        }
         if (!equipos.contains(equipo)) {
             equipos.add(equipo);
+            estadisticas.put(equipo, new EquipoStats(equipo));
             return true;
         }
         return false;
@@ -68,22 +109,224 @@ public class Liga implements Serializable {
      * <p>
      * Los partidos se juegan en un formato de todos contra todos a una sola vuelta (cada equipo juega una vez contra cada otro).
      * Si hay menos de dos equipos, no se disputa la liga y se muestra un mensaje.
-     * Los resultados de los partidos se almacenan internamente.
+     * Los resultados de los partidos se almacenan internamente y cada partido se notifica al oyente de la liga
+     * (por defecto, se muestra en la consola; véase {@link #setOyente(OyentePartido)}).
      * Antes de disputar, se limpian los partidos anteriores.
      */
     public void disputarLiga() {
-        partidos.clear();
+        reiniciarResultados();
         if (equipos.size() < 2) {
             System.out.println("No hay suficientes equipos para disputar la liga.");
             return;
         }
-        for (int i = 0; i < equipos.size(); i++) {
-            for (int j = i + 1; j < equipos.size(); j++) {
-                Partido partido = new Partido(equipos.get(i), equipos.get(j));
-                partido.jugar();
-                partidos.add(partido);
+        OyentePartido oyente = getOyente();
+        for (Partido partido : crearEnfrentamientos()) {
+            partido.jugar(oyente);
+            registrarResultado(partido);
+        }
+    }
+
+    /**
+     * Simula la disputa de todos los partidos de la liga en paralelo usando el pool común de fork/join.
+     *
+     * @param semilla La semilla a partir de la cual se derivan los generadores aleatorios de cada tarea.
+     * @see #disputarLigaParalela(long, ForkJoinPool)
+     */
+    public void disputarLigaParalela(long semilla) {
+        disputarLigaParalela(semilla, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simula la disputa de todos los partidos de la liga repartiéndolos entre los hilos de un {@link ForkJoinPool}.
+     * <p>
+     * Los enfrentamientos son los mismos que en {@link #disputarLiga()}. Cada tarea divide su rango de partidos
+     * en dos mitades y cede a la segunda un generador obtenido con {@link SplittableRandom#split()}, de modo que
+     * el árbol de generadores solo depende de la semilla y del número de partidos: la misma semilla produce
+     * siempre los mismos resultados, sea cual sea el número de hilos del pool.
+     * <p>
+     * El factor de rendimiento de cada equipo se calcula una sola vez antes de repartir el trabajo.
+     * Cada partido escribe su resultado en su propia posición de un array, por lo que los hilos no compiten
+     * por la lista de partidos; esta se rellena una sola vez al terminar. Al rellenarla, los partidos se
+     * notifican al oyente de la liga desde el hilo que llama a este método y en el mismo orden que en
+     * {@link #disputarLiga()}.
+     *
+     * @param semilla La semilla a partir de la cual se derivan los generadores aleatorios de cada tarea.
+     * @param pool    El pool en el que se ejecutan las tareas. No puede ser nulo.
+     * @throws NullPointerException si el pool es nulo.
+     */
+    public void disputarLigaParalela(long semilla, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "El pool no puede ser nulo.");
+        reiniciarResultados();
+        if (equipos.size() < 2) {
+            System.out.println("No hay suficientes equipos para disputar la liga.");
+            return;
+        }
+        simularEnParalelo(crearEnfrentamientos(), semilla, pool);
+    }
+
+    /**
+     * Simula unos partidos entre los hilos de un pool, registra sus resultados y los notifica al oyente,
+     * como se describe en {@link #disputarLigaParalela(long, ForkJoinPool)}.
+     */
+    private void simularEnParalelo(Partido[] enfrentamientos, long semilla, ForkJoinPool pool) {
+        Map<Equipo, Double> factores = new HashMap<>();
+        for (Partido partido : enfrentamientos) {
+            factores.computeIfAbsent(partido.getLocal(), SimuladorPartido::calcularFactor);
+            factores.computeIfAbsent(partido.getVisitante(), SimuladorPartido::calcularFactor);
+        }
+        pool.invoke(new SimulacionPartidos(enfrentamientos, factores, 0, enfrentamientos.length,
+                new SplittableRandom(semilla)));
+        OyentePartido oyente = getOyente();
+        for (Partido partido : enfrentamientos) {
+            registrarResultado(partido);
+            oyente.partidoJugado(partido);
+        }
+    }
+
+    /**
+     * Inicia una temporada a doble vuelta con los equipos de la liga.
+     * <p>
+     * Se eliminan los partidos y las estadísticas anteriores y se genera el {@link Calendario} de la temporada,
+     * sin jugar ningún partido. Después, cada llamada a {@link #jugarJornada()} juega la jornada siguiente.
+     *
+     * @throws IllegalStateException si la liga tiene menos de dos equipos.
+     */
+    public void iniciarTemporada() {
+        if (equipos.size() < 2) {
+            throw new IllegalStateException("No hay suficientes equipos para iniciar una temporada.");
+        }
+        reiniciarResultados();
+        calendario = new Calendario(equipos);
+    }
+
+    /**
+     * Juega la siguiente jornada de la temporada en curso, notificando cada partido al oyente de la liga.
+     * La clasificación queda actualizada al terminar.
+     *
+     * @return Una lista no modificable con los partidos jugados en la jornada.
+     * @throws IllegalStateException si no hay una temporada en curso o ya se han jugado todas sus jornadas.
+     */
+    public List<Partido> jugarJornada() {
+        Partido[] jornada = siguienteJornada();
+        OyentePartido oyente = getOyente();
+        for (Partido partido : jornada) {
+            partido.jugar(oyente);
+            registrarResultado(partido);
+        }
+        jornadasJugadas++;
+        return List.of(jornada);
+    }
+
+    /**
+     * Juega la siguiente jornada de la temporada en curso simulando sus partidos en paralelo en el pool común
+     * de fork/join.
+     *
+     * @param semilla La semilla a partir de la cual se derivan los generadores aleatorios de la jornada.
+     * @return Una lista no modificable con los partidos jugados en la jornada.
+     * @throws IllegalStateException si no hay una temporada en curso o ya se han jugado todas sus jornadas.
+     * @see #jugarJornada(long, ForkJoinPool)
+     */
+    public List<Partido> jugarJornada(long semilla) {
+        return jugarJornada(semilla, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Juega la siguiente jornada de la temporada en curso repartiendo sus partidos entre los hilos de un pool,
+     * igual que {@link #disputarLigaParalela(long, ForkJoinPool)}: la misma semilla produce los mismos resultados
+     * y los partidos se notifican al oyente en el orden del calendario, desde el hilo que llama a este método.
+     *
+     * @param semilla La semilla a partir de la cual se derivan los generadores aleatorios de la jornada.
+     * @param pool    El pool en el que se ejecutan las tareas. No puede ser nulo.
+     * @return Una lista no modificable con los partidos jugados en la jornada.
+     * @throws IllegalStateException si no hay una temporada en curso o ya se han jugado todas sus jornadas.
+     * @throws NullPointerException  si el pool es nulo.
+     */
+    public List<Partido> jugarJornada(long semilla, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "El pool no puede ser nulo.");
+        Partido[] jornada = siguienteJornada();
+        simularEnParalelo(jornada, semilla, pool);
+        jornadasJugadas++;
+        return List.of(jornada);
+    }
+
+    /**
+     * Crea los partidos de la siguiente jornada. La jornada se da por jugada cuando se han registrado sus
+     * resultados.
+     */
+    private Partido[] siguienteJornada() {
+        if (calendario == null) {
+            throw new IllegalStateException("No hay ninguna temporada en curso.");
+        }
+        if (isTemporadaTerminada()) {
+            throw new IllegalStateException("Ya se han jugado todas las jornadas de la temporada.");
+        }
+        return calendario.crearPartidos(jornadasJugadas);
+    }
+
+    /**
+     * Obtiene el calendario de la temporada en curso.
+     *
+     * @return El calendario, o {@code null} si no se ha iniciado ninguna temporada.
+     */
+    public final Calendario getCalendario() {
+        return calendario;
+    }
+
+    /**
+     * Obtiene el número de jornadas de la temporada en curso que ya se han jugado.
+     *
+     * @return El número de jornadas jugadas, o 0 si no hay temporada en curso.
+     */
+    public final int getJornadasJugadas() {
+        return jornadasJugadas;
+    }
+
+    /**
+     * Indica si se han jugado todas las jornadas de la temporada en curso.
+     *
+     * @return {@code true} si hay una temporada y ya ha terminado, {@code false} en caso contrario.
+     */
+    public final boolean isTemporadaTerminada() {
+        return calendario != null && jornadasJugadas == calendario.getNumJornadas();
+    }
+
+    /**
+     * Añade un partido ya jugado a la liga y actualiza la clasificación de sus dos equipos.
+     *
+     * @param partido El partido jugado.
+     */
+    private void registrarResultado(Partido partido) {
+        partidos.add(partido);
+        estadisticas.get(partido.getLocal()).procesarPartido(partido.getGolesLocal(), partido.getGolesVisitante());
+        estadisticas.get(partido.getVisitante()).procesarPartido(partido.getGolesVisitante(), partido.getGolesLocal());
+    }
+
+    /**
+     * Elimina los partidos disputados, pone a cero las estadísticas de todos los equipos y descarta la
+     * temporada en curso.
+     */
+    private void reiniciarResultados() {
+        calendario = null;
+        jornadasJugadas = 0;
+        partidos.clear();
+        estadisticas.replaceAll((equipo, stats) -> new EquipoStats(equipo));
+    }
+
+    /**
+     * Crea los partidos de la liga en formato todos contra todos a una sola vuelta, sin jugarlos.
+     *
+     * @return Un array con un partido por cada pareja de equipos, en el orden en que se disputan.
+     */
+    private Partido[] crearEnfrentamientos() {
+        int n = equipos.size();
+        Partido[] enfrentamientos = new Partido[n * (n - 1) / 2];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                enfrentamientos[k++] = new Partido(equipos.get(i), equipos.get(j));
             }
         }
+        return enfrentamientos;
     }
 
     /**
@@ -91,7 +334,9 @@ public class Liga implements Serializable {
      * <p>
      * La clasificación incluye posición, nombre del equipo, partidos jugados (PJ), ganados (PG),
      * empatados (PE), perdidos (PP), goles a favor (GF), goles en contra (GC),
-     * diferencia de goles (DG) y puntos (Pts).
+     * diferencia de goles (DG) y puntos (Pts), ordenados por puntos y después por diferencia de goles
+     * (ambos descendentes). Las estadísticas se leen de la clasificación que se mantiene al registrar cada
+     * partido, por lo que solo se ordenan los equipos y no se recorren los partidos.
      * <p>
      * Si no se han disputado partidos, se muestra un mensaje indicándolo.
      */
@@ -101,15 +346,7 @@ public class Liga implements Serializable {
             return;
         }
 
-        Map<Equipo, EquipoStats> estadisticas = new HashMap<>();
-        for (Partido partido : partidos) {
-            estadisticas.computeIfAbsent(partido.getLocal(), e -> new EquipoStats(e, partidos));
-            estadisticas.computeIfAbsent(partido.getVisitante(), e -> new EquipoStats(e, partidos));
-        }
-
-        List<EquipoStats> clasificacion = new ArrayList<>(estadisticas.values());
-        clasificacion.sort(Comparator.comparingInt(EquipoStats::getPuntos).reversed()
-                .thenComparingInt(EquipoStats::getDiferenciaGoles).reversed());
+        List<EquipoStats> clasificacion = getClasificacion();
 
         System.out.println("Clasificación de la Liga:");
         System.out.printf("%-20s %-2s %-2s %-2s %-2s %-2s %-2s %-2s %-2s%n",
@@ -129,14 +366,36 @@ public class Liga implements Serializable {
         }
     }
 
+    /**
+     * Obtiene la clasificación de la liga, ordenada por puntos y después por diferencia de goles (ambos
+     * descendentes), como en {@link #mostrarClasificacion()}.
+     * <p>
+     * Las estadísticas devueltas son copias, por lo que la lista no cambia aunque se jueguen más jornadas o
+     * la liga se vuelva a disputar.
+     *
+     * @return Una lista no modificable con las estadísticas de cada equipo; si no se han disputado partidos,
+     *         todos los equipos aparecen a cero en el orden en que se agregaron.
+     */
+    public List<EquipoStats> getClasificacion() {
+        List<EquipoStats> clasificacion = new ArrayList<>(estadisticas.size());
+        for (EquipoStats stats : estadisticas.values()) {
+            clasificacion.add(new EquipoStats(stats));
+        }
+        clasificacion.sort(Comparator.comparingInt(EquipoStats::getPuntos)
+                .thenComparingInt(EquipoStats::getDiferenciaGoles).reversed());
+        return Collections.unmodifiableList(clasificacion);
+    }
+
     /**
      * Obtiene el equipo que ha marcado más goles a favor en la liga.
      *
      * @return El {@link Equipo} con más goles a favor, o {@code null} si no se han disputado partidos.
      */
     public Equipo getEquipoMasGolesFavor() {
-        return equipos.stream()
-                .max(Comparator.comparingInt(this::getGolesFavorDeEquipo))
+        if (partidos.isEmpty()) return null;
+        return estadisticas.values().stream()
+                .max(Comparator.comparingInt(EquipoStats::getGolesFavor))
+                .map(EquipoStats::getEquipo)
                 .orElse(null);
     }
 
@@ -146,35 +405,33 @@ public class Liga implements Serializable {
      * @return El {@link Equipo} con más goles en contra, o {@code null} si no se han disputado partidos.
      */
     public Equipo getEquipoMasGolesContra() {
-        return equipos.stream()
-                .max(Comparator.comparingInt(this::getGolesContraDeEquipo))
+        if (partidos.isEmpty()) return null;
+        return estadisticas.values().stream()
+                .max(Comparator.comparingInt(EquipoStats::getGolesContra))
+                .map(EquipoStats::getEquipo)
                 .orElse(null);
     }
 
     /**
-     * Calcula el total de goles a favor para un equipo específico en la liga.
+     * Obtiene el oyente al que se notifica cada partido disputado.
      *
-     * @param equipo El equipo para el cual calcular los goles.
-     * @return El número total de goles marcados por el equipo.
-     */
-    private int getGolesFavorDeEquipo(Equipo equipo) {
-        return partidos.stream()
-                .filter(p -> p.getLocal().equals(equipo) || p.getVisitante().equals(equipo))
-                .mapToInt(p -> p.getLocal().equals(equipo) ? p.getGolesLocal() : p.getGolesVisitante())
-                .sum();
+     * @return El oyente de la liga.
+     */
+    public final OyentePartido getOyente() {
+        return oyente != null ? oyente : (oyente = new OyenteConsola());
     }
 
     /**
-     * Calcula el total de goles en contra para un equipo específico en la liga.
+     * Establece el oyente al que se notifica cada partido disputado.
+     * <p>
+     * Para simular sin escribir nada en la consola se puede usar {@link OyentePartido#NINGUNO};
+     * para escribir los resultados agrupados, un {@link OyenteEnLotes}.
      *
-     * @param equipo El equipo para el cual calcular los goles en contra.
-     * @return El número total de goles recibidos por el equipo.
-     */
-    private int getGolesContraDeEquipo(Equipo equipo) {
-        return partidos.stream()
-                .filter(p -> p.getLocal().equals(equipo) || p.getVisitante().equals(equipo))
-                .mapToInt(p -> p.getLocal().equals(equipo) ? p.getGolesVisitante() : p.getGolesLocal())
-                .sum();
+     * @param oyente El nuevo oyente. No puede ser nulo.
+     * @throws NullPointerException si el oyente es nulo.
+     */
+    public final void setOyente(OyentePartido oyente) {
+        this.oyente = Objects.requireNonNull(oyente, "El oyente no puede ser nulo.");
     }
 
     /**
@@ -204,12 +461,56 @@ public class Liga implements Serializable {
         return Collections.unmodifiableList(partidos);
     }
 
+    /**
+     * Tarea de fork/join que simula un rango de partidos.
+     * <p>
+     * Si el rango supera {@link #UMBRAL_PARTIDOS_SECUENCIAL}, se divide en dos mitades: la primera conserva
+     * el generador de la tarea y la segunda recibe uno nuevo obtenido con {@link SplittableRandom#split()}.
+     */
+    private static class SimulacionPartidos extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Partido[] partidos;
+        private final Map<Equipo, Double> factores;
+        private final int desde;
+        private final int hasta;
+        private final SplittableRandom rand;
+
+        SimulacionPartidos(Partido[] partidos, Map<Equipo, Double> factores, int desde, int hasta,
+                           SplittableRandom rand) {
+            this.partidos = partidos;
+            this.factores = factores;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.rand = rand;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= UMBRAL_PARTIDOS_SECUENCIAL) {
+                for (int i = desde; i < hasta; i++) {
+                    Partido partido = partidos[i];
+                    partido.simular(factores.get(partido.getLocal()), factores.get(partido.getVisitante()), rand);
+                }
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            SimulacionPartidos segunda = new SimulacionPartidos(partidos, factores, medio, hasta, rand.split());
+            invokeAll(new SimulacionPartidos(partidos, factores, desde, medio, rand), segunda);
+        }
+    }
+
     /**
      * Clase interna estática para almacenar y calcular las estadísticas de un equipo en la liga.
      * <p>
-     * Esta clase se utiliza para generar la tabla de clasificación.
+     * La liga mantiene una instancia por equipo y la actualiza con cada partido disputado;
+     * a partir de ellas se genera la tabla de clasificación.
      */
-    private static class EquipoStats {
+    public static class EquipoStats implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
         private final Equipo equipo;
         private int partidosJugados = 0;
         private int partidosGanados = 0;
@@ -219,20 +520,27 @@ public class Liga implements Serializable {
         private int golesContra = 0;
 
         /**
-         * Constructor de EquipoStats. Calcula las estadísticas del equipo basándose en la lista de partidos.
+         * Constructor de EquipoStats. Crea las estadísticas de un equipo que aún no ha disputado partidos.
          *
-         * @param equipo   El equipo para el cual se calculan las estadísticas.
-         * @param partidos La lista de todos los partidos disputados en la liga.
+         * @param equipo El equipo al que pertenecen las estadísticas.
          */
-        public EquipoStats(Equipo equipo, List<Partido> partidos) {
+        private EquipoStats(Equipo equipo) {
             this.equipo = equipo;
-            for (Partido partido : partidos) {
-                if (partido.getLocal().equals(equipo)) {
-                    procesarPartido(partido.getGolesLocal(), partido.getGolesVisitante());
-                } else if (partido.getVisitante().equals(equipo)) {
-                    procesarPartido(partido.getGolesVisitante(), partido.getGolesLocal());
-                }
-            }
+        }
+
+        /**
+         * Constructor de copia.
+         *
+         * @param otras Las estadísticas a copiar.
+         */
+        private EquipoStats(EquipoStats otras) {
+            this.equipo = otras.equipo;
+            this.partidosJugados = otras.partidosJugados;
+            this.partidosGanados = otras.partidosGanados;
+            this.partidosEmpatados = otras.partidosEmpatados;
+            this.partidosPerdidos = otras.partidosPerdidos;
+            this.golesFavor = otras.golesFavor;
+            this.golesContra = otras.golesContra;
         }
 
         /**
@@ -0,0 +1,636 @@
+package main.java.domain;
+
+import java.util.*;
+
+/**
+ * Mercado de fichajes: una lista de personas con índices ordenados por tipo, posición, calidad y sueldo.
+ * <p>
+ * Además de la lista, el mercado mantiene:
+ * <ul>
+ *     <li>los jugadores ordenados como {@link Jugador#compareTo(Jugador)} (calidad, motivación y apellido),
+ *     todos juntos y por {@link Posicion};</li>
+ *     <li>los jugadores de cada posición ordenados por sueldo;</li>
+ *     <li>los entrenadores ordenados por sueldo.</li>
+ * </ul>
+ * Así, los listados ordenados se recorren sin ordenar el mercado y las consultas por rango
+ * ({@link #buscarJugadores(Posicion, double, double, double)}, {@link #buscarEntrenadores(double, double)})
+ * solo visitan las personas del rango. Los listados largos se recorren por páginas
+ * ({@link #paginarJugadores(Posicion, int)}), que también se leen directamente del índice. Cada persona se localiza por identidad, de modo que
+ * {@link #add(Persona)}, {@link #remove(Object)} y {@link #contains(Object)} cuestan O(log n): para no desplazar
+ * el resto de la lista, al eliminar una persona su hueco lo ocupa la última, y al insertar en una posición
+ * intermedia la persona que la ocupaba pasa al final. Por eso el mercado no conserva el orden relativo de
+ * las personas; una misma persona no puede estar dos veces.
+ * <p>
+ * Los índices guardan los valores que tenía cada persona al indexarla. Si cambian la calidad, la motivación,
+ * el apellido, el sueldo o la posición de una persona del mercado, hay que llamar a {@link #actualizar(Persona)};
+ * después de cambiar muchas a la vez (por ejemplo, en un entrenamiento) es preferible
+ * {@link #invalidarIndices()}, que hace que los índices se reconstruyan en la siguiente consulta.
+ * <p>
+ * No es seguro para hilos.
+ */
+public class Mercado extends AbstractList<Persona> implements RandomAccess {
+    /**
+     * Orden de {@link Jugador#compareTo(Jugador)}, desempatado por orden de llegada al mercado.
+     */
+    private static final Comparator<Entrada> POR_CALIDAD = (a, b) -> {
+        int comparacion = Double.compare(b.calidad, a.calidad);
+        if (comparacion == 0) {
+            comparacion = Double.compare(b.motivacion, a.motivacion);
+        }
+        if (comparacion == 0) {
+            comparacion = a.apellido.compareTo(b.apellido);
+        }
+        return comparacion != 0 ? comparacion : Long.compare(a.secuencia, b.secuencia);
+    };
+
+    /**
+     * Sueldo ascendente, desempatado por orden de llegada al mercado.
+     */
+    private static final Comparator<Entrada> POR_SUELDO = (a, b) -> {
+        int comparacion = Double.compare(a.sueldo, b.sueldo);
+        return comparacion != 0 ? comparacion : Long.compare(a.secuencia, b.secuencia);
+    };
+
+    /**
+     * Una persona del mercado con su posición en la lista y los valores con los que está indexada.
+     */
+    private static final class Entrada {
+        final Persona persona;
+        final long secuencia;
+        int indice;
+        double calidad;
+        double motivacion;
+        String apellido;
+        double sueldo;
+        Posicion posicion;
+
+        Entrada(Persona persona, long secuencia) {
+            this.persona = persona;
+            this.secuencia = secuencia;
+        }
+
+        /**
+         * Entrada ficticia que sirve de límite en las consultas por rango.
+         */
+        Entrada(double calidad, double motivacion, double sueldo, long secuencia) {
+            this(null, secuencia);
+            this.calidad = calidad;
+            this.motivacion = motivacion;
+            this.sueldo = sueldo;
+        }
+
+        /**
+         * Copia los valores indexados de la entrada en una entrada ficticia, que sigue sirviendo de límite
+         * aunque la persona salga del mercado o se vuelva a indexar.
+         */
+        Entrada limite() {
+            Entrada limite = new Entrada(calidad, motivacion, sueldo, secuencia);
+            limite.apellido = apellido;
+            return limite;
+        }
+
+        void copiarValores() {
+            sueldo = persona.getSueldo();
+            motivacion = persona.getMotivacion();
+            apellido = persona.getApellido();
+            if (persona instanceof Jugador jugador) {
+                calidad = jugador.getCalidad();
+                posicion = jugador.getPosicionCampo();
+            }
+        }
+    }
+
+    private final ArrayList<Entrada> entradas;
+    private final IdentityHashMap<Persona, Entrada> porPersona;
+    private long siguienteSecuencia;
+
+    private final TreeSet<Entrada> jugadoresPorCalidad = new TreeSet<>(POR_CALIDAD);
+    private final EnumMap<Posicion, TreeSet<Entrada>> porCalidadYPosicion = new EnumMap<>(Posicion.class);
+    private final EnumMap<Posicion, TreeSet<Entrada>> porSueldoYPosicion = new EnumMap<>(Posicion.class);
+    private final TreeSet<Entrada> entrenadoresPorSueldo = new TreeSet<>(POR_SUELDO);
+
+    /**
+     * Indica si los índices reflejan las personas de la lista. Si no, se reconstruyen en la siguiente consulta.
+     */
+    private boolean indicesValidos = true;
+
+    /**
+     * Crea un mercado vacío.
+     */
+    public Mercado() {
+        this(List.of());
+    }
+
+    /**
+     * Crea un mercado con las personas de una lista, en el mismo orden.
+     *
+     * @param personas Las personas del mercado.
+     * @throws IllegalArgumentException si una persona aparece más de una vez.
+     * @throws NullPointerException     si alguna persona es nula.
+     */
+    public Mercado(Collection<? extends Persona> personas) {
+        this.entradas = new ArrayList<>(personas.size());
+        this.porPersona = new IdentityHashMap<>(personas.size());
+        for (Posicion posicion : Posicion.values()) {
+            porCalidadYPosicion.put(posicion, new TreeSet<>(POR_CALIDAD));
+            porSueldoYPosicion.put(posicion, new TreeSet<>(POR_SUELDO));
+        }
+        indicesValidos = false;
+        for (Persona persona : personas) {
+            add(persona);
+        }
+    }
+
+    @Override
+    public Persona get(int index) {
+        return entradas.get(index).persona;
+    }
+
+    @Override
+    public int size() {
+        return entradas.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return porPersona.containsKey(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Entrada entrada = porPersona.get(o);
+        return entrada != null ? entrada.indice : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    /**
+     * Añade una persona al final del mercado.
+     *
+     * @param persona La persona. No puede ser nula ni estar ya en el mercado.
+     * @return {@code true}.
+     * @throws IllegalArgumentException si la persona ya está en el mercado.
+     * @throws NullPointerException     si la persona es nula.
+     */
+    @Override
+    public boolean add(Persona persona) {
+        add(entradas.size(), persona);
+        return true;
+    }
+
+    /**
+     * Inserta una persona en una posición. La persona que ocupaba esa posición pasa al final del mercado.
+     *
+     * @param index   La posición.
+     * @param persona La persona. No puede ser nula ni estar ya en el mercado.
+     * @throws IllegalArgumentException  si la persona ya está en el mercado.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     * @throws NullPointerException      si la persona es nula.
+     */
+    @Override
+    public void add(int index, Persona persona) {
+        Objects.requireNonNull(persona, "La persona no puede ser nula.");
+        Objects.checkIndex(index, entradas.size() + 1);
+        if (porPersona.containsKey(persona)) {
+            throw new IllegalArgumentException("La persona ya está en el mercado.");
+        }
+        Entrada entrada = new Entrada(persona, siguienteSecuencia++);
+        porPersona.put(persona, entrada);
+        if (index == entradas.size()) {
+            entrada.indice = index;
+            entradas.add(entrada);
+        } else {
+            Entrada desplazada = entradas.set(index, entrada);
+            entrada.indice = index;
+            desplazada.indice = entradas.size();
+            entradas.add(desplazada);
+        }
+        indexar(entrada);
+        modCount++;
+    }
+
+    /**
+     * Sustituye la persona de una posición.
+     *
+     * @param index   La posición.
+     * @param persona La nueva persona. No puede ser nula ni estar ya en otra posición del mercado.
+     * @return La persona que ocupaba la posición.
+     * @throws IllegalArgumentException si la persona ya está en otra posición del mercado.
+     */
+    @Override
+    public Persona set(int index, Persona persona) {
+        Objects.requireNonNull(persona, "La persona no puede ser nula.");
+        Entrada anterior = entradas.get(index);
+        if (anterior.persona == persona) {
+            actualizar(persona);
+            return persona;
+        }
+        if (porPersona.containsKey(persona)) {
+            throw new IllegalArgumentException("La persona ya está en el mercado.");
+        }
+        desindexar(anterior);
+        porPersona.remove(anterior.persona);
+        Entrada entrada = new Entrada(persona, siguienteSecuencia++);
+        entrada.indice = index;
+        porPersona.put(persona, entrada);
+        entradas.set(index, entrada);
+        indexar(entrada);
+        return anterior.persona;
+    }
+
+    /**
+     * Elimina la persona de una posición. Su hueco lo ocupa la última persona del mercado.
+     *
+     * @param index La posición.
+     * @return La persona eliminada.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    @Override
+    public Persona remove(int index) {
+        Entrada entrada = entradas.get(index);
+        Entrada ultima = entradas.remove(entradas.size() - 1);
+        if (ultima != entrada) {
+            ultima.indice = index;
+            entradas.set(index, ultima);
+        }
+        porPersona.remove(entrada.persona);
+        desindexar(entrada);
+        modCount++;
+        return entrada.persona;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        Entrada entrada = porPersona.get(o);
+        if (entrada == null) {
+            return false;
+        }
+        remove(entrada.indice);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        entradas.clear();
+        porPersona.clear();
+        jugadoresPorCalidad.clear();
+        porCalidadYPosicion.values().forEach(TreeSet::clear);
+        porSueldoYPosicion.values().forEach(TreeSet::clear);
+        entrenadoresPorSueldo.clear();
+        indicesValidos = true;
+        modCount++;
+    }
+
+    /**
+     * Vuelve a indexar una persona del mercado después de cambiar su calidad, motivación, apellido, sueldo
+     * o posición.
+     *
+     * @param persona La persona.
+     * @return {@code true} si la persona está en el mercado.
+     */
+    public boolean actualizar(Persona persona) {
+        Entrada entrada = porPersona.get(persona);
+        if (entrada == null) {
+            return false;
+        }
+        desindexar(entrada);
+        indexar(entrada);
+        return true;
+    }
+
+    /**
+     * Marca los índices como desactualizados, por ejemplo después de entrenar a todo el mercado. Se
+     * reconstruyen en la siguiente consulta, en lugar de actualizarse persona a persona.
+     */
+    public void invalidarIndices() {
+        if (indicesValidos) {
+            indicesValidos = false;
+            jugadoresPorCalidad.clear();
+            porCalidadYPosicion.values().forEach(TreeSet::clear);
+            porSueldoYPosicion.values().forEach(TreeSet::clear);
+            entrenadoresPorSueldo.clear();
+        }
+    }
+
+    /**
+     * Obtiene los jugadores del mercado en el orden de {@link Jugador#compareTo(Jugador)}, sin ordenar.
+     *
+     * @param posicion La posición de los jugadores, o {@code null} para todas.
+     * @return Una lista nueva con los jugadores ordenados.
+     */
+    public List<Jugador> getJugadores(Posicion posicion) {
+        return jugadores(posicion == null ? indices().jugadoresPorCalidad : indices().porCalidadYPosicion.get(posicion));
+    }
+
+    /**
+     * Obtiene los entrenadores del mercado ordenados por sueldo ascendente, sin ordenar.
+     *
+     * @return Una lista nueva con los entrenadores ordenados.
+     */
+    public List<Entrenador> getEntrenadores() {
+        return buscarEntrenadores(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Obtiene el número de jugadores del mercado de una posición.
+     *
+     * @param posicion La posición, o {@code null} para todas.
+     * @return El número de jugadores.
+     */
+    public int getNumJugadores(Posicion posicion) {
+        return (posicion == null ? indices().jugadoresPorCalidad : indices().porCalidadYPosicion.get(posicion)).size();
+    }
+
+    /**
+     * Busca los jugadores con la calidad en un rango y un sueldo máximo, en el orden de
+     * {@link Jugador#compareTo(Jugador)}. Solo se recorren los jugadores del rango de calidad.
+     *
+     * @param posicion      La posición de los jugadores, o {@code null} para todas.
+     * @param calidadMinima La calidad mínima (inclusive).
+     * @param calidadMaxima La calidad máxima (inclusive).
+     * @param sueldoMaximo  El sueldo máximo (inclusive).
+     * @return Una lista nueva con los jugadores encontrados.
+     */
+    public List<Jugador> buscarJugadores(Posicion posicion, double calidadMinima, double calidadMaxima,
+                                         double sueldoMaximo) {
+        if (calidadMinima > calidadMaxima) {
+            return new ArrayList<>();
+        }
+        TreeSet<Entrada> indice = posicion == null
+                ? indices().jugadoresPorCalidad
+                : indices().porCalidadYPosicion.get(posicion);
+        // En orden descendente de calidad, el límite superior va primero y la motivación decide el extremo
+        Entrada desde = new Entrada(calidadMaxima, Double.POSITIVE_INFINITY, 0, Long.MIN_VALUE);
+        Entrada hasta = new Entrada(calidadMinima, Double.NEGATIVE_INFINITY, 0, Long.MAX_VALUE);
+        List<Jugador> jugadores = new ArrayList<>();
+        for (Entrada entrada : indice.subSet(desde, true, hasta, true)) {
+            if (entrada.sueldo <= sueldoMaximo) {
+                jugadores.add((Jugador) entrada.persona);
+            }
+        }
+        return jugadores;
+    }
+
+    /**
+     * Busca los jugadores de una posición con el sueldo en un rango, ordenados por sueldo ascendente.
+     *
+     * @param posicion     La posición de los jugadores. No puede ser nula.
+     * @param sueldoMinimo El sueldo mínimo (inclusive).
+     * @param sueldoMaximo El sueldo máximo (inclusive).
+     * @return Una lista nueva con los jugadores encontrados.
+     */
+    public List<Jugador> buscarJugadoresPorSueldo(Posicion posicion, double sueldoMinimo, double sueldoMaximo) {
+        Objects.requireNonNull(posicion, "La posición no puede ser nula.");
+        return jugadores(rangoSueldo(indices().porSueldoYPosicion.get(posicion), sueldoMinimo, sueldoMaximo));
+    }
+
+    /**
+     * Busca los entrenadores con el sueldo en un rango, ordenados por sueldo ascendente.
+     *
+     * @param sueldoMinimo El sueldo mínimo (inclusive).
+     * @param sueldoMaximo El sueldo máximo (inclusive).
+     * @return Una lista nueva con los entrenadores encontrados.
+     */
+    public List<Entrenador> buscarEntrenadores(double sueldoMinimo, double sueldoMaximo) {
+        List<Entrenador> entrenadores = new ArrayList<>();
+        for (Entrada entrada : rangoSueldo(indices().entrenadoresPorSueldo, sueldoMinimo, sueldoMaximo)) {
+            entrenadores.add((Entrenador) entrada.persona);
+        }
+        return entrenadores;
+    }
+
+    /**
+     * Obtiene la primera página de los jugadores del mercado en el orden de {@link Jugador#compareTo(Jugador)}.
+     * Cada página se obtiene del índice sin ordenar nada, en O(log n + tamaño).
+     *
+     * @param posicion La posición de los jugadores, o {@code null} para todas.
+     * @param tamano   El número máximo de jugadores por página. Debe ser positivo.
+     * @return La primera página, vacía si no hay jugadores.
+     * @throws IllegalArgumentException si el tamaño no es positivo.
+     */
+    public Pagina<Jugador> paginarJugadores(Posicion posicion, int tamano) {
+        return new Pagina<>(Jugador.class, posicion, tamano, null, true);
+    }
+
+    /**
+     * Obtiene la primera página de los entrenadores del mercado ordenados por sueldo ascendente.
+     *
+     * @param tamano El número máximo de entrenadores por página. Debe ser positivo.
+     * @return La primera página, vacía si no hay entrenadores.
+     * @throws IllegalArgumentException si el tamaño no es positivo.
+     * @see #paginarJugadores(Posicion, int)
+     */
+    public Pagina<Entrenador> paginarEntrenadores(int tamano) {
+        return new Pagina<>(Entrenador.class, null, tamano, null, true);
+    }
+
+    /**
+     * Obtiene las {@code k} mejores personas de un tipo según un orden cualquiera, para los órdenes que no
+     * tienen índice. Se recorre el mercado una vez con una cola de prioridad de como mucho {@code k}
+     * elementos, en O(n log k), en lugar de ordenarlo entero.
+     *
+     * @param tipo  El tipo de persona, por ejemplo {@code Jugador.class}.
+     * @param orden El orden; las mejores personas son las primeras.
+     * @param k     El número máximo de personas. No puede ser negativo.
+     * @return Una lista nueva con las mejores personas, ordenadas.
+     * @throws IllegalArgumentException si {@code k} es negativo.
+     */
+    public <T extends Persona> List<T> getMejores(Class<T> tipo, Comparator<? super T> orden, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("El número de personas no puede ser negativo: " + k);
+        }
+        // La cabeza de la cola es la peor de las k mejores encontradas hasta ahora
+        PriorityQueue<T> mejores = new PriorityQueue<>(Math.min(k, entradas.size()) + 1, orden.reversed());
+        for (Entrada entrada : entradas) {
+            if (!tipo.isInstance(entrada.persona)) {
+                continue;
+            }
+            T persona = tipo.cast(entrada.persona);
+            if (mejores.size() < k) {
+                mejores.add(persona);
+            } else if (k > 0 && orden.compare(persona, mejores.peek()) < 0) {
+                mejores.poll();
+                mejores.add(persona);
+            }
+        }
+        List<T> resultado = new ArrayList<>(mejores);
+        resultado.sort(orden);
+        return resultado;
+    }
+
+    /**
+     * Página de un listado ordenado del mercado. Recuerda los valores de su primera y su última persona, de
+     * modo que las páginas siguiente y anterior se obtienen del índice a partir de ellas aunque el mercado haya
+     * cambiado entre tanto (por ejemplo, porque se ha fichado a alguien de la página).
+     *
+     * @param <T> El tipo de persona del listado.
+     */
+    public final class Pagina<T extends Persona> {
+        private final Class<T> tipo;
+        private final Posicion posicion;
+        private final int tamano;
+        private final List<T> elementos;
+        private final Entrada primera;
+        private final Entrada ultima;
+        private final boolean hayAnterior;
+        private final boolean haySiguiente;
+
+        /**
+         * Lee la página que empieza justo después del límite (o que acaba justo antes, hacia atrás). Sin
+         * límite, lee la primera página.
+         */
+        private Pagina(Class<T> tipo, Posicion posicion, int tamano, Entrada limite, boolean adelante) {
+            if (tamano <= 0) {
+                throw new IllegalArgumentException("El tamaño de página debe ser positivo: " + tamano);
+            }
+            this.tipo = tipo;
+            this.posicion = posicion;
+            this.tamano = tamano;
+            TreeSet<Entrada> indice = indice();
+            NavigableSet<Entrada> resto;
+            if (limite == null) {
+                resto = indice;
+            } else if (adelante) {
+                resto = indice.tailSet(limite, false);
+            } else {
+                resto = indice.headSet(limite, false).descendingSet();
+            }
+            List<Entrada> leidas = new ArrayList<>(Math.min(tamano, resto.size()));
+            Iterator<Entrada> it = resto.iterator();
+            while (leidas.size() < tamano && it.hasNext()) {
+                leidas.add(it.next());
+            }
+            if (!adelante) {
+                Collections.reverse(leidas);
+            }
+            List<T> personas = new ArrayList<>(leidas.size());
+            for (Entrada entrada : leidas) {
+                personas.add(tipo.cast(entrada.persona));
+            }
+            this.elementos = Collections.unmodifiableList(personas);
+            this.primera = leidas.isEmpty() ? null : leidas.get(0).limite();
+            this.ultima = leidas.isEmpty() ? null : leidas.get(leidas.size() - 1).limite();
+            this.hayAnterior = primera != null && indice.lower(primera) != null;
+            this.haySiguiente = ultima != null && indice.higher(ultima) != null;
+        }
+
+        private TreeSet<Entrada> indice() {
+            if (tipo == Entrenador.class) {
+                return indices().entrenadoresPorSueldo;
+            }
+            return posicion == null ? indices().jugadoresPorCalidad : indices().porCalidadYPosicion.get(posicion);
+        }
+
+        /**
+         * Obtiene las personas de la página.
+         *
+         * @return Una lista no modificable con las personas, en el orden del listado.
+         */
+        public List<T> getElementos() {
+            return elementos;
+        }
+
+        /**
+         * Indica si hay personas antes de esta página.
+         *
+         * @return {@code true} si existe una página anterior.
+         */
+        public boolean hayAnterior() {
+            return hayAnterior;
+        }
+
+        /**
+         * Indica si hay personas después de esta página.
+         *
+         * @return {@code true} si existe una página siguiente.
+         */
+        public boolean haySiguiente() {
+            return haySiguiente;
+        }
+
+        /**
+         * Obtiene la página siguiente, con las personas que van después de la última de esta página.
+         *
+         * @return La página siguiente.
+         * @throws NoSuchElementException si no hay página siguiente.
+         */
+        public Pagina<T> siguiente() {
+            if (!haySiguiente) {
+                throw new NoSuchElementException("No hay página siguiente.");
+            }
+            return new Pagina<>(tipo, posicion, tamano, ultima, true);
+        }
+
+        /**
+         * Obtiene la página anterior, con las personas que van antes de la primera de esta página.
+         *
+         * @return La página anterior.
+         * @throws NoSuchElementException si no hay página anterior.
+         */
+        public Pagina<T> anterior() {
+            if (!hayAnterior) {
+                throw new NoSuchElementException("No hay página anterior.");
+            }
+            return new Pagina<>(tipo, posicion, tamano, primera, false);
+        }
+    }
+
+    private static NavigableSet<Entrada> rangoSueldo(TreeSet<Entrada> indice, double minimo, double maximo) {
+        if (minimo > maximo) {
+            return Collections.emptyNavigableSet();
+        }
+        return indice.subSet(new Entrada(0, 0, minimo, Long.MIN_VALUE), true,
+                new Entrada(0, 0, maximo, Long.MAX_VALUE), true);
+    }
+
+    private static List<Jugador> jugadores(Collection<Entrada> indice) {
+        List<Jugador> jugadores = new ArrayList<>(indice.size());
+        for (Entrada entrada : indice) {
+            jugadores.add((Jugador) entrada.persona);
+        }
+        return jugadores;
+    }
+
+    /**
+     * Devuelve este mercado después de reconstruir los índices si no estaban al día.
+     */
+    private Mercado indices() {
+        if (!indicesValidos) {
+            indicesValidos = true;
+            for (Entrada entrada : entradas) {
+                indexar(entrada);
+            }
+        }
+        return this;
+    }
+
+    private void indexar(Entrada entrada) {
+        if (!indicesValidos) {
+            return;
+        }
+        entrada.copiarValores();
+        if (entrada.persona instanceof Jugador) {
+            jugadoresPorCalidad.add(entrada);
+            porCalidadYPosicion.get(entrada.posicion).add(entrada);
+            porSueldoYPosicion.get(entrada.posicion).add(entrada);
+        } else if (entrada.persona instanceof Entrenador) {
+            entrenadoresPorSueldo.add(entrada);
+        }
+    }
+
+    private void desindexar(Entrada entrada) {
+        if (!indicesValidos) {
+            return;
+        }
+        if (entrada.persona instanceof Jugador) {
+            jugadoresPorCalidad.remove(entrada);
+            porCalidadYPosicion.get(entrada.posicion).remove(entrada);
+            porSueldoYPosicion.get(entrada.posicion).remove(entrada);
+        } else if (entrada.persona instanceof Entrenador) {
+            entrenadoresPorSueldo.remove(entrada);
+        }
+    }
+}
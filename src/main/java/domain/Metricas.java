@@ -0,0 +1,86 @@
+package main.java.domain;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro de contadores del dominio, como el número de jugadores, entrenadores y equipos creados
+ * o de partidos jugados.
+ * <p>
+ * Cada contador es un {@link LongAdder}: varios hilos pueden incrementarlo a la vez sin perder incrementos
+ * y sin esperar a un cerrojo, porque cada hilo suma en su propia celda cuando hay contención y las celdas
+ * solo se combinan al leer el valor. Así, una carga o una simulación en paralelo obtiene totales exactos
+ * sin que los constructores se conviertan en un punto de serialización.
+ * <p>
+ * Las clases que incrementan un contador con frecuencia deben guardar la referencia que devuelve
+ * {@link #contador(String)} en lugar de buscarla en cada incremento. La lectura con {@link #valor(String)}
+ * o {@link #instantanea()} no es atómica respecto a los incrementos que se estén haciendo a la vez.
+ */
+public final class Metricas {
+    /**
+     * Número de objetos {@link Jugador} creados.
+     */
+    public static final String JUGADORES_CREADOS = "jugadores.creados";
+
+    /**
+     * Número de objetos {@link Entrenador} creados.
+     */
+    public static final String ENTRENADORES_CREADOS = "entrenadores.creados";
+
+    /**
+     * Número de objetos {@link Equipo} creados.
+     */
+    public static final String EQUIPOS_CREADOS = "equipos.creados";
+
+    /**
+     * Número de objetos {@link Partido} simulados.
+     */
+    public static final String PARTIDOS_JUGADOS = "partidos.jugados";
+
+    private static final ConcurrentMap<String, LongAdder> CONTADORES = new ConcurrentHashMap<>();
+
+    private Metricas() {
+    }
+
+    /**
+     * Obtiene el contador con el nombre indicado, creándolo a cero si no existe.
+     *
+     * @param nombre El nombre del contador. No puede ser nulo.
+     * @return El contador, siempre el mismo para un mismo nombre.
+     */
+    public static LongAdder contador(String nombre) {
+        return CONTADORES.computeIfAbsent(nombre, n -> new LongAdder());
+    }
+
+    /**
+     * Obtiene el valor actual de un contador.
+     *
+     * @param nombre El nombre del contador.
+     * @return El valor del contador, o 0 si no existe.
+     */
+    public static long valor(String nombre) {
+        LongAdder contador = CONTADORES.get(nombre);
+        return contador != null ? contador.sum() : 0;
+    }
+
+    /**
+     * Obtiene el valor actual de todos los contadores.
+     *
+     * @return Un mapa nuevo con el valor de cada contador, ordenado por nombre.
+     */
+    public static Map<String, Long> instantanea() {
+        Map<String, Long> valores = new TreeMap<>();
+        CONTADORES.forEach((nombre, contador) -> valores.put(nombre, contador.sum()));
+        return valores;
+    }
+
+    /**
+     * Pone a cero todos los contadores. Los incrementos que se hagan a la vez pueden perderse.
+     */
+    public static void reiniciar() {
+        CONTADORES.values().forEach(LongAdder::reset);
+    }
+}
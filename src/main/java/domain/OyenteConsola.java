@@ -0,0 +1,56 @@
+package main.java.domain;
+
+import java.io.PrintStream;
+import java.util.Objects;
+
+/**
+ * Oyente que muestra el resultado de cada partido en la consola, con el formato
+ * {@code Resultado: Local 2 - 1 Visitante}.
+ */
+public class OyenteConsola implements OyentePartido {
+    /**
+     * Salida en la que se escriben los resultados, o {@code null} para usar {@link System#out}.
+     */
+    private final PrintStream salida;
+
+    /**
+     * Crea un oyente que escribe en la salida estándar que haya en cada momento ({@link System#out}).
+     */
+    public OyenteConsola() {
+        this.salida = null;
+    }
+
+    /**
+     * Crea un oyente que escribe en la salida indicada.
+     *
+     * @param salida La salida en la que se escriben los resultados. No puede ser nula.
+     * @throws NullPointerException si la salida es nula.
+     */
+    public OyenteConsola(PrintStream salida) {
+        this.salida = Objects.requireNonNull(salida, "La salida no puede ser nula.");
+    }
+
+    @Override
+    public void partidoJugado(Partido partido) {
+        (salida != null ? salida : System.out).println(formatear(partido));
+    }
+
+    /**
+     * Obtiene la línea con la que se muestra el resultado de un partido.
+     *
+     * @param partido El partido jugado.
+     * @return El texto {@code Resultado: Local golesLocal - golesVisitante Visitante}.
+     */
+    public static String formatear(Partido partido) {
+        return agregarResultado(new StringBuilder(64), partido).toString();
+    }
+
+    /**
+     * Añade a un {@link StringBuilder} la línea con el resultado de un partido, sin salto de línea.
+     */
+    static StringBuilder agregarResultado(StringBuilder sb, Partido partido) {
+        return sb.append("Resultado: ").append(partido.getLocal().getNombre()).append(' ')
+                .append(partido.getGolesLocal()).append(" - ").append(partido.getGolesVisitante()).append(' ')
+                .append(partido.getVisitante().getNombre());
+    }
+}
@@ -0,0 +1,81 @@
+package main.java.domain;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Oyente que acumula los resultados de los partidos en memoria y los escribe por lotes.
+ * <p>
+ * Cada resultado se añade a un búfer con el mismo formato que {@link OyenteConsola}; el búfer se escribe en
+ * el destino de una sola vez cuando acumula el número de partidos indicado o al llamar a {@link #flush()}.
+ * Así, una liga de cientos de equipos hace unas pocas escrituras en lugar de una por partido.
+ * <p>
+ * No es seguro para hilos: debe usarse desde un único hilo, como hacen {@link Partido} y {@link Liga}.
+ */
+public class OyenteEnLotes implements OyentePartido, Flushable {
+    /**
+     * Número de partidos por lote que se usa si no se indica otro.
+     */
+    public static final int PARTIDOS_POR_LOTE = 1024;
+
+    private final Appendable destino;
+    private final int partidosPorLote;
+    private final StringBuilder bufer = new StringBuilder();
+    private int pendientes;
+
+    /**
+     * Crea un oyente que escribe en el destino cada {@link #PARTIDOS_POR_LOTE} partidos.
+     *
+     * @param destino El destino de los resultados, por ejemplo {@link System#out} o un {@link java.io.Writer}.
+     */
+    public OyenteEnLotes(Appendable destino) {
+        this(destino, PARTIDOS_POR_LOTE);
+    }
+
+    /**
+     * Crea un oyente que escribe en el destino cada cierto número de partidos.
+     *
+     * @param destino         El destino de los resultados. No puede ser nulo.
+     * @param partidosPorLote El número de partidos que se acumulan antes de escribirlos. Debe ser positivo.
+     * @throws NullPointerException     si el destino es nulo.
+     * @throws IllegalArgumentException si el número de partidos por lote no es positivo.
+     */
+    public OyenteEnLotes(Appendable destino, int partidosPorLote) {
+        this.destino = Objects.requireNonNull(destino, "El destino no puede ser nulo.");
+        if (partidosPorLote <= 0) {
+            throw new IllegalArgumentException("El número de partidos por lote debe ser positivo.");
+        }
+        this.partidosPorLote = partidosPorLote;
+    }
+
+    @Override
+    public void partidoJugado(Partido partido) {
+        OyenteConsola.agregarResultado(bufer, partido).append(System.lineSeparator());
+        if (++pendientes >= partidosPorLote) {
+            flush();
+        }
+    }
+
+    /**
+     * Escribe en el destino los resultados acumulados. Si el destino es {@link Flushable}, también se vacía.
+     *
+     * @throws UncheckedIOException si ocurre un error al escribir en el destino.
+     */
+    @Override
+    public void flush() {
+        try {
+            if (pendientes > 0) {
+                destino.append(bufer);
+                bufer.setLength(0);
+                pendientes = 0;
+            }
+            if (destino instanceof Flushable flushable) {
+                flushable.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package main.java.domain;
+
+/**
+ * Receptor de los partidos que se van disputando.
+ * <p>
+ * {@link Partido} y {@link Liga} notifican cada resultado a un oyente en lugar de escribirlo directamente
+ * en la consola, de modo que quien simula decide qué hacer con la salida: mostrarla ({@link OyenteConsola}),
+ * agruparla y escribirla por lotes ({@link OyenteEnLotes}) o descartarla ({@link #NINGUNO}) en las ejecuciones
+ * sin consola o de pruebas de rendimiento.
+ */
+@FunctionalInterface
+public interface OyentePartido {
+    /**
+     * Oyente que ignora todos los partidos.
+     */
+    OyentePartido NINGUNO = partido -> {
+    };
+
+    /**
+     * Notifica un partido que acaba de disputarse.
+     *
+     * @param partido El partido jugado, con su resultado.
+     */
+    void partidoJugado(Partido partido);
+}
@@ -1,7 +1,9 @@
 package main.java.domain;
 
 import java.util.Objects;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
 
 /**
  * Representa un partido de fútbol disputado entre dos equipos: un equipo local y un equipo visitante.
@@ -12,6 +14,17 @@ import java.util.Random;
  * y la motivación del entrenador de cada equipo.
  */
 public class Partido {
+    /**
+     * Oyente que usa {@link #jugar()} para mostrar el resultado en la consola.
+     */
+    private static final OyentePartido CONSOLA = new OyenteConsola();
+
+    /**
+     * Contador de partidos jugados ({@link Metricas#PARTIDOS_JUGADOS}). Las ligas paralelas juegan
+     * partidos desde varios hilos a la vez.
+     */
+    private static final LongAdder TOTAL_PARTIDOS = Metricas.contador(Metricas.PARTIDOS_JUGADOS);
+
     private final Equipo local;
     private final Equipo visitante;
     private int golesLocal;
@@ -43,57 +56,63 @@ public class Partido {
      * @throws IllegalStateException si se intenta jugar un partido que ya ha sido disputado.
      */
     public void jugar() {
-        if (jugado) {
-            throw new IllegalStateException("El partido ya ha sido jugado y no puede jugarse de nuevo.");
-        }
-
-        // Calcula el factor de rendimiento para el equipo local
-        double factorLocal = local.calcularCalidadMedia() *
-                (1 + (local.getEntrenador() != null ? local.getEntrenador().getMotivacion() : 5.0) / 20.0);
-        // Calcula el factor de rendimiento para el equipo visitante
-        double factorVisitante = visitante.calcularCalidadMedia() *
-                (1 + (visitante.getEntrenador() != null ? visitante.getEntrenador().getMotivacion() : 5.0) / 20.0);
-
-        Random rand = new Random();
-        // Calcula los goles para cada equipo usando una distribución de Poisson simulada
-        golesLocal = calcularGoles(factorLocal, factorVisitante, rand);
-        golesVisitante = calcularGoles(factorVisitante, factorLocal, rand);
+        jugar(CONSOLA);
+    }
 
-        this.jugado = true; // Marca el partido como jugado
+    /**
+     * Simula el partido como {@link #jugar()}, pero notifica el resultado al oyente indicado
+     * en lugar de imprimirlo en la consola.
+     *
+     * @param oyente El oyente que recibe el partido jugado. Puede ser {@link OyentePartido#NINGUNO}.
+     * @throws IllegalStateException si se intenta jugar un partido que ya ha sido disputado.
+     * @throws NullPointerException  si el oyente es {@code null}.
+     */
+    public void jugar(OyentePartido oyente) {
+        Objects.requireNonNull(oyente, "El oyente no puede ser nulo.");
+        simular(ThreadLocalRandom.current());
+        oyente.partidoJugado(this);
+    }
 
-        // Imprime el resultado del partido en la consola
-        System.out.printf("Resultado: %s %d - %d %s%n",
-                local.getNombre(), golesLocal,
-                golesVisitante, visitante.getNombre());
+    /**
+     * Simula el partido con el generador de números aleatorios indicado, sin imprimir el resultado.
+     * <p>
+     * Usa el mismo modelo de goles que {@link #jugar()}. Al recibir el generador desde fuera,
+     * permite reproducir un resultado a partir de una semilla y simular varios partidos
+     * en paralelo, cada uno con su propio generador.
+     *
+     * @param rand El generador de números aleatorios a utilizar. No puede ser {@code null}.
+     * @throws IllegalStateException si se intenta jugar un partido que ya ha sido disputado.
+     * @throws NullPointerException  si el generador es {@code null}.
+     */
+    public void simular(RandomGenerator rand) {
+        simular(SimuladorPartido.calcularFactor(local), SimuladorPartido.calcularFactor(visitante), rand);
     }
 
     /**
-     * Calcula el número de goles que un equipo podría marcar, basado en su factor de rendimiento
-     * y el de su rival, utilizando una simulación basada en la distribución de Poisson.
+     * Simula el partido a partir de los factores de rendimiento ya calculados de ambos equipos.
+     * <p>
+     * Permite a quien simula muchos partidos calcular el factor de cada equipo una sola vez
+     * (véase {@link SimuladorPartido#calcularFactor(Equipo)}) en lugar de hacerlo en cada partido.
+     * No se imprime el resultado.
      *
-     * @param factorPropio  El factor de rendimiento del equipo para el cual se calculan los goles.
-     * @param factorRival   El factor de rendimiento del equipo rival.
-     * @param rand          Una instancia de {@link Random} para la generación de números aleatorios.
-     * @return El número de goles calculados para el equipo.
+     * @param factorLocal     El factor de rendimiento del equipo local.
+     * @param factorVisitante El factor de rendimiento del equipo visitante.
+     * @param rand            El generador de números aleatorios a utilizar. No puede ser {@code null}.
+     * @throws IllegalStateException si se intenta jugar un partido que ya ha sido disputado.
+     * @throws NullPointerException  si el generador es {@code null}.
      */
-    private int calcularGoles(double factorPropio, double factorRival, Random rand) {
-        // La diferencia de factores influye en la media de goles esperada
-        double diferencia = factorPropio - factorRival;
-        // Calcula la tasa base (lambda) para la distribución de Poisson, ajustada por la diferencia de factores
-        double baseLambda = Math.max(0, 0.5 + diferencia / 50.0); // Asegura que lambda no sea negativo
-
-        // Simulación de la distribución de Poisson usando el método de Knuth
-        // L = e^(-lambda)
-        double l = Math.exp(-baseLambda);
-        int goles = 0;
-        double p = 1.0;
-
-        do {
-            goles++;
-            p *= rand.nextDouble(); // Genera un número aleatorio U entre 0 y 1
-        } while (p > l);
-
-        return goles - 1; // Ajusta el contador de goles
+    public void simular(double factorLocal, double factorVisitante, RandomGenerator rand) {
+        Objects.requireNonNull(rand, "El generador aleatorio no puede ser nulo.");
+        if (jugado) {
+            throw new IllegalStateException("El partido ya ha sido jugado y no puede jugarse de nuevo.");
+        }
+
+        // Calcula los goles para cada equipo usando una distribución de Poisson simulada
+        golesLocal = SimuladorPartido.calcularGoles(factorLocal, factorVisitante, rand);
+        golesVisitante = SimuladorPartido.calcularGoles(factorVisitante, factorLocal, rand);
+
+        this.jugado = true; // Marca el partido como jugado
+        TOTAL_PARTIDOS.increment();
     }
 
     /**
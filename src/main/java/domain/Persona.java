@@ -45,6 +45,16 @@ public abstract class Persona {
      */
     public final void aumentarMotivacionBase() {
         motivacion = Math.min(10, motivacion + 0.1);
+        atributosModificados();
+    }
+
+    /**
+     * Se invoca después de cambiar el nombre, el apellido o la motivación de la persona.
+     * <p>
+     * Por defecto no hace nada; las subclases lo sobrescriben para mantener al día
+     * las estructuras que dependen de estos atributos.
+     */
+    protected void atributosModificados() {
     }
 
     /**
@@ -67,6 +77,7 @@ public abstract class Persona {
             throw new IllegalArgumentException("El nombre no puede ser nulo o vacío.");
         }
         this.nombre = nombre;
+        atributosModificados();
     }
 
     /**
@@ -89,6 +100,7 @@ public abstract class Persona {
             throw new IllegalArgumentException("El apellido no puede ser nulo o vacío.");
         }
         this.apellido = apellido;
+        atributosModificados();
     }
 
     /**
@@ -138,6 +150,7 @@ public abstract class Persona {
      */
     public final void setMotivacion(double motivacion) {
         this.motivacion = ajustarRangoMotivacion(motivacion);
+        atributosModificados();
     }
 
     /**
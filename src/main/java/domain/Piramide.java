@@ -0,0 +1,282 @@
+package main.java.domain;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Pirámide de divisiones con ascensos y descensos entre ellas, como las ligas nacionales.
+ * <p>
+ * La pirámide guarda los equipos de cada división, de la primera (índice 0) a la última. Cada temporada crea
+ * una {@link Liga} por división y las disputa a la vez, cada una en una tarea propia del pool: la temporada de
+ * una división se juega jornada a jornada a doble vuelta ({@link Liga#jugarJornada(long, ForkJoinPool)}).
+ * Cuando han terminado todas, se aplican de una sola vez los ascensos y descensos: entre cada división y la
+ * siguiente se intercambian los {@link #getPlazasAscenso()} últimos clasificados de la superior y los primeros
+ * de la inferior. Todo ocurre en memoria, así que se pueden disputar muchas temporadas seguidas.
+ * <p>
+ * Las semillas de cada temporada y de cada división se derivan de la semilla recibida con
+ * {@link SplittableRandom#split()}, de modo que la misma semilla reproduce los mismos resultados sea cual sea
+ * el número de hilos. Los partidos se notifican al oyente de la pirámide (por defecto
+ * {@link OyentePartido#NINGUNO}) desde el hilo de cada división, por lo que debe admitir llamadas desde
+ * varios hilos a la vez.
+ */
+public class Piramide {
+    /**
+     * Cambio de división de un equipo al final de una temporada.
+     *
+     * @param equipo El equipo.
+     * @param desde  La división en la que ha jugado la temporada.
+     * @param hacia  La división en la que jugará la siguiente.
+     */
+    public record Cambio(Equipo equipo, int desde, int hacia) {
+        /**
+         * Indica si el cambio es un ascenso.
+         *
+         * @return {@code true} si el equipo sube a una división superior.
+         */
+        public boolean isAscenso() {
+            return hacia < desde;
+        }
+    }
+
+    private final String nombre;
+    private final List<List<Equipo>> divisiones;
+    private final int plazasAscenso;
+    private OyentePartido oyente = OyentePartido.NINGUNO;
+    private List<Liga> ultimaTemporada = List.of();
+    private List<Cambio> ultimosCambios = List.of();
+    private int temporadasDisputadas;
+
+    /**
+     * Crea una pirámide con los equipos de cada división.
+     *
+     * @param nombre        El nombre de la pirámide, que se usa para nombrar las ligas de cada división.
+     * @param divisiones    Los equipos de cada división, de la primera a la última. Cada división necesita al
+     *                      menos dos equipos, y un equipo no puede estar en varias divisiones.
+     * @param plazasAscenso El número de equipos que suben y bajan entre cada par de divisiones. No puede ser
+     *                      negativo ni mayor que la mitad de los equipos de ninguna división.
+     * @throws IllegalArgumentException si las divisiones o las plazas no son válidas.
+     * @throws NullPointerException     si el nombre, las divisiones o algún equipo son nulos.
+     */
+    public Piramide(String nombre, List<? extends List<Equipo>> divisiones, int plazasAscenso) {
+        this.nombre = Objects.requireNonNull(nombre, "El nombre de la pirámide no puede ser nulo.");
+        if (divisiones.isEmpty()) {
+            throw new IllegalArgumentException("La pirámide necesita al menos una división.");
+        }
+        Set<Equipo> vistos = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.divisiones = new ArrayList<>(divisiones.size());
+        for (List<Equipo> division : divisiones) {
+            if (division.size() < 2) {
+                throw new IllegalArgumentException("Cada división necesita al menos dos equipos.");
+            }
+            if (plazasAscenso < 0 || plazasAscenso > division.size() / 2) {
+                throw new IllegalArgumentException("Número de plazas de ascenso no válido: " + plazasAscenso);
+            }
+            for (Equipo equipo : division) {
+                if (!vistos.add(Objects.requireNonNull(equipo, "El equipo no puede ser nulo."))) {
+                    throw new IllegalArgumentException("El equipo " + equipo.getNombre()
+                            + " está en más de una división.");
+                }
+            }
+            this.divisiones.add(new ArrayList<>(division));
+        }
+        this.plazasAscenso = plazasAscenso;
+    }
+
+    /**
+     * Disputa una temporada de todas las divisiones en el pool común de fork/join.
+     *
+     * @param semilla La semilla de la que se derivan los generadores aleatorios de la temporada.
+     * @return Los cambios de división aplicados al final de la temporada.
+     * @see #disputarTemporada(long, ForkJoinPool)
+     */
+    public List<Cambio> disputarTemporada(long semilla) {
+        return disputarTemporada(semilla, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Disputa una temporada de todas las divisiones a la vez en un pool y aplica los ascensos y descensos.
+     *
+     * @param semilla La semilla de la que se derivan los generadores aleatorios de la temporada.
+     * @param pool    El pool en el que se disputan las divisiones y sus jornadas. No puede ser nulo.
+     * @return Una lista no modificable con los cambios de división aplicados, primero los de la división
+     *         superior.
+     * @throws NullPointerException si el pool es nulo.
+     */
+    public List<Cambio> disputarTemporada(long semilla, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "El pool no puede ser nulo.");
+        SplittableRandom raiz = new SplittableRandom(semilla);
+        List<Liga> ligas = new ArrayList<>(divisiones.size());
+        List<Callable<Liga>> tareas = new ArrayList<>(divisiones.size());
+        for (int d = 0; d < divisiones.size(); d++) {
+            Liga liga = new Liga(nombre + " - División " + (d + 1));
+            liga.setOyente(oyente);
+            divisiones.get(d).forEach(liga::agregarEquipo);
+            ligas.add(liga);
+            SplittableRandom rand = raiz.split();
+            tareas.add(() -> {
+                liga.iniciarTemporada();
+                while (!liga.isTemporadaTerminada()) {
+                    liga.jugarJornada(rand.nextLong(), pool);
+                }
+                return liga;
+            });
+        }
+        esperar(pool.invokeAll(tareas));
+
+        ultimaTemporada = Collections.unmodifiableList(ligas);
+        ultimosCambios = aplicarAscensosYDescensos(ligas);
+        temporadasDisputadas++;
+        return ultimosCambios;
+    }
+
+    /**
+     * Disputa varias temporadas seguidas en el pool común de fork/join. La temporada {@code i} usa la semilla
+     * {@code semilla + i}.
+     *
+     * @param temporadas El número de temporadas.
+     * @param semilla    La semilla de la primera temporada.
+     */
+    public void disputarTemporadas(int temporadas, long semilla) {
+        for (int i = 0; i < temporadas; i++) {
+            disputarTemporada(semilla + i);
+        }
+    }
+
+    private static void esperar(List<Future<Liga>> resultados) {
+        for (Future<Liga> resultado : resultados) {
+            try {
+                resultado.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Temporada interrumpida.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException causa) {
+                    throw causa;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Calcula todos los cambios a partir de las clasificaciones finales y después rehace las divisiones,
+     * conservando el orden de la clasificación: los que se quedan, seguidos de los que llegan.
+     */
+    private List<Cambio> aplicarAscensosYDescensos(List<Liga> ligas) {
+        int numDivisiones = ligas.size();
+        List<List<Equipo>> clasificaciones = new ArrayList<>(numDivisiones);
+        for (Liga liga : ligas) {
+            List<Equipo> orden = new ArrayList<>();
+            liga.getClasificacion().forEach(stats -> orden.add(stats.getEquipo()));
+            clasificaciones.add(orden);
+        }
+
+        List<Cambio> cambios = new ArrayList<>();
+        List<List<Equipo>> nuevas = new ArrayList<>(numDivisiones);
+        for (int d = 0; d < numDivisiones; d++) {
+            List<Equipo> orden = clasificaciones.get(d);
+            int sube = d > 0 ? plazasAscenso : 0;
+            int baja = d < numDivisiones - 1 ? plazasAscenso : 0;
+            List<Equipo> division = new ArrayList<>(orden.subList(sube, orden.size() - baja));
+            if (d > 0) {
+                // Descendidos de la división superior
+                List<Equipo> superior = clasificaciones.get(d - 1);
+                for (Equipo equipo : superior.subList(superior.size() - plazasAscenso, superior.size())) {
+                    division.add(equipo);
+                    cambios.add(new Cambio(equipo, d - 1, d));
+                }
+            }
+            if (d < numDivisiones - 1) {
+                // Ascendidos de la división inferior
+                for (Equipo equipo : clasificaciones.get(d + 1).subList(0, plazasAscenso)) {
+                    division.add(equipo);
+                    cambios.add(new Cambio(equipo, d + 1, d));
+                }
+            }
+            nuevas.add(division);
+        }
+        for (int d = 0; d < numDivisiones; d++) {
+            divisiones.set(d, nuevas.get(d));
+        }
+        return Collections.unmodifiableList(cambios);
+    }
+
+    /**
+     * Obtiene el nombre de la pirámide.
+     *
+     * @return El nombre.
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Obtiene el número de divisiones.
+     *
+     * @return El número de divisiones.
+     */
+    public int getNumDivisiones() {
+        return divisiones.size();
+    }
+
+    /**
+     * Obtiene los equipos que jugarán la próxima temporada en una división.
+     *
+     * @param division El índice de la división (0 es la primera).
+     * @return Una lista no modificable con los equipos de la división.
+     * @throws IndexOutOfBoundsException si la división no existe.
+     */
+    public List<Equipo> getEquipos(int division) {
+        return Collections.unmodifiableList(divisiones.get(division));
+    }
+
+    /**
+     * Obtiene el número de equipos que suben y bajan entre cada par de divisiones.
+     *
+     * @return El número de plazas de ascenso.
+     */
+    public int getPlazasAscenso() {
+        return plazasAscenso;
+    }
+
+    /**
+     * Obtiene las ligas de la última temporada disputada, una por división, con sus clasificaciones finales.
+     *
+     * @return Una lista no modificable de ligas, vacía si no se ha disputado ninguna temporada.
+     */
+    public List<Liga> getUltimaTemporada() {
+        return ultimaTemporada;
+    }
+
+    /**
+     * Obtiene los cambios de división aplicados al final de la última temporada.
+     *
+     * @return Una lista no modificable de cambios, vacía si no se ha disputado ninguna temporada.
+     */
+    public List<Cambio> getUltimosCambios() {
+        return ultimosCambios;
+    }
+
+    /**
+     * Obtiene el número de temporadas disputadas.
+     *
+     * @return El número de temporadas.
+     */
+    public int getTemporadasDisputadas() {
+        return temporadasDisputadas;
+    }
+
+    /**
+     * Establece el oyente al que se notifican los partidos de todas las divisiones a partir de la próxima
+     * temporada. Se llama desde varios hilos a la vez.
+     *
+     * @param oyente El nuevo oyente. No puede ser nulo.
+     * @throws NullPointerException si el oyente es nulo.
+     */
+    public void setOyente(OyentePartido oyente) {
+        this.oyente = Objects.requireNonNull(oyente, "El oyente no puede ser nulo.");
+    }
+}
@@ -0,0 +1,85 @@
+package main.java.domain;
+
+/**
+ * Posiciones en el campo que puede ocupar un {@link Jugador}, en el orden de una alineación:
+ * portero, defensa, centrocampista y delantero.
+ * <p>
+ * Cada posición tiene un código de tres letras, que es el que se guarda en los archivos de texto, y un
+ * ordinal que sirve como código compacto en los formatos binarios y como índice de los arrays agrupados
+ * por posición. Comparar, validar o agrupar posiciones no requiere comparar cadenas.
+ */
+public enum Posicion {
+    /** Portero. */
+    POR("Portero"),
+    /** Defensa. */
+    DEF("Defensa"),
+    /** Centrocampista. */
+    MIG("Centrocampista"),
+    /** Delantero. */
+    DAV("Delantero");
+
+    private static final Posicion[] VALORES = values();
+
+    /**
+     * Número de posiciones, para dimensionar los arrays indexados por {@link #ordinal()}.
+     */
+    public static final int NUM_POSICIONES = VALORES.length;
+
+    private final String descripcion;
+
+    Posicion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+
+    /**
+     * Obtiene el código de tres letras de la posición, el mismo que se usa en los archivos de texto.
+     *
+     * @return El código de la posición (por ejemplo, "POR").
+     */
+    public String getCodigo() {
+        return name();
+    }
+
+    /**
+     * Obtiene el nombre de la posición para mostrarlo al usuario.
+     *
+     * @return La descripción de la posición (por ejemplo, "Portero").
+     */
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    /**
+     * Obtiene la posición que corresponde a un código de tres letras.
+     *
+     * @param codigo El código de la posición ("POR", "DEF", "MIG" o "DAV").
+     * @return La posición.
+     * @throws IllegalArgumentException si el código no es válido o es nulo.
+     */
+    public static Posicion desdeCodigo(String codigo) {
+        if (codigo == null) {
+            throw new IllegalArgumentException("Posición no válida. Debe ser POR, DEF, MIG o DAV.");
+        }
+        return switch (codigo) {
+            case "POR" -> POR;
+            case "DEF" -> DEF;
+            case "MIG" -> MIG;
+            case "DAV" -> DAV;
+            default -> throw new IllegalArgumentException("Posición no válida. Debe ser POR, DEF, MIG o DAV.");
+        };
+    }
+
+    /**
+     * Obtiene la posición a partir de su ordinal, tal como se guarda en los formatos binarios.
+     *
+     * @param ordinal El ordinal de la posición (entre 0 y {@link #NUM_POSICIONES} - 1).
+     * @return La posición.
+     * @throws IllegalArgumentException si el ordinal no corresponde a ninguna posición.
+     */
+    public static Posicion desdeOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALORES.length) {
+            throw new IllegalArgumentException("Código de posición no válido: " + ordinal);
+        }
+        return VALORES[ordinal];
+    }
+}
@@ -0,0 +1,341 @@
+package main.java.domain;
+
+import java.io.Serial;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Proyección de una temporada mediante el método de Monte Carlo.
+ * <p>
+ * Simula muchas veces, de forma independiente, la liga completa (todos contra todos a una vuelta, igual que
+ * {@link Liga#disputarLiga()}) con el modelo de goles de {@link SimuladorPartido}, y acumula para cada equipo
+ * cuántas veces terminó en cada posición y con cuántos puntos.
+ * <p>
+ * Antes de empezar se toma una instantánea del factor de rendimiento de cada equipo, de modo que ni la
+ * {@link Liga} ni sus {@link Equipo} se modifican. No se crea ningún {@link Partido}: cada hilo reutiliza
+ * sus propios arrays de trabajo y solo guarda los histogramas, por lo que la memoria no depende del número
+ * de simulaciones.
+ */
+public final class ProyeccionTemporada {
+    /**
+     * Número máximo de equipos admitido; el índice del equipo se codifica en 12 bits al ordenar la clasificación.
+     */
+    public static final int MAX_EQUIPOS = 1 << 12;
+
+    /**
+     * Incremento utilizado para derivar la semilla de cada simulación a partir de la semilla inicial.
+     */
+    private static final long INCREMENTO_SEMILLA = 0x9E3779B97F4A7C15L;
+
+    private ProyeccionTemporada() {
+    }
+
+    /**
+     * Proyecta la temporada de una liga usando el pool común de fork/join.
+     *
+     * @param liga         La liga a proyectar. No puede ser nula.
+     * @param simulaciones El número de temporadas a simular. Debe ser mayor que 0.
+     * @param semilla      La semilla de la que se derivan los generadores de cada simulación.
+     * @return Los histogramas de posiciones y puntos de cada equipo.
+     * @see #proyectar(Liga, int, long, ForkJoinPool)
+     */
+    public static Resultado proyectar(Liga liga, int simulaciones, long semilla) {
+        return proyectar(liga, simulaciones, semilla, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Proyecta la temporada de una liga repartiendo las simulaciones entre los hilos de un {@link ForkJoinPool}.
+     * <p>
+     * Cada simulación usa su propio {@link SplittableRandom}, derivado de la semilla y del número de simulación,
+     * así que el resultado es el mismo con la misma semilla, sea cual sea el número de hilos del pool.
+     *
+     * @param liga         La liga a proyectar. No puede ser nula.
+     * @param simulaciones El número de temporadas a simular. Debe ser mayor que 0.
+     * @param semilla      La semilla de la que se derivan los generadores de cada simulación.
+     * @param pool         El pool en el que se ejecutan las simulaciones. No puede ser nulo.
+     * @return Los histogramas de posiciones y puntos de cada equipo.
+     * @throws IllegalArgumentException si el número de simulaciones no es positivo, o si la liga tiene
+     *                                  menos de 2 o más de {@link #MAX_EQUIPOS} equipos.
+     * @throws NullPointerException     si la liga o el pool son nulos.
+     */
+    public static Resultado proyectar(Liga liga, int simulaciones, long semilla, ForkJoinPool pool) {
+        Objects.requireNonNull(liga, "La liga no puede ser nula.");
+        Objects.requireNonNull(pool, "El pool no puede ser nulo.");
+        if (simulaciones <= 0) {
+            throw new IllegalArgumentException("El número de simulaciones debe ser mayor que 0.");
+        }
+        List<Equipo> equipos = List.copyOf(liga.getEquipos());
+        int n = equipos.size();
+        if (n < 2 || n > MAX_EQUIPOS) {
+            throw new IllegalArgumentException("La liga debe tener entre 2 y " + MAX_EQUIPOS + " equipos.");
+        }
+
+        double[] factores = new double[n];
+        for (int i = 0; i < n; i++) {
+            factores[i] = SimuladorPartido.calcularFactor(equipos.get(i));
+        }
+        // Límite de Poisson de cada equipo frente a cada rival, calculado una sola vez para todas las simulaciones
+        double[] limites = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                limites[i * n + j] = SimuladorPartido.calcularLimite(factores[i], factores[j]);
+            }
+        }
+
+        Modelo modelo = new Modelo(n, limites, simulaciones, semilla);
+        int bloques = Math.min(simulaciones, pool.getParallelism());
+        Acumulador total = pool.invoke(new SimulacionBloques(modelo, bloques, 0, bloques));
+        return new Resultado(equipos, simulaciones, total);
+    }
+
+    /**
+     * Datos inmutables compartidos por todas las tareas de una proyección.
+     */
+    private record Modelo(int equipos, double[] limites, int simulaciones, long semilla) {
+        int puntosMaximos() {
+            return 3 * (equipos - 1);
+        }
+    }
+
+    /**
+     * Histogramas acumulados por una tarea. Se combinan sumando sus contadores.
+     */
+    private static final class Acumulador {
+        private final int[] posiciones;
+        private final int[] puntos;
+        private final long[] sumaPuntos;
+        private final int anchoPuntos;
+
+        Acumulador(int equipos, int puntosMaximos) {
+            this.anchoPuntos = puntosMaximos + 1;
+            this.posiciones = new int[equipos * equipos];
+            this.puntos = new int[equipos * anchoPuntos];
+            this.sumaPuntos = new long[equipos];
+        }
+
+        void combinar(Acumulador otro) {
+            for (int i = 0; i < posiciones.length; i++) posiciones[i] += otro.posiciones[i];
+            for (int i = 0; i < puntos.length; i++) puntos[i] += otro.puntos[i];
+            for (int i = 0; i < sumaPuntos.length; i++) sumaPuntos[i] += otro.sumaPuntos[i];
+        }
+    }
+
+    /**
+     * Tarea de fork/join que reparte un rango de bloques de simulaciones. Cada bloque se simula de forma
+     * secuencial en un único hilo, reutilizando un solo acumulador y unos solos arrays de trabajo.
+     */
+    private static final class SimulacionBloques extends RecursiveTask<Acumulador> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Modelo modelo;
+        private final int bloques;
+        private final int desde;
+        private final int hasta;
+
+        SimulacionBloques(Modelo modelo, int bloques, int desde, int hasta) {
+            this.modelo = modelo;
+            this.bloques = bloques;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Acumulador compute() {
+            if (hasta - desde == 1) {
+                return simularBloque();
+            }
+            int medio = (desde + hasta) >>> 1;
+            SimulacionBloques segunda = new SimulacionBloques(modelo, bloques, medio, hasta);
+            segunda.fork();
+            Acumulador primera = new SimulacionBloques(modelo, bloques, desde, medio).compute();
+            primera.combinar(segunda.join());
+            return primera;
+        }
+
+        private Acumulador simularBloque() {
+            int n = modelo.equipos();
+            long primera = (long) modelo.simulaciones() * desde / bloques;
+            long ultima = (long) modelo.simulaciones() * (desde + 1) / bloques;
+
+            Acumulador acumulador = new Acumulador(n, modelo.puntosMaximos());
+            int[] puntos = new int[n];
+            int[] diferencia = new int[n];
+            long[] claves = new long[n];
+
+            for (long s = primera; s < ultima; s++) {
+                SplittableRandom rand = new SplittableRandom(modelo.semilla() + s * INCREMENTO_SEMILLA);
+                simularTemporada(modelo, rand, puntos, diferencia);
+                acumular(acumulador, puntos, diferencia, claves);
+            }
+            return acumulador;
+        }
+    }
+
+    /**
+     * Simula una temporada completa, dejando en los arrays los puntos y la diferencia de goles de cada equipo.
+     */
+    private static void simularTemporada(Modelo modelo, SplittableRandom rand, int[] puntos, int[] diferencia) {
+        int n = modelo.equipos();
+        double[] limites = modelo.limites();
+        Arrays.fill(puntos, 0);
+        Arrays.fill(diferencia, 0);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int golesLocal = SimuladorPartido.calcularGoles(limites[i * n + j], rand);
+                int golesVisitante = SimuladorPartido.calcularGoles(limites[j * n + i], rand);
+                diferencia[i] += golesLocal - golesVisitante;
+                diferencia[j] += golesVisitante - golesLocal;
+                if (golesLocal > golesVisitante) {
+                    puntos[i] += 3;
+                } else if (golesLocal < golesVisitante) {
+                    puntos[j] += 3;
+                } else {
+                    puntos[i]++;
+                    puntos[j]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Ordena la clasificación de una temporada simulada y la suma a los histogramas.
+     * <p>
+     * El orden es el de {@link Liga#getClasificacion()}: por puntos y diferencia de goles (descendentes) y, en
+     * caso de empate, por el orden de los equipos en la liga. Cada equipo se codifica en un {@code long} cuyo
+     * valor crece con su rendimiento, de modo que basta con ordenar un array de primitivos.
+     */
+    private static void acumular(Acumulador acumulador, int[] puntos, int[] diferencia, long[] claves) {
+        int n = puntos.length;
+        for (int i = 0; i < n; i++) {
+            long dg = Math.max(0, Math.min(diferencia[i] + 0x10000, 0x1FFFF));
+            claves[i] = ((long) puntos[i] << 29) | (dg << 12) | (MAX_EQUIPOS - 1 - i);
+        }
+        Arrays.sort(claves);
+        for (int posicion = 0; posicion < n; posicion++) {
+            int equipo = MAX_EQUIPOS - 1 - (int) (claves[n - 1 - posicion] & (MAX_EQUIPOS - 1));
+            acumulador.posiciones[equipo * n + posicion]++;
+            acumulador.puntos[equipo * acumulador.anchoPuntos + puntos[equipo]]++;
+            acumulador.sumaPuntos[equipo] += puntos[equipo];
+        }
+    }
+
+    /**
+     * Resultado de una proyección: para cada equipo, el histograma de posiciones finales y de puntos.
+     */
+    public static final class Resultado {
+        private final List<Equipo> equipos;
+        private final Map<Equipo, Integer> indices;
+        private final int simulaciones;
+        private final Acumulador acumulador;
+
+        private Resultado(List<Equipo> equipos, int simulaciones, Acumulador acumulador) {
+            this.equipos = equipos;
+            this.simulaciones = simulaciones;
+            this.acumulador = acumulador;
+            this.indices = new HashMap<>();
+            for (int i = 0; i < equipos.size(); i++) {
+                indices.put(equipos.get(i), i);
+            }
+        }
+
+        /**
+         * Obtiene los equipos proyectados, en el orden en que participan en la liga.
+         *
+         * @return Una lista no modificable de equipos.
+         */
+        public List<Equipo> getEquipos() {
+            return equipos;
+        }
+
+        /**
+         * Obtiene el número de temporadas simuladas.
+         *
+         * @return El número de simulaciones.
+         */
+        public int getSimulaciones() {
+            return simulaciones;
+        }
+
+        /**
+         * Obtiene cuántas veces terminó el equipo en cada posición.
+         *
+         * @param equipo El equipo a consultar.
+         * @return Un array donde el elemento {@code i} es el número de temporadas en que el equipo
+         *         terminó en la posición {@code i + 1}.
+         * @throws IllegalArgumentException si el equipo no forma parte de la proyección.
+         */
+        public int[] getHistogramaPosiciones(Equipo equipo) {
+            int n = equipos.size();
+            int i = indice(equipo);
+            return Arrays.copyOfRange(acumulador.posiciones, i * n, (i + 1) * n);
+        }
+
+        /**
+         * Obtiene cuántas veces terminó el equipo con cada número de puntos.
+         *
+         * @param equipo El equipo a consultar.
+         * @return Un array donde el elemento {@code p} es el número de temporadas en que el equipo
+         *         sumó {@code p} puntos.
+         * @throws IllegalArgumentException si el equipo no forma parte de la proyección.
+         */
+        public int[] getHistogramaPuntos(Equipo equipo) {
+            int ancho = acumulador.anchoPuntos;
+            int i = indice(equipo);
+            return Arrays.copyOfRange(acumulador.puntos, i * ancho, (i + 1) * ancho);
+        }
+
+        /**
+         * Obtiene la media de puntos del equipo en todas las simulaciones.
+         *
+         * @param equipo El equipo a consultar.
+         * @return La media de puntos.
+         * @throws IllegalArgumentException si el equipo no forma parte de la proyección.
+         */
+        public double getPuntosMedios(Equipo equipo) {
+            return (double) acumulador.sumaPuntos[indice(equipo)] / simulaciones;
+        }
+
+        /**
+         * Obtiene la probabilidad de que el equipo gane la liga.
+         *
+         * @param equipo El equipo a consultar.
+         * @return La fracción de temporadas en que el equipo terminó primero.
+         * @throws IllegalArgumentException si el equipo no forma parte de la proyección.
+         */
+        public double getProbabilidadTitulo(Equipo equipo) {
+            return (double) acumulador.posiciones[indice(equipo) * equipos.size()] / simulaciones;
+        }
+
+        /**
+         * Obtiene la probabilidad de que el equipo termine en una de las últimas posiciones.
+         *
+         * @param equipo         El equipo a consultar.
+         * @param plazasDescenso El número de posiciones de descenso (entre 0 y el número de equipos).
+         * @return La fracción de temporadas en que el equipo terminó en zona de descenso.
+         * @throws IllegalArgumentException si el equipo no forma parte de la proyección o el número
+         *                                  de plazas no es válido.
+         */
+        public double getProbabilidadDescenso(Equipo equipo, int plazasDescenso) {
+            int n = equipos.size();
+            if (plazasDescenso < 0 || plazasDescenso > n) {
+                throw new IllegalArgumentException("Número de plazas de descenso no válido: " + plazasDescenso);
+            }
+            int i = indice(equipo);
+            long descensos = 0;
+            for (int posicion = n - plazasDescenso; posicion < n; posicion++) {
+                descensos += acumulador.posiciones[i * n + posicion];
+            }
+            return (double) descensos / simulaciones;
+        }
+
+        private int indice(Equipo equipo) {
+            Integer indice = indices.get(equipo);
+            if (indice == null) {
+                throw new IllegalArgumentException("El equipo no forma parte de la proyección.");
+            }
+            return indice;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package main.java.domain;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Núcleo del modelo de goles utilizado para simular partidos.
+ * <p>
+ * Separa el cálculo del resultado de los objetos {@link Partido} y {@link Equipo}: trabaja solo con
+ * factores de rendimiento ya calculados y con un generador aleatorio proporcionado por quien lo llama,
+ * por lo que no reserva memoria por partido y puede utilizarse millones de veces seguidas
+ * (por ejemplo, en proyecciones de temporada).
+ * <p>
+ * Los goles se obtienen con el método de Knuth para la distribución de Poisson. El límite
+ * {@code e^(-lambda)} se calcula con {@link StrictMath#exp(double)}, de modo que la misma secuencia
+ * de números aleatorios produce exactamente los mismos goles en cualquier plataforma.
+ */
+public final class SimuladorPartido {
+    /**
+     * Motivación que se asume para un equipo sin entrenador.
+     */
+    public static final double MOTIVACION_SIN_ENTRENADOR = 5.0;
+
+    private SimuladorPartido() {
+    }
+
+    /**
+     * Calcula el factor de rendimiento de un equipo a partir de la calidad media de su plantilla
+     * y de la motivación de su entrenador.
+     *
+     * @param equipo El equipo para el cual calcular el factor. No puede ser nulo.
+     * @return El factor de rendimiento del equipo.
+     */
+    public static double calcularFactor(Equipo equipo) {
+        Entrenador entrenador = equipo.getEntrenador();
+        return calcularFactor(equipo.calcularCalidadMedia(),
+                entrenador != null ? entrenador.getMotivacion() : MOTIVACION_SIN_ENTRENADOR);
+    }
+
+    /**
+     * Calcula el factor de rendimiento a partir de la calidad media y la motivación del entrenador.
+     *
+     * @param calidadMedia         La calidad media de la plantilla.
+     * @param motivacionEntrenador La motivación del entrenador (entre 0 y 10).
+     * @return El factor de rendimiento.
+     */
+    public static double calcularFactor(double calidadMedia, double motivacionEntrenador) {
+        return calidadMedia * (1 + motivacionEntrenador / 20.0);
+    }
+
+    /**
+     * Calcula el límite {@code e^(-lambda)} del método de Knuth para un equipo frente a un rival.
+     * <p>
+     * Solo depende de los dos factores, así que puede calcularse una vez por enfrentamiento
+     * y reutilizarse en cada simulación con {@link #calcularGoles(double, RandomGenerator)}.
+     *
+     * @param factorPropio El factor de rendimiento del equipo para el cual se calculan los goles.
+     * @param factorRival  El factor de rendimiento del equipo rival.
+     * @return El límite de la distribución de Poisson, entre 0 (exclusivo) y 1 (inclusivo).
+     */
+    public static double calcularLimite(double factorPropio, double factorRival) {
+        // La diferencia de factores influye en la media de goles esperada
+        double diferencia = factorPropio - factorRival;
+        // Calcula la tasa base (lambda), asegurando que no sea negativa
+        double lambda = Math.max(0, 0.5 + diferencia / 50.0);
+        return StrictMath.exp(-lambda);
+    }
+
+    /**
+     * Calcula los goles de un equipo frente a un rival.
+     *
+     * @param factorPropio El factor de rendimiento del equipo para el cual se calculan los goles.
+     * @param factorRival  El factor de rendimiento del equipo rival.
+     * @param rand         El generador de números aleatorios a utilizar.
+     * @return El número de goles calculados para el equipo.
+     */
+    public static int calcularGoles(double factorPropio, double factorRival, RandomGenerator rand) {
+        return calcularGoles(calcularLimite(factorPropio, factorRival), rand);
+    }
+
+    /**
+     * Calcula unos goles siguiendo la distribución de Poisson cuyo límite se indica.
+     *
+     * @param limite El límite {@code e^(-lambda)} obtenido con {@link #calcularLimite(double, double)}.
+     * @param rand   El generador de números aleatorios a utilizar.
+     * @return El número de goles calculados.
+     */
+    public static int calcularGoles(double limite, RandomGenerator rand) {
+        int goles = 0;
+        double p = rand.nextDouble();
+        while (p > limite) {
+            goles++;
+            p *= rand.nextDouble();
+        }
+        return goles;
+    }
+}
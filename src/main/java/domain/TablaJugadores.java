@@ -0,0 +1,341 @@
+package main.java.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tabla de jugadores organizada por columnas, para análisis que recorren muchos jugadores a la vez.
+ * <p>
+ * Cada dato numérico de los jugadores se copia en su propio array de primitivos (dorsal, código de posición,
+ * calidad, motivación e identificador de equipo), de modo que recorrer una columna lee memoria contigua en lugar
+ * de visitar cada objeto {@link Jugador} por separado. La fila {@code i} de todas las columnas corresponde al
+ * mismo jugador, que se puede obtener con {@link Fila#getJugador()}.
+ * <p>
+ * La tabla es una instantánea: se construye a partir de los jugadores en un momento dado y no refleja los
+ * cambios posteriores, así que debe volver a crearse después de entrenamientos o fichajes. Las filas se
+ * leen mediante un {@link Fila}, un cursor reutilizable que se coloca sobre una fila sin crear objetos nuevos.
+ */
+public final class TablaJugadores {
+    /**
+     * Identificador de equipo de los jugadores que no pertenecen a ninguno de los equipos de la tabla.
+     */
+    public static final int SIN_EQUIPO = -1;
+
+    private final Jugador[] jugadores;
+    private final int[] dorsales;
+    private final byte[] posiciones;
+    private final double[] calidades;
+    private final double[] motivaciones;
+    private final int[] idsEquipo;
+    private final Equipo[] equipos;
+
+    private TablaJugadores(int numJugadores, Equipo[] equipos) {
+        this.jugadores = new Jugador[numJugadores];
+        this.dorsales = new int[numJugadores];
+        this.posiciones = new byte[numJugadores];
+        this.calidades = new double[numJugadores];
+        this.motivaciones = new double[numJugadores];
+        this.idsEquipo = new int[numJugadores];
+        this.equipos = equipos;
+    }
+
+    /**
+     * Crea una tabla con todos los jugadores de varios equipos. El identificador de equipo de cada jugador
+     * es la posición de su equipo en la lista.
+     *
+     * @param equipos Los equipos cuyos jugadores forman la tabla.
+     * @return La tabla de jugadores.
+     */
+    public static TablaJugadores desdeEquipos(List<Equipo> equipos) {
+        int numJugadores = 0;
+        for (Equipo equipo : equipos) {
+            numJugadores += equipo.getNumeroJugadores();
+        }
+        TablaJugadores tabla = new TablaJugadores(numJugadores, equipos.toArray(new Equipo[0]));
+        int fila = 0;
+        for (int id = 0; id < tabla.equipos.length; id++) {
+            for (Jugador jugador : tabla.equipos[id].getJugadores()) {
+                tabla.copiar(fila++, jugador, id);
+            }
+        }
+        return tabla;
+    }
+
+    /**
+     * Crea una tabla con los jugadores de una lista de personas, como el mercado de fichajes.
+     * Las personas que no son jugadores se ignoran y ningún jugador tiene equipo en la tabla.
+     *
+     * @param personas Las personas de las que se toman los jugadores.
+     * @return La tabla de jugadores.
+     */
+    public static TablaJugadores desdePersonas(List<? extends Persona> personas) {
+        int numJugadores = 0;
+        for (Persona persona : personas) {
+            if (persona instanceof Jugador) {
+                numJugadores++;
+            }
+        }
+        TablaJugadores tabla = new TablaJugadores(numJugadores, new Equipo[0]);
+        int fila = 0;
+        for (Persona persona : personas) {
+            if (persona instanceof Jugador jugador) {
+                tabla.copiar(fila++, jugador, SIN_EQUIPO);
+            }
+        }
+        return tabla;
+    }
+
+    private void copiar(int fila, Jugador jugador, int idEquipo) {
+        jugadores[fila] = jugador;
+        dorsales[fila] = jugador.getDorsal();
+        posiciones[fila] = (byte) jugador.getPosicionCampo().ordinal();
+        calidades[fila] = jugador.getCalidad();
+        motivaciones[fila] = jugador.getMotivacion();
+        idsEquipo[fila] = idEquipo;
+    }
+
+    /**
+     * Obtiene el código numérico de una posición: el ordinal de su {@link Posicion}.
+     *
+     * @param posicion El código de tres letras de la posición.
+     * @return El código numérico de la posición.
+     * @throws IllegalArgumentException si la posición no es válida.
+     */
+    public static byte codigoPosicion(String posicion) {
+        return (byte) Posicion.desdeCodigo(posicion).ordinal();
+    }
+
+    /**
+     * Obtiene el número de jugadores (filas) de la tabla.
+     *
+     * @return El número de jugadores.
+     */
+    public int size() {
+        return jugadores.length;
+    }
+
+    /**
+     * Obtiene el número de equipos de la tabla.
+     *
+     * @return El número de equipos; 0 si la tabla se creó a partir de una lista de personas.
+     */
+    public int getNumEquipos() {
+        return equipos.length;
+    }
+
+    /**
+     * Obtiene un equipo de la tabla a partir de su identificador.
+     *
+     * @param idEquipo El identificador del equipo.
+     * @return El equipo.
+     * @throws IndexOutOfBoundsException si el identificador no es válido.
+     */
+    public Equipo getEquipo(int idEquipo) {
+        return equipos[idEquipo];
+    }
+
+    /**
+     * Crea un cursor para leer las filas de la tabla. Cada cursor se puede mover por toda la tabla
+     * con {@link Fila#en(int)}; no es seguro compartir un mismo cursor entre varios hilos.
+     *
+     * @return Un cursor colocado en la primera fila.
+     */
+    public Fila fila() {
+        return new Fila();
+    }
+
+    /**
+     * Calcula la calidad media de todos los jugadores de la tabla.
+     *
+     * @return La calidad media, o 0 si la tabla está vacía.
+     */
+    public double getCalidadMedia() {
+        if (calidades.length == 0) {
+            return 0.0;
+        }
+        double suma = 0;
+        for (double calidad : calidades) {
+            suma += calidad;
+        }
+        return suma / calidades.length;
+    }
+
+    /**
+     * Calcula la calidad media de los jugadores de cada equipo en una sola pasada.
+     *
+     * @return Un array indexado por identificador de equipo con la calidad media de su plantilla,
+     *         o 0 para los equipos sin jugadores.
+     */
+    public double[] getCalidadMediaPorEquipo() {
+        double[] sumas = new double[equipos.length];
+        int[] cuentas = new int[equipos.length];
+        for (int i = 0; i < calidades.length; i++) {
+            int id = idsEquipo[i];
+            if (id != SIN_EQUIPO) {
+                sumas[id] += calidades[i];
+                cuentas[id]++;
+            }
+        }
+        for (int id = 0; id < sumas.length; id++) {
+            sumas[id] = cuentas[id] == 0 ? 0.0 : sumas[id] / cuentas[id];
+        }
+        return sumas;
+    }
+
+    /**
+     * Busca el mejor jugador de cada posición en una sola pasada, con el mismo criterio que
+     * {@link Jugador#compareTo(Jugador)} (calidad, después motivación y después apellido).
+     *
+     * @return Un array indexado por código de posición con la fila del mejor jugador de esa posición,
+     *         o -1 si no hay ninguno.
+     */
+    public int[] getMejoresPorPosicion() {
+        int[] mejores = new int[Posicion.NUM_POSICIONES];
+        Arrays.fill(mejores, -1);
+        for (int i = 0; i < posiciones.length; i++) {
+            int posicion = posiciones[i];
+            if (mejores[posicion] < 0 || comparar(i, mejores[posicion]) < 0) {
+                mejores[posicion] = i;
+            }
+        }
+        return mejores;
+    }
+
+    /**
+     * Obtiene las filas ordenadas con el criterio de {@link Jugador#compareTo(Jugador)}: calidad descendente,
+     * después motivación descendente y después apellido. La tabla no se modifica.
+     *
+     * @return Un array nuevo con los números de fila en orden.
+     */
+    public int[] getFilasPorCalidad() {
+        int[] filas = new int[jugadores.length];
+        for (int i = 0; i < filas.length; i++) {
+            filas[i] = i;
+        }
+        ordenar(filas, new int[filas.length], 0, filas.length);
+        return filas;
+    }
+
+    /**
+     * Compara dos filas con el criterio de {@link Jugador#compareTo(Jugador)}, consultando el objeto solo
+     * cuando calidad y motivación coinciden.
+     */
+    private int comparar(int a, int b) {
+        int comparacion = Double.compare(calidades[b], calidades[a]);
+        if (comparacion != 0) {
+            return comparacion;
+        }
+        comparacion = Double.compare(motivaciones[b], motivaciones[a]);
+        if (comparacion != 0) {
+            return comparacion;
+        }
+        return jugadores[a].getApellido().compareTo(jugadores[b].getApellido());
+    }
+
+    /**
+     * Ordena {@code filas[desde, hasta)} por mezcla (estable), usando {@code auxiliar} como espacio de trabajo.
+     */
+    private void ordenar(int[] filas, int[] auxiliar, int desde, int hasta) {
+        if (hasta - desde < 2) {
+            return;
+        }
+        int medio = (desde + hasta) >>> 1;
+        ordenar(filas, auxiliar, desde, medio);
+        ordenar(filas, auxiliar, medio, hasta);
+        if (comparar(filas[medio - 1], filas[medio]) <= 0) {
+            return;
+        }
+        System.arraycopy(filas, desde, auxiliar, desde, hasta - desde);
+        int i = desde;
+        int j = medio;
+        for (int k = desde; k < hasta; k++) {
+            if (j >= hasta || (i < medio && comparar(auxiliar[i], auxiliar[j]) <= 0)) {
+                filas[k] = auxiliar[i++];
+            } else {
+                filas[k] = auxiliar[j++];
+            }
+        }
+    }
+
+    /**
+     * Cursor sobre una fila de la tabla.
+     * <p>
+     * Permite leer los datos de cualquier fila sin crear un objeto por fila: se coloca en una fila con
+     * {@link #en(int)} y sus métodos devuelven los valores de esa fila.
+     */
+    public final class Fila {
+        private int fila;
+
+        private Fila() {
+        }
+
+        /**
+         * Coloca el cursor en una fila.
+         *
+         * @param fila El número de fila.
+         * @return Este mismo cursor.
+         * @throws IndexOutOfBoundsException si la fila no existe.
+         */
+        public Fila en(int fila) {
+            this.fila = Objects.checkIndex(fila, jugadores.length);
+            return this;
+        }
+
+        public int getFila() {
+            return fila;
+        }
+
+        public int getDorsal() {
+            return dorsales[fila];
+        }
+
+        public byte getCodigoPosicion() {
+            return posiciones[fila];
+        }
+
+        public String getPosicion() {
+            return getPosicionCampo().getCodigo();
+        }
+
+        public Posicion getPosicionCampo() {
+            return Posicion.desdeOrdinal(posiciones[fila]);
+        }
+
+        public double getCalidad() {
+            return calidades[fila];
+        }
+
+        public double getMotivacion() {
+            return motivaciones[fila];
+        }
+
+        /**
+         * Obtiene el identificador del equipo del jugador de la fila.
+         *
+         * @return El identificador del equipo, o {@link #SIN_EQUIPO}.
+         */
+        public int getIdEquipo() {
+            return idsEquipo[fila];
+        }
+
+        /**
+         * Obtiene el equipo del jugador de la fila.
+         *
+         * @return El equipo, o {@code null} si el jugador no tiene equipo en la tabla.
+         */
+        public Equipo getEquipo() {
+            int id = idsEquipo[fila];
+            return id == SIN_EQUIPO ? null : equipos[id];
+        }
+
+        /**
+         * Obtiene el jugador del que se copiaron los datos de la fila.
+         *
+         * @return El jugador.
+         */
+        public Jugador getJugador() {
+            return jugadores[fila];
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package main.java.services;
+
+import main.java.domain.Equipo;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Acceso aleatorio a un archivo de equipos de {@link CodecEquipos}.
+ * <p>
+ * Al abrirlo solo se leen la cabecera y el directorio; cada equipo se lee del archivo y se decodifica cuando se
+ * pide con {@link #cargar(int)}, y su nombre se puede leer sin decodificar el resto con {@link #getNombre(int)}.
+ * <p>
+ * Las lecturas son lecturas posicionales del {@link FileChannel}, que no modifican su posición, por lo que
+ * varios hilos pueden usar el mismo almacén a la vez. El archivo queda abierto hasta que se cierra el almacén y
+ * no se debe modificar ni sustituir mientras tanto: en algunos sistemas no se puede sustituir un archivo
+ * abierto, y en los demás el almacén seguiría leyendo el archivo anterior. Para guardar encima del mismo
+ * archivo hay que cerrar el almacén, sustituir el archivo y abrir el nuevo con
+ * {@link #abrir(Path, int[], int)}, que conserva los registros del almacén anterior, como hace
+ * {@link ListaEquiposPerezosa#sustituirArchivo(Path, Path)}.
+ */
+public final class AlmacenEquipos implements Closeable {
+    private final FileChannel canal;
+    private final Path archivo;
+
+    /**
+     * Posición en el archivo en la que empieza cada equipo, más la del directorio al final.
+     */
+    private final long[] posiciones;
+
+    /**
+     * Si el almacén se ha abierto con {@link #abrir(Path, int[], int)}, el equipo del archivo de cada registro
+     * del almacén anterior, o -1 si ya no está en el archivo; si no, {@code null}, y cada registro es el equipo
+     * del archivo con el mismo índice.
+     */
+    private final int[] equipoDeRegistro;
+
+    private AlmacenEquipos(FileChannel canal, Path archivo, long[] posiciones, int[] equipoDeRegistro) {
+        this.canal = canal;
+        this.archivo = archivo;
+        this.posiciones = posiciones;
+        this.equipoDeRegistro = equipoDeRegistro;
+    }
+
+    /**
+     * Abre un archivo de equipos y lee su cabecera y su directorio.
+     *
+     * @param archivo El archivo de equipos.
+     * @return El almacén del archivo.
+     * @throws IOException si no se puede abrir el archivo o no tiene el formato esperado.
+     */
+    public static AlmacenEquipos abrir(Path archivo) throws IOException {
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ);
+        try {
+            long tamano = canal.size();
+            if (tamano < CodecEquipos.TAMANO_CABECERA) {
+                throw new IOException("El archivo no es un archivo de equipos indexado.");
+            }
+            ByteBuffer cabecera = leer(canal, 0, CodecEquipos.TAMANO_CABECERA);
+            if (cabecera.getInt(0) != CodecEquipos.MAGIA
+                    || cabecera.getShort(Integer.BYTES) != CodecEquipos.VERSION) {
+                throw new IOException("El archivo no es un archivo de equipos indexado.");
+            }
+            int numEquipos = cabecera.getInt(CodecEquipos.POSICION_NUM_EQUIPOS);
+            long posicionDirectorio = cabecera.getLong(CodecEquipos.POSICION_DIRECTORIO);
+            if (numEquipos < 0 || posicionDirectorio < CodecEquipos.TAMANO_CABECERA
+                    || posicionDirectorio + (long) numEquipos * Long.BYTES != tamano) {
+                throw new IOException("El directorio del archivo de equipos no es válido.");
+            }
+
+            long[] posiciones = new long[numEquipos + 1];
+            leer(canal, posicionDirectorio, Math.toIntExact((long) numEquipos * Long.BYTES)).asLongBuffer()
+                    .get(posiciones, 0, numEquipos);
+            posiciones[numEquipos] = posicionDirectorio;
+            for (int i = 0; i < numEquipos; i++) {
+                if (posiciones[i] < CodecEquipos.TAMANO_CABECERA || posiciones[i] > posiciones[i + 1]) {
+                    throw new IOException("El directorio del archivo de equipos no es válido.");
+                }
+            }
+            return new AlmacenEquipos(canal, archivo, posiciones, null);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Abre un archivo de equipos escrito a partir de otro almacén conservando los registros de este, de modo
+     * que quien guarda registros del almacén anterior puede seguir usándolos con el nuevo.
+     *
+     * @param archivo      El archivo de equipos.
+     * @param registros    Para cada equipo del archivo, el registro del almacén anterior del que procede, o -1
+     *                     si no procede de ninguno.
+     * @param numRegistros El número de registros del almacén anterior.
+     * @return El almacén del archivo, con {@code numRegistros} registros. Los registros que no están en el
+     *         archivo no se pueden leer.
+     * @throws IOException si no se puede abrir el archivo, no tiene el formato esperado o no tiene un equipo
+     *                     por cada elemento de {@code registros}.
+     */
+    static AlmacenEquipos abrir(Path archivo, int[] registros, int numRegistros) throws IOException {
+        AlmacenEquipos almacen = abrir(archivo);
+        try {
+            if (registros.length != almacen.getNumEquipos()) {
+                throw new IOException("El archivo de equipos no corresponde a los equipos guardados.");
+            }
+            int[] equipoDeRegistro = new int[numRegistros];
+            Arrays.fill(equipoDeRegistro, -1);
+            for (int i = 0; i < registros.length; i++) {
+                if (registros[i] >= 0) {
+                    equipoDeRegistro[registros[i]] = i;
+                }
+            }
+            return new AlmacenEquipos(almacen.canal, archivo, almacen.posiciones, equipoDeRegistro);
+        } catch (IOException | RuntimeException e) {
+            almacen.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Vuelve a abrir el archivo de un almacén cerrado, con los mismos registros.
+     *
+     * @return Un almacén nuevo sobre el mismo archivo.
+     * @throws IOException si no se puede abrir el archivo o ya no es el mismo.
+     */
+    AlmacenEquipos reabrir() throws IOException {
+        AlmacenEquipos almacen = abrir(archivo);
+        if (!Arrays.equals(almacen.posiciones, posiciones)) {
+            almacen.close();
+            throw new IOException("El archivo de equipos ha cambiado.");
+        }
+        return new AlmacenEquipos(almacen.canal, archivo, posiciones, equipoDeRegistro);
+    }
+
+    /**
+     * Obtiene el archivo del que lee el almacén.
+     *
+     * @return La ruta con la que se abrió el archivo.
+     */
+    public Path getArchivo() {
+        return archivo;
+    }
+
+    /**
+     * Obtiene el número de equipos del archivo, o de registros si el almacén se ha abierto con
+     * {@link #abrir(Path, int[], int)}.
+     *
+     * @return El número de equipos.
+     */
+    public int getNumEquipos() {
+        return equipoDeRegistro != null ? equipoDeRegistro.length : posiciones.length - 1;
+    }
+
+    /**
+     * Lee el nombre de un equipo sin decodificar el resto de sus datos.
+     *
+     * @param indice El índice del equipo en el almacén.
+     * @return El nombre del equipo.
+     * @throws IOException               si ocurre un error de lectura.
+     * @throws IndexOutOfBoundsException si el índice no es válido.
+     */
+    public String getNombre(int indice) throws IOException {
+        int equipo = equipo(indice);
+        long posicion = posiciones[equipo];
+        int longitud = leer(canal, posicion, Integer.BYTES).getInt();
+        if (longitud < 0 || Integer.BYTES + (long) longitud > posiciones[equipo + 1] - posicion) {
+            throw new IOException("El nombre del equipo " + indice + " no es válido.");
+        }
+        ByteBuffer bytes = leer(canal, posicion + Integer.BYTES, longitud);
+        return new String(bytes.array(), 0, longitud, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodifica un equipo completo, con su entrenador y sus jugadores. Cada llamada crea objetos nuevos.
+     *
+     * @param indice El índice del equipo en el almacén.
+     * @return El equipo.
+     * @throws IOException               si ocurre un error de lectura o los datos del equipo no son válidos.
+     * @throws IndexOutOfBoundsException si el índice no es válido.
+     */
+    public Equipo cargar(int indice) throws IOException {
+        return CodecEquipos.leerEquipo(getRegistro(indice));
+    }
+
+    /**
+     * Lee los bytes codificados de un equipo.
+     *
+     * @param indice El índice del equipo en el almacén.
+     * @return Un búfer nuevo con el registro del equipo, listo para leer.
+     * @throws IOException               si ocurre un error de lectura.
+     * @throws IndexOutOfBoundsException si el índice no es válido.
+     */
+    public ByteBuffer getRegistro(int indice) throws IOException {
+        int equipo = equipo(indice);
+        return leer(canal, posiciones[equipo], (int) (posiciones[equipo + 1] - posiciones[equipo]));
+    }
+
+    /**
+     * Cierra el archivo. Después ya no se puede leer ningún equipo.
+     *
+     * @throws IOException si ocurre un error al cerrar el archivo.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Obtiene el equipo del archivo de un registro.
+     */
+    private int equipo(int indice) throws IOException {
+        if (indice < 0 || indice >= getNumEquipos()) {
+            throw new IndexOutOfBoundsException("Índice de equipo no válido: " + indice);
+        }
+        if (equipoDeRegistro == null) {
+            return indice;
+        }
+        if (equipoDeRegistro[indice] < 0) {
+            throw new IOException("El equipo " + indice + " ya no está en el archivo.");
+        }
+        return equipoDeRegistro[indice];
+    }
+
+    /**
+     * Lee un número de bytes a partir de una posición del archivo en un búfer nuevo, sin mover la posición
+     * del canal.
+     */
+    private static ByteBuffer leer(FileChannel canal, long posicion, int bytes) throws IOException {
+        ByteBuffer bufer = ByteBuffer.allocate(bytes);
+        while (bufer.hasRemaining()) {
+            if (canal.read(bufer, posicion + bufer.position()) < 0) {
+                throw new EOFException("El archivo de equipos está truncado.");
+            }
+        }
+        return bufer.flip();
+    }
+}
@@ -0,0 +1,487 @@
+package main.java.services;
+
+import main.java.domain.*;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Codificador binario de equipos, con sus entrenadores y jugadores.
+ * <p>
+ * Sustituye a la serialización de Java para el archivo de equipos. El formato es compacto y versionado:
+ * <ul>
+ *     <li><strong>Cabecera:</strong> número mágico {@code FMEQ} (int), versión (short), número de equipos (int)
+ *     y posición del directorio (long).</li>
+ *     <li><strong>Equipo:</strong> nombre, año de fundación, ciudad, estadio, presidente, indicador de entrenador,
+ *     entrenador (si lo tiene), número de jugadores y jugadores.</li>
+ *     <li><strong>Persona:</strong> nombre, apellido, fecha de nacimiento, sueldo y motivación.</li>
+ *     <li><strong>Jugador:</strong> datos de persona, dorsal (byte), posición (ordinal de {@link Posicion}, byte)
+ *     y calidad.</li>
+ *     <li><strong>Entrenador:</strong> datos de persona, torneos ganados (int) y si es seleccionador (byte).</li>
+ *     <li><strong>Directorio:</strong> al final del archivo, la posición (long) en la que empieza
+ *     cada equipo. Permite a {@link AlmacenEquipos} leer un equipo cualquiera sin recorrer los anteriores.</li>
+ * </ul>
+ * Las cadenas se guardan como su longitud en bytes (int, {@code -1} para {@code null}) seguida de su contenido
+ * en UTF-8, y los números como primitivos big-endian. La lectura y la escritura pasan por un {@link FileChannel}
+ * con un único búfer, sin flujos de objetos intermedios.
+ */
+public final class CodecEquipos {
+    /**
+     * Número mágico al inicio de los archivos de equipos binarios ("FMEQ").
+     */
+    public static final int MAGIA = 0x464D4551;
+
+    /**
+     * Versión actual del formato.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * Tamaño del búfer de lectura y escritura.
+     */
+    private static final int TAMANO_BUFER = 1 << 16;
+
+    /**
+     * Posición del número de equipos dentro de la cabecera.
+     */
+    static final int POSICION_NUM_EQUIPOS = Integer.BYTES + Short.BYTES;
+
+    /**
+     * Posición de la posición del directorio dentro de la cabecera.
+     */
+    static final int POSICION_DIRECTORIO = POSICION_NUM_EQUIPOS + Integer.BYTES;
+
+    /**
+     * Tamaño de la cabecera.
+     */
+    static final int TAMANO_CABECERA = POSICION_DIRECTORIO + Long.BYTES;
+
+    private CodecEquipos() {
+    }
+
+    /**
+     * Guarda una lista de equipos en un archivo, sustituyendo su contenido.
+     *
+     * @param archivo El archivo de destino.
+     * @param equipos Los equipos a guardar.
+     * @throws IOException si ocurre un error de escritura.
+     */
+    public static void guardar(Path archivo, List<Equipo> equipos) throws IOException {
+        try (Escritor escritor = new Escritor(archivo)) {
+            if (equipos instanceof ListaEquiposPerezosa perezosa) {
+                perezosa.escribirEn(escritor);
+                return;
+            }
+            for (Equipo equipo : equipos) {
+                escritor.escribir(equipo);
+            }
+        }
+    }
+
+    /**
+     * Carga todos los equipos de un archivo.
+     *
+     * @param archivo El archivo de origen.
+     * @return La lista de equipos leídos.
+     * @throws IOException si ocurre un error de lectura o el archivo no tiene el formato esperado.
+     */
+    public static List<Equipo> cargar(Path archivo) throws IOException {
+        try (Lector lector = new Lector(archivo)) {
+            List<Equipo> equipos = new ArrayList<>(lector.getNumEquipos());
+            Equipo equipo;
+            while ((equipo = lector.leer()) != null) {
+                equipos.add(equipo);
+            }
+            return equipos;
+        }
+    }
+
+    /**
+     * Comprueba si un archivo empieza con la cabecera de este formato.
+     *
+     * @param archivo El archivo a comprobar.
+     * @return {@code true} si el archivo existe y empieza con {@link #MAGIA}, {@code false} en caso contrario.
+     * @throws IOException si ocurre un error de lectura.
+     */
+    public static boolean esFormatoBinario(Path archivo) throws IOException {
+        return leerVersion(archivo) >= 0;
+    }
+
+    /**
+     * Obtiene la versión del formato de un archivo de equipos.
+     *
+     * @param archivo El archivo a comprobar.
+     * @return La versión indicada en la cabecera, o {@code -1} si el archivo no existe
+     *         o no empieza con {@link #MAGIA}.
+     * @throws IOException si ocurre un error de lectura.
+     */
+    public static int leerVersion(Path archivo) throws IOException {
+        if (!Files.isRegularFile(archivo)) {
+            return -1;
+        }
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecera = ByteBuffer.allocate(POSICION_NUM_EQUIPOS);
+            while (cabecera.hasRemaining() && canal.read(cabecera) >= 0) {
+                // Lee hasta completar la cabecera o llegar al final del archivo
+            }
+            return !cabecera.hasRemaining() && cabecera.getInt(0) == MAGIA ? cabecera.getShort(Integer.BYTES) : -1;
+        }
+    }
+
+    /**
+     * Lee un equipo completo de un búfer que contiene todo su registro, a partir de su posición actual.
+     *
+     * @param registro El búfer con los datos del equipo.
+     * @return El equipo leído.
+     * @throws IOException si los datos están truncados o no son válidos.
+     */
+    static Equipo leerEquipo(ByteBuffer registro) throws IOException {
+        return new Decodificador(registro) {
+            @Override
+            void asegurarDatos(int bytes) throws EOFException {
+                if (bufer.remaining() < bytes) {
+                    throw new EOFException("El registro del equipo está truncado.");
+                }
+            }
+        }.leerEquipo();
+    }
+
+    /**
+     * Escribe equipos uno a uno en un archivo.
+     * <p>
+     * No necesita conocer de antemano cuántos equipos se escribirán: el número y el directorio se completan
+     * al cerrar el escritor, así que se pueden guardar volúmenes que no caben en memoria (solo se guarda la
+     * posición de cada equipo, 8 bytes por equipo).
+     */
+    public static final class Escritor implements Closeable {
+        private final FileChannel canal;
+        private final ByteBuffer bufer;
+        private int numEquipos;
+
+        /**
+         * Bytes ya volcados al archivo.
+         */
+        private long volcados;
+
+        /**
+         * Posición en el archivo en la que empieza cada equipo escrito.
+         */
+        private long[] posiciones = new long[16];
+
+        /**
+         * Crea el archivo (o lo vacía si existe) y escribe la cabecera.
+         *
+         * @param archivo El archivo de destino.
+         * @throws IOException si no se puede abrir el archivo.
+         */
+        public Escritor(Path archivo) throws IOException {
+            this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.bufer = ByteBuffer.allocateDirect(TAMANO_BUFER);
+            bufer.putInt(MAGIA).putShort(VERSION).putInt(0).putLong(0);
+        }
+
+        /**
+         * Escribe un equipo con su entrenador y sus jugadores.
+         *
+         * @param equipo El equipo a escribir.
+         * @throws IOException si ocurre un error de escritura.
+         */
+        public void escribir(Equipo equipo) throws IOException {
+            registrarPosicion();
+            escribirCadena(equipo.getNombre());
+            asegurarEspacio(Integer.BYTES);
+            bufer.putInt(equipo.getAnioFundacion());
+            escribirCadena(equipo.getCiudad());
+            escribirCadena(equipo.getNombreEstadio());
+            escribirCadena(equipo.getNombrePresidente());
+
+            Entrenador entrenador = equipo.getEntrenador();
+            asegurarEspacio(1);
+            bufer.put((byte) (entrenador != null ? 1 : 0));
+            if (entrenador != null) {
+                escribirPersona(entrenador);
+                asegurarEspacio(Integer.BYTES + 1);
+                bufer.putInt(entrenador.getTorneosGanados());
+                bufer.put((byte) (entrenador.isSeleccionadorNacional() ? 1 : 0));
+            }
+
+            List<Jugador> jugadores = equipo.getJugadores();
+            asegurarEspacio(Short.BYTES);
+            bufer.putShort((short) jugadores.size());
+            for (Jugador jugador : jugadores) {
+                escribirPersona(jugador);
+                asegurarEspacio(1);
+                bufer.put((byte) jugador.getDorsal());
+                asegurarEspacio(1 + Double.BYTES);
+                bufer.put((byte) jugador.getPosicionCampo().ordinal());
+                bufer.putDouble(jugador.getCalidad());
+            }
+            numEquipos++;
+        }
+
+        /**
+         * Escribe un equipo ya codificado, copiando su registro tal cual sin crear el objeto {@link Equipo}.
+         *
+         * @param registro Los bytes del registro de un equipo, por ejemplo obtenidos con
+         *                 {@link AlmacenEquipos#getRegistro(int)}.
+         * @throws IOException si ocurre un error de escritura.
+         */
+        void escribirRegistro(ByteBuffer registro) throws IOException {
+            registrarPosicion();
+            vaciar();
+            while (registro.hasRemaining()) {
+                volcados += canal.write(registro);
+            }
+            numEquipos++;
+        }
+
+        private void registrarPosicion() {
+            if (numEquipos == posiciones.length) {
+                posiciones = Arrays.copyOf(posiciones, posiciones.length * 2);
+            }
+            posiciones[numEquipos] = volcados + bufer.position();
+        }
+
+        private void escribirPersona(Persona persona) throws IOException {
+            escribirCadena(persona.getNombre());
+            escribirCadena(persona.getApellido());
+            escribirCadena(persona.getFechaNacimiento());
+            asegurarEspacio(2 * Double.BYTES);
+            bufer.putDouble(persona.getSueldo());
+            bufer.putDouble(persona.getMotivacion());
+        }
+
+        private void escribirCadena(String cadena) throws IOException {
+            asegurarEspacio(Integer.BYTES);
+            if (cadena == null) {
+                bufer.putInt(-1);
+                return;
+            }
+            byte[] bytes = cadena.getBytes(StandardCharsets.UTF_8);
+            bufer.putInt(bytes.length);
+            int escritos = 0;
+            while (escritos < bytes.length) {
+                asegurarEspacio(1);
+                int trozo = Math.min(bufer.remaining(), bytes.length - escritos);
+                bufer.put(bytes, escritos, trozo);
+                escritos += trozo;
+            }
+        }
+
+        private void asegurarEspacio(int bytes) throws IOException {
+            if (bufer.remaining() < bytes) {
+                vaciar();
+            }
+        }
+
+        private void vaciar() throws IOException {
+            bufer.flip();
+            while (bufer.hasRemaining()) {
+                volcados += canal.write(bufer);
+            }
+            bufer.clear();
+        }
+
+        /**
+         * Escribe el directorio, completa la cabecera y cierra el archivo.
+         *
+         * @throws IOException si ocurre un error de escritura.
+         */
+        @Override
+        public void close() throws IOException {
+            try (canal) {
+                long posicionDirectorio = volcados + bufer.position();
+                for (int i = 0; i < numEquipos; i++) {
+                    asegurarEspacio(Long.BYTES);
+                    bufer.putLong(posiciones[i]);
+                }
+                vaciar();
+                ByteBuffer cabecera = ByteBuffer.allocate(Integer.BYTES + Long.BYTES)
+                        .putInt(numEquipos).putLong(posicionDirectorio).flip();
+                while (cabecera.hasRemaining()) {
+                    canal.write(cabecera, POSICION_NUM_EQUIPOS + cabecera.position());
+                }
+            }
+        }
+    }
+
+    /**
+     * Lee equipos uno a uno de un archivo.
+     */
+    public static final class Lector implements Closeable {
+        private final FileChannel canal;
+        private final Decodificador decodificador;
+        private final int numEquipos;
+        private int leidos;
+
+        /**
+         * Abre el archivo y valida la cabecera.
+         *
+         * @param archivo El archivo de origen.
+         * @throws IOException si no se puede abrir el archivo o la cabecera no es válida.
+         */
+        public Lector(Path archivo) throws IOException {
+            this.canal = FileChannel.open(archivo, StandardOpenOption.READ);
+            ByteBuffer bufer = ByteBuffer.allocateDirect(TAMANO_BUFER);
+            bufer.limit(0);
+            this.decodificador = new Decodificador(bufer) {
+                @Override
+                void asegurarDatos(int bytes) throws IOException {
+                    if (bufer.remaining() >= bytes) {
+                        return;
+                    }
+                    bufer.compact();
+                    while (bufer.position() < bytes) {
+                        if (canal.read(bufer) < 0) {
+                            throw new EOFException("El archivo de equipos está truncado.");
+                        }
+                    }
+                    bufer.flip();
+                }
+            };
+            try {
+                decodificador.asegurarDatos(POSICION_NUM_EQUIPOS + Integer.BYTES);
+                if (bufer.getInt() != MAGIA) {
+                    throw new IOException("El archivo no es un archivo de equipos binario.");
+                }
+                short version = bufer.getShort();
+                if (version != VERSION) {
+                    throw new IOException("Versión de archivo de equipos no soportada: " + version);
+                }
+                this.numEquipos = bufer.getInt();
+                // La posición del directorio no hace falta para leer de forma secuencial
+                decodificador.asegurarDatos(Long.BYTES);
+                bufer.getLong();
+            } catch (IOException e) {
+                canal.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Obtiene el número de equipos que contiene el archivo.
+         *
+         * @return El número de equipos indicado en la cabecera.
+         */
+        public int getNumEquipos() {
+            return numEquipos;
+        }
+
+        /**
+         * Lee el siguiente equipo del archivo.
+         *
+         * @return El equipo leído, o {@code null} si ya se han leído todos.
+         * @throws IOException si ocurre un error de lectura o los datos no son válidos.
+         */
+        public Equipo leer() throws IOException {
+            if (leidos == numEquipos) {
+                return null;
+            }
+            Equipo equipo = decodificador.leerEquipo();
+            leidos++;
+            return equipo;
+        }
+
+        @Override
+        public void close() throws IOException {
+            canal.close();
+        }
+    }
+
+    /**
+     * Decodifica equipos desde un búfer. Las subclases deciden cómo conseguir más datos cuando el búfer
+     * no tiene suficientes: leyéndolos de un canal o considerando que el registro está truncado.
+     */
+    private abstract static class Decodificador {
+        final ByteBuffer bufer;
+
+        Decodificador(ByteBuffer bufer) {
+            this.bufer = bufer;
+        }
+
+        /**
+         * Garantiza que quedan al menos {@code bytes} bytes por leer en el búfer.
+         *
+         * @throws IOException si no hay más datos.
+         */
+        abstract void asegurarDatos(int bytes) throws IOException;
+
+        Equipo leerEquipo() throws IOException {
+            try {
+                String nombre = leerCadena();
+                asegurarDatos(Integer.BYTES);
+                int anioFundacion = bufer.getInt();
+                String ciudad = leerCadena();
+                String estadio = leerCadena();
+                String presidente = leerCadena();
+                Equipo equipo = new Equipo(nombre, anioFundacion, ciudad, estadio, presidente);
+
+                asegurarDatos(1);
+                if (bufer.get() != 0) {
+                    String[] datos = leerDatosPersona();
+                    double sueldo = bufer.getDouble();
+                    double motivacion = bufer.getDouble();
+                    asegurarDatos(Integer.BYTES + 1);
+                    int torneos = bufer.getInt();
+                    boolean seleccionador = bufer.get() != 0;
+                    equipo.setEntrenador(new Entrenador(datos[0], datos[1], datos[2], sueldo, motivacion,
+                            torneos, seleccionador));
+                }
+
+                asegurarDatos(Short.BYTES);
+                int numJugadores = bufer.getShort();
+                for (int i = 0; i < numJugadores; i++) {
+                    String[] datos = leerDatosPersona();
+                    double sueldo = bufer.getDouble();
+                    double motivacion = bufer.getDouble();
+                    asegurarDatos(2 + Double.BYTES);
+                    int dorsal = bufer.get();
+                    Posicion posicion = Posicion.desdeOrdinal(bufer.get());
+                    double calidad = bufer.getDouble();
+                    equipo.agregarJugador(new Jugador(datos[0], datos[1], datos[2], sueldo, motivacion,
+                            dorsal, posicion, calidad));
+                }
+                return equipo;
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IOException("Datos de equipo no válidos: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Lee nombre, apellido y fecha de nacimiento, y deja en el búfer el sueldo y la motivación.
+         */
+        private String[] leerDatosPersona() throws IOException {
+            String[] datos = {leerCadena(), leerCadena(), leerCadena()};
+            asegurarDatos(2 * Double.BYTES);
+            return datos;
+        }
+
+        private String leerCadena() throws IOException {
+            asegurarDatos(Integer.BYTES);
+            int longitud = bufer.getInt();
+            if (longitud < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[longitud];
+            int leidosCadena = 0;
+            while (leidosCadena < longitud) {
+                asegurarDatos(1);
+                int trozo = Math.min(bufer.remaining(), longitud - leidosCadena);
+                bufer.get(bytes, leidosCadena, trozo);
+                leidosCadena += trozo;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package main.java.services;
+
+import main.java.domain.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Diario de cambios del mercado de fichajes, en el que solo se añaden líneas al final.
+ * <p>
+ * En lugar de reescribir el archivo completo del mercado por cada alta o baja, cada cambio
+ * se anota como una línea con el prefijo de la operación, la generación de la instantánea sobre la que se ha
+ * hecho y la persona en el mismo formato que el archivo del mercado (por ejemplo {@code A;3;J;Lamine;Yamal;...}).
+ * Al cargar, el diario se reproduce sobre la última instantánea; al guardar una instantánea nueva, el diario
+ * se vacía (compactación).
+ * <p>
+ * Cada instantánea lleva una generación mayor que la anterior ({@link LectorMercado#getGeneracion()}). Si el
+ * programa se interrumpe después de sustituir la instantánea y antes de vaciar el diario, las entradas que
+ * quedan son de una generación anterior y ya están incluidas en la instantánea, así que al reproducir se
+ * descartan en lugar de aplicarse dos veces.
+ * <p>
+ * Las personas se identifican por su tipo, nombre, apellido y fecha de nacimiento.
+ */
+public final class DiarioMercado {
+    /**
+     * Operaciones que se pueden anotar en el diario.
+     */
+    public enum Operacion {
+        /** Una persona entra en el mercado. */
+        ALTA('A'),
+        /** Una persona sale del mercado. */
+        BAJA('B');
+
+        private final char prefijo;
+
+        Operacion(char prefijo) {
+            this.prefijo = prefijo;
+        }
+
+        private static Operacion desdePrefijo(char prefijo) {
+            for (Operacion operacion : values()) {
+                if (operacion.prefijo == prefijo) {
+                    return operacion;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Path archivo;
+
+    /**
+     * Generación de la instantánea sobre la que se anotan los cambios.
+     */
+    private long generacion;
+
+    /**
+     * Número de entradas del diario, o {@code -1} si todavía no se ha contado.
+     */
+    private int numEntradas = -1;
+
+    /**
+     * Crea un diario asociado a un archivo. El archivo se crea al anotar la primera entrada.
+     *
+     * @param archivo El archivo del diario. No puede ser nulo.
+     */
+    public DiarioMercado(Path archivo) {
+        this.archivo = Objects.requireNonNull(archivo, "El archivo del diario no puede ser nulo.");
+    }
+
+    /**
+     * Anota una operación al final del diario.
+     *
+     * @param operacion La operación realizada.
+     * @param persona   La persona afectada, con sus datos después de la operación.
+     * @throws IOException si ocurre un error de escritura.
+     */
+    public void registrar(Operacion operacion, Persona persona) throws IOException {
+        String linea = operacion.prefijo + ";" + generacion + ";" + FileManager.formatearLineaMercado(persona)
+                + System.lineSeparator();
+        int anteriores = getNumEntradas();
+        Files.writeString(archivo, linea, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        numEntradas = anteriores + 1;
+    }
+
+    /**
+     * Obtiene la generación de la instantánea sobre la que se anotan los cambios.
+     *
+     * @return La generación fijada por la última reproducción o compactación, o 0 si no ha habido ninguna.
+     */
+    public long getGeneracion() {
+        return generacion;
+    }
+
+    /**
+     * Obtiene el número de entradas anotadas desde la última compactación.
+     *
+     * @return El número de entradas del diario.
+     * @throws IOException si ocurre un error al leer el diario para contarlas.
+     */
+    public int getNumEntradas() throws IOException {
+        if (numEntradas < 0) {
+            if (Files.exists(archivo)) {
+                try (BufferedReader br = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+                    numEntradas = (int) br.lines().filter(l -> !l.isBlank()).count();
+                }
+            } else {
+                numEntradas = 0;
+            }
+        }
+        return numEntradas;
+    }
+
+    /**
+     * Aplica las entradas del diario, en orden, a un mercado cargado de la instantánea, y anota los cambios
+     * siguientes sobre su generación.
+     * <p>
+     * Las entradas de generaciones anteriores a la instantánea se descartan, porque ya están incluidas en ella.
+     * Las altas se añaden al final; las bajas eliminan a la primera persona con la misma
+     * identidad que todavía siga en el mercado. Las bajas se marcan durante la reproducción y se eliminan
+     * todas juntas al terminar, de modo que el coste es lineal en el tamaño del mercado más el del diario.
+     *
+     * @param mercado    El mercado a actualizar.
+     * @param generacion La generación de la instantánea de la que se ha cargado el mercado.
+     * @param errores    El receptor de las entradas que no se pueden interpretar.
+     * @throws IOException si ocurre un error de lectura.
+     */
+    public void reproducir(List<Persona> mercado, long generacion, LectorMercado.ErrorLinea errores)
+            throws IOException {
+        this.generacion = generacion;
+        numEntradas = 0;
+        if (!Files.exists(archivo)) {
+            return;
+        }
+
+        Map<String, Deque<Integer>> posiciones = new HashMap<>();
+        for (int i = 0; i < mercado.size(); i++) {
+            posiciones.computeIfAbsent(clave(mercado.get(i)), k -> new ArrayDeque<>(1)).add(i);
+        }
+        boolean hayBajas = false;
+        LectorMercado lector = LectorMercado.paraLineas(errores);
+
+        try (BufferedReader br = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            String linea;
+            long numeroLinea = 0;
+            while ((linea = br.readLine()) != null) {
+                numeroLinea++;
+                if (linea.isBlank()) {
+                    continue;
+                }
+                numEntradas++;
+                Operacion operacion = linea.length() > 2 && linea.charAt(1) == ';'
+                        ? Operacion.desdePrefijo(linea.charAt(0)) : null;
+                if (operacion == null) {
+                    errores.lineaInvalida(numeroLinea, linea, "Operación de diario desconocida");
+                    continue;
+                }
+                int finGeneracion = linea.indexOf(';', 2);
+                long generacionEntrada;
+                try {
+                    generacionEntrada = finGeneracion < 0 ? -1 : Long.parseLong(linea, 2, finGeneracion, 10);
+                } catch (NumberFormatException e) {
+                    generacionEntrada = -1;
+                }
+                if (generacionEntrada < 0) {
+                    errores.lineaInvalida(numeroLinea, linea, "Entrada de diario sin generación");
+                    continue;
+                }
+                if (generacionEntrada < generacion) {
+                    continue;
+                }
+                if (generacionEntrada > generacion) {
+                    errores.lineaInvalida(numeroLinea, linea, "Entrada de una generación posterior a la instantánea");
+                    continue;
+                }
+                Persona persona = lector.interpretar(linea, finGeneracion + 1, numeroLinea);
+                if (persona == null) {
+                    continue;
+                }
+
+                String clave = clave(persona);
+                Deque<Integer> mismas = posiciones.get(clave);
+                switch (operacion) {
+                    case ALTA -> {
+                        posiciones.computeIfAbsent(clave, k -> new ArrayDeque<>(1)).add(mercado.size());
+                        mercado.add(persona);
+                    }
+                    case BAJA -> {
+                        if (mismas == null || mismas.isEmpty()) {
+                            errores.lineaInvalida(numeroLinea, linea, "Baja de una persona que no está en el mercado");
+                        } else {
+                            mercado.set(mismas.poll(), null);
+                            hayBajas = true;
+                        }
+                    }
+                }
+            }
+        }
+        if (hayBajas) {
+            mercado.removeIf(Objects::isNull);
+        }
+    }
+
+    /**
+     * Vacía el diario. Se usa después de guardar una instantánea completa del mercado, cuya generación pasa a
+     * ser la de los cambios siguientes.
+     *
+     * @param generacion La generación de la nueva instantánea.
+     * @throws IOException si ocurre un error al borrar el archivo.
+     */
+    public void vaciar(long generacion) throws IOException {
+        this.generacion = generacion;
+        Files.deleteIfExists(archivo);
+        numEntradas = 0;
+    }
+
+    /**
+     * Obtiene la identidad de una persona dentro del diario.
+     */
+    private static String clave(Persona persona) {
+        return (persona instanceof Jugador ? "J;" : "E;") + persona.getNombre() + ";"
+                + persona.getApellido() + ";" + persona.getFechaNacimiento();
+    }
+}
@@ -2,6 +2,8 @@ package main.java.services;
 
 import main.java.domain.*;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -22,7 +24,23 @@ public class FileManager {
     private static final String MERCADO_FILE = "src/main/resources/mercat_fitxatges.txt";
 
     /**
-     * Ruta del archivo binario donde se guardan los datos de los equipos.
+     * Ruta del diario de cambios del mercado, que se reproduce sobre {@link #MERCADO_FILE} al cargarlo.
+     */
+    private static final String MERCADO_DIARIO_FILE = "src/main/resources/mercat_fitxatges.journal";
+
+    /**
+     * Número de entradas del diario a partir del cual se guarda una instantánea completa del mercado.
+     */
+    private static final int MAX_ENTRADAS_DIARIO = 1000;
+
+    /**
+     * Diario de cambios del mercado de fichajes.
+     */
+    private static final DiarioMercado DIARIO_MERCADO = new DiarioMercado(Paths.get(MERCADO_DIARIO_FILE));
+
+    /**
+     * Ruta del archivo binario donde se guardan los datos de los equipos, en el formato de {@link CodecEquipos}.
+     * Los archivos antiguos, creados con serialización de Java, también se pueden cargar.
      */
     private static final String EQUIPOS_FILE = "src/main/resources/equipos.txt";
 
@@ -31,6 +49,34 @@ public class FileManager {
      */
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
+    /**
+     * Indica si se omiten los mensajes informativos y los avisos de líneas ignoradas.
+     */
+    private static volatile boolean silencioso;
+
+    /**
+     * Activa o desactiva el modo silencioso.
+     * <p>
+     * En modo silencioso no se muestran los mensajes informativos (personas cargadas, datos guardados...)
+     * ni los avisos de cada línea del mercado ignorada; los errores de lectura y escritura de los archivos
+     * se siguen mostrando. Está pensado para las ejecuciones sin consola y las pruebas de rendimiento.
+     *
+     * @param silencioso {@code true} para no mostrar los mensajes informativos.
+     */
+    public static void setSilencioso(boolean silencioso) {
+        FileManager.silencioso = silencioso;
+    }
+
+    /**
+     * Indica si está activado el modo silencioso.
+     *
+     * @return {@code true} si no se muestran los mensajes informativos.
+     * @see #setSilencioso(boolean)
+     */
+    public static boolean isSilencioso() {
+        return silencioso;
+    }
+
     /**
      * Carga la lista de personas (jugadores y entrenadores) desde un archivo de texto.
      * <p>
@@ -39,156 +85,358 @@ public class FileManager {
      *     <li><strong>Jugador:</strong> J;Nombre;Apellido;FechaNacimiento;Motivacion;Sueldo;Dorsal;Posicion;Calidad</li>
      *     <li><strong>Entrenador:</strong> E;Nombre;Apellido;FechaNacimiento;Motivacion;Sueldo;TorneosGanados;Seleccionador</li>
      * </ul>
+     * La primera línea puede ser una cabecera {@code G;Generacion} con la generación de la instantánea.
      * Las líneas que no cumplan con este formato serán ignoradas, mostrando un mensaje de error
-     * correspondiente.
+     * correspondiente. La lectura se hace con {@link LectorMercado}; para procesar mercados muy grandes
+     * sin guardarlos en una lista se puede usar directamente.
+     * </p>
+     * <p>
+     * Después de leer el archivo se reproducen los cambios anotados en el diario del mercado
+     * desde la última vez que se guardó completo, descartando los que son de una generación anterior.
      * </p>
      *
-     * @return Una lista de objetos {@link Persona} (jugadores y entrenadores) cargados
-     *         correctamente desde el archivo. Devuelve una lista vacía si no se puede leer
+     * @return Un {@link Mercado} con los objetos {@link Persona} (jugadores y entrenadores) cargados
+     *         correctamente desde el archivo. Devuelve un mercado vacío si no se puede leer
      *         el archivo o si los datos están vacíos.
      */
-    public static List<Persona> cargarMercado() {
+    public static Mercado cargarMercado() {
+        return cargarMercado(Paths.get(MERCADO_FILE), DIARIO_MERCADO);
+    }
+
+    /**
+     * Carga la lista de personas desde un archivo del mercado cualquiera, con el formato descrito en
+     * {@link #cargarMercado()}. No se aplica ningún diario de cambios.
+     *
+     * @param archivo El archivo a leer.
+     * @return Un mercado con las personas cargadas correctamente. Devuelve un mercado vacío si no se puede
+     *         leer el archivo.
+     */
+    public static Mercado cargarMercado(Path archivo) {
+        return cargarMercado(archivo, null);
+    }
+
+    /**
+     * Lee las personas de un archivo del mercado cualquiera, igual que {@link #cargarMercado(Path)}, pero
+     * propagando los errores de lectura en lugar de devolver un mercado vacío.
+     *
+     * @param archivo El archivo a leer.
+     * @return Un mercado con las personas cargadas correctamente.
+     * @throws IOException si el archivo no existe o no se puede leer.
+     */
+    public static Mercado leerMercado(Path archivo) throws IOException {
         List<Persona> personas = new ArrayList<>();
-        int jugadoresCargados = 0;
-        int entrenadoresCargados = 0;
-
-        try (BufferedReader br = new BufferedReader(new FileReader(MERCADO_FILE))) {
-            String linea;
-            while ((linea = br.readLine()) != null) {
-                String[] partes = linea.split(";");
-
-                if (partes.length < 6) {
-                    System.err.println("Línea con campos insuficientes: " + linea);
-                    continue;
-                }
-
-                try {
-                    String tipo = partes[0];
-                    String nombre = partes[1].trim();
-                    String apellido = partes[2].trim();
-                    String fechaNacimiento = partes[3].trim();
-                    double motivacion = Double.parseDouble(partes[4]);
-                    double sueldo = Double.parseDouble(partes[5]);
-
-                    if (nombre.isEmpty() || apellido.isEmpty()) {
-                        System.err.println("Nombre o apellido vacío en línea: " + linea);
-                        continue;
-                    }
-
-                    if (tipo.equalsIgnoreCase("J")) {
-                        if (partes.length < 9) {
-                            System.err.println("Jugador con campos insuficientes: " + linea);
-                            continue;
-                        }
-                        int dorsal = Integer.parseInt(partes[6].trim());
-                        String posicion = partes[7].trim();
-                        double calidad = Double.parseDouble(partes[8].trim());
-
-                        personas.add(new Jugador(nombre, apellido, fechaNacimiento, sueldo, motivacion, dorsal, posicion, calidad));
-                        jugadoresCargados++;
-
-                    } else if (tipo.equalsIgnoreCase("E")) {
-                        if (partes.length < 8) {
-                            System.err.println("Entrenador con campos insuficientes: " + linea);
-                            continue;
-                        }
-                        int torneosGanados = Integer.parseInt(partes[6].trim());
-                        boolean seleccionador = Boolean.parseBoolean(partes[7].trim());
-
-                        personas.add(new Entrenador(nombre, apellido, fechaNacimiento, sueldo, motivacion, torneosGanados, seleccionador));
-                        entrenadoresCargados++;
-                    } else {
-                        System.err.println("Tipo desconocido: " + tipo + " en línea: " + linea);
-                    }
-
-                } catch (Exception e) {
-                    System.err.println("Error procesando línea: " + linea);
-                    e.printStackTrace();  // Importante para debug
-                }
-            }
+        try (LectorMercado lector = LectorMercado.abrir(archivo, FileManager::informarLineaInvalida)) {
+            lector.forEach(personas::add);
+        }
+        informarPersonasCargadas(personas);
+        return new Mercado(personas);
+    }
 
+    /**
+     * Carga las personas de un archivo del mercado y, si se indica, reproduce un diario sobre ellas.
+     * Los índices del mercado se crean al final, cuando ya se han aplicado todos los cambios.
+     */
+    private static Mercado cargarMercado(Path archivo, DiarioMercado diario) {
+        List<Persona> personas = new ArrayList<>();
+        long generacion = 0;
+
+        try (LectorMercado lector = LectorMercado.abrir(archivo, FileManager::informarLineaInvalida)) {
+            generacion = lector.getGeneracion();
+            lector.forEach(personas::add);
         } catch (IOException e) {
             System.err.println("Error leyendo mercado: " + e.getMessage());
         }
+        if (diario != null) {
+            try {
+                diario.reproducir(personas, generacion, FileManager::informarLineaInvalida);
+            } catch (IOException e) {
+                System.err.println("Error leyendo diario del mercado: " + e.getMessage());
+            }
+        }
 
-        System.out.println("Jugadores cargados: " + jugadoresCargados);
-        System.out.println("Entrenadores cargados: " + entrenadoresCargados);
-        return personas;
+        informarPersonasCargadas(personas);
+        return new Mercado(personas);
     }
 
     /**
-     * Guarda una lista de equipos en un archivo binario mediante serialización.
+     * Muestra cuántos jugadores y entrenadores se han cargado, salvo en modo silencioso.
+     */
+    private static void informarPersonasCargadas(List<Persona> personas) {
+        if (!silencioso) {
+            long jugadoresCargados = personas.stream().filter(p -> p instanceof Jugador).count();
+            System.out.println("Jugadores cargados: " + jugadoresCargados);
+            System.out.println("Entrenadores cargados: " + (personas.size() - jugadoresCargados));
+        }
+    }
+
+    /**
+     * Muestra en la salida de error una línea del mercado que no se ha podido cargar, salvo en modo silencioso.
+     *
+     * @param numeroLinea El número de la línea en el archivo.
+     * @param linea       El contenido de la línea.
+     * @param motivo      La descripción del error.
+     */
+    private static void informarLineaInvalida(long numeroLinea, String linea, String motivo) {
+        if (!silencioso) {
+            System.err.printf("Línea %d ignorada (%s): %s%n", numeroLinea, motivo, linea);
+        }
+    }
+
+    /**
+     * Guarda una lista de equipos en un archivo binario con {@link CodecEquipos}.
      * <p>
-     * Serializa la lista de objetos {@link Equipo} y los guarda en el archivo binario especificado.
+     * Los datos se escriben primero en un archivo temporal que después sustituye al original,
+     * de modo que un error durante la escritura no deja el archivo de equipos a medias.
      * Si ocurre un error durante la operación de escritura, se muestra un mensaje en la consola.
      * </p>
      *
      * @param equipos Lista de equipos a guardar.
      */
     public static void guardarEquipos(List<Equipo> equipos) {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(EQUIPOS_FILE))) {
-            oos.writeObject(equipos);
-            System.out.println("Datos de equipos guardados correctamente.");
+        guardarEquipos(equipos, Paths.get(EQUIPOS_FILE));
+    }
+
+    /**
+     * Guarda una lista de equipos en el archivo indicado, igual que {@link #guardarEquipos(List)}.
+     *
+     * @param equipos Lista de equipos a guardar.
+     * @param destino El archivo en el que se guardan.
+     */
+    public static void guardarEquipos(List<Equipo> equipos, Path destino) {
+        try {
+            escribirEquipos(equipos, destino);
         } catch (IOException e) {
             System.err.println("Error guardando equipos: " + e.getMessage());
         }
     }
 
     /**
-     * Carga la lista de equipos desde un archivo binario mediante deserialización.
+     * Guarda una lista de equipos en su archivo habitual, igual que {@link #guardarEquipos(List)}, pero
+     * propagando los errores de escritura.
+     *
+     * @param equipos Lista de equipos a guardar.
+     * @throws IOException si ocurre un error de escritura.
+     */
+    public static void escribirEquipos(List<Equipo> equipos) throws IOException {
+        escribirEquipos(equipos, Paths.get(EQUIPOS_FILE));
+    }
+
+    /**
+     * Guarda una lista de equipos en el archivo indicado, igual que {@link #guardarEquipos(List, Path)}, pero
+     * propagando los errores de escritura.
+     *
+     * @param equipos Lista de equipos a guardar.
+     * @param destino El archivo en el que se guardan.
+     * @throws IOException si ocurre un error de escritura.
+     */
+    public static void escribirEquipos(List<Equipo> equipos, Path destino) throws IOException {
+        Path temporal = destino.resolveSibling(destino.getFileName() + ".tmp");
+        CodecEquipos.guardar(temporal, equipos);
+        if (equipos instanceof ListaEquiposPerezosa perezosa && perezosa.dependeDe(destino)) {
+            // La lista sigue leyendo de su archivo los equipos que no ha creado
+            perezosa.sustituirArchivo(temporal, destino);
+        } else {
+            Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        informar("Datos de equipos guardados correctamente.");
+    }
+
+    /**
+     * Carga la lista de equipos desde el archivo binario.
      * <p>
-     * Intenta leer los datos de equipos desde el archivo binario indicado. Si el archivo no existe,
+     * Si el archivo tiene el formato de {@link CodecEquipos}, se devuelve una {@link ListaEquiposPerezosa}:
+     * solo se lee el directorio de equipos y cada equipo se crea la primera vez que se accede a él, de modo
+     * que la carga es inmediata sea cual sea el tamaño del archivo. Si el archivo no tiene este formato, se
+     * intenta leer como un archivo antiguo creado mediante serialización de Java. Si el archivo no existe,
      * o si ocurre algún error durante la lectura, se devuelve una lista vacía.
      * </p>
      *
      * @return Lista de equipos cargados desde el archivo. Devuelve una lista vacía si no
      *         se encuentra el archivo o si ocurre un error.
      */
-    @SuppressWarnings("unchecked")
     public static List<Equipo> cargarEquipos() {
-        File file = new File(EQUIPOS_FILE);
-        if (!file.exists()) {
-            System.out.println("No se encontró archivo de equipos. Se creará uno nuevo.");
+        return cargarEquipos(Paths.get(EQUIPOS_FILE));
+    }
+
+    /**
+     * Carga la lista de equipos desde el archivo indicado, igual que {@link #cargarEquipos()}.
+     *
+     * @param archivo El archivo a leer.
+     * @return Lista de equipos cargados. Devuelve una lista vacía si no se encuentra el archivo
+     *         o si ocurre un error.
+     */
+    public static List<Equipo> cargarEquipos(Path archivo) {
+        if (!Files.exists(archivo)) {
+            informar("No se encontró archivo de equipos. Se creará uno nuevo.");
             return new ArrayList<>();
         }
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-            return (List<Equipo>) ois.readObject();
-        } catch (IOException | ClassNotFoundException e) {
+        try {
+            return leerEquipos(archivo);
+        } catch (IOException e) {
             System.err.println("Error cargando equipos: " + e.getMessage());
             return new ArrayList<>();
         }
     }
 
+    /**
+     * Lee la lista de equipos del archivo indicado, igual que {@link #cargarEquipos(Path)}, pero propagando
+     * los errores de lectura en lugar de devolver una lista vacía.
+     *
+     * @param archivo El archivo a leer.
+     * @return Lista de equipos cargados.
+     * @throws IOException si el archivo no existe, no se puede leer o no tiene un formato conocido.
+     */
+    public static List<Equipo> leerEquipos(Path archivo) throws IOException {
+        if (CodecEquipos.esFormatoBinario(archivo)) {
+            return ListaEquiposPerezosa.abrir(archivo);
+        }
+        try {
+            return cargarEquiposSerializados(archivo.toFile());
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Clase desconocida en el archivo de equipos: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Carga la lista de equipos de un archivo antiguo creado mediante serialización de Java.
+     *
+     * @param file El archivo a leer.
+     * @return Lista de equipos deserializados.
+     * @throws IOException            si ocurre un error de lectura.
+     * @throws ClassNotFoundException si no se encuentra la clase de algún objeto serializado.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Equipo> cargarEquiposSerializados(File file) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
+            return new ArrayList<>((List<Equipo>) ois.readObject());
+        }
+    }
+
     /**
      * Guarda una lista de personas (jugadores y entrenadores) en un archivo de texto.
      * <p>
      * El archivo generado tiene un formato que permite ser cargado de vuelta usando
-     * {@link #cargarMercado()}.
+     * {@link #cargarMercado()}. Se escribe primero en un archivo temporal que después sustituye al original;
+     * a continuación se vacía el diario del mercado, ya que la nueva instantánea incluye todos sus cambios.
+     * La instantánea empieza con una cabecera con su generación, mayor que la de la anterior y la del diario,
+     * para que las entradas del diario no se apliquen dos veces si no se llega a vaciar.
      * </p>
      *
      * @param mercado Lista de objetos {@link Persona} a guardar.
      *                Cada persona debe ser un {@link Jugador} o un {@link Entrenador}.
      */
     public static void guardarMercado(List<Persona> mercado) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(MERCADO_FILE))) {
+        try {
+            escribirMercado(mercado);
+        } catch (IOException e) {
+            System.err.println("Error guardando mercado: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Guarda el mercado en su archivo habitual, igual que {@link #guardarMercado(List)}, pero propagando los
+     * errores de escritura.
+     *
+     * @param mercado Lista de objetos {@link Persona} a guardar.
+     * @throws IOException si ocurre un error de escritura.
+     */
+    public static void escribirMercado(List<Persona> mercado) throws IOException {
+        Path destino = Paths.get(MERCADO_FILE);
+        Path temporal = destino.resolveSibling(destino.getFileName() + ".tmp");
+        long generacion = Math.max(DIARIO_MERCADO.getGeneracion(), leerGeneracion(destino)) + 1;
+        try (BufferedWriter bw = Files.newBufferedWriter(temporal, StandardCharsets.UTF_8)) {
+            bw.write(LectorMercado.PREFIJO_GENERACION + generacion);
+            bw.newLine();
             for (Persona persona : mercado) {
-                if (persona instanceof Jugador j) {
-                    pw.printf("J;%s;%s;%s;%.1f;%.1f;%d;%s;%.1f%n",
-                            j.getNombre(), j.getApellido(),
-                            j.getFechaNacimiento(),
-                            j.getMotivacion(), j.getSueldo(),
-                            j.getDorsal(), j.getPosicion(), j.getCalidad());
-                } else if (persona instanceof Entrenador e) {
-                    pw.printf("E;%s;%s;%s;%.1f;%.1f;%d;%b%n",
-                            e.getNombre(), e.getApellido(),
-                            e.getFechaNacimiento(),
-                            e.getMotivacion(), e.getSueldo(),
-                            e.getTorneosGanados(), e.isSeleccionadorNacional());
-                }
+                bw.write(formatearLineaMercado(persona));
+                bw.newLine();
+            }
+        }
+        Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        DIARIO_MERCADO.vaciar(generacion);
+        informar("Mercado de fichajes actualizado correctamente.");
+    }
+
+    /**
+     * Lee la generación de una instantánea del mercado, o devuelve 0 si no existe.
+     */
+    private static long leerGeneracion(Path archivo) throws IOException {
+        if (!Files.exists(archivo)) {
+            return 0;
+        }
+        try (LectorMercado lector = LectorMercado.abrir(archivo, (n, linea, motivo) -> { })) {
+            return lector.getGeneracion();
+        }
+    }
+
+    /**
+     * Anota en el diario del mercado que una persona ha entrado en él.
+     *
+     * @param mercado El mercado completo, que se guarda entero si el diario crece demasiado.
+     * @param persona La persona añadida.
+     */
+    public static void registrarAltaMercado(List<Persona> mercado, Persona persona) {
+        registrarEnDiario(mercado, DiarioMercado.Operacion.ALTA, persona);
+    }
+
+    /**
+     * Anota en el diario del mercado que una persona ha salido de él.
+     *
+     * @param mercado El mercado completo, que se guarda entero si el diario crece demasiado.
+     * @param persona La persona eliminada.
+     */
+    public static void registrarBajaMercado(List<Persona> mercado, Persona persona) {
+        registrarEnDiario(mercado, DiarioMercado.Operacion.BAJA, persona);
+    }
+
+    /**
+     * Añade una entrada al diario del mercado y, si supera {@link #MAX_ENTRADAS_DIARIO} entradas,
+     * lo compacta guardando el mercado completo con {@link #guardarMercado(List)}.
+     * Si no se puede escribir en el diario, también se guarda el mercado completo.
+     */
+    private static void registrarEnDiario(List<Persona> mercado, DiarioMercado.Operacion operacion, Persona persona) {
+        try {
+            DIARIO_MERCADO.registrar(operacion, persona);
+            if (DIARIO_MERCADO.getNumEntradas() < MAX_ENTRADAS_DIARIO) {
+                return;
             }
-            System.out.println("Mercado de fichajes actualizado correctamente.");
         } catch (IOException e) {
-            System.err.println("Error guardando mercado: " + e.getMessage());
+            System.err.println("Error escribiendo diario del mercado: " + e.getMessage());
+        }
+        guardarMercado(mercado);
+    }
+
+    /**
+     * Muestra un mensaje informativo en la consola, salvo en modo silencioso.
+     */
+    private static void informar(String mensaje) {
+        if (!silencioso) {
+            System.out.println(mensaje);
+        }
+    }
+
+    /**
+     * Convierte una persona en una línea del archivo del mercado (sin salto de línea).
+     * Los números se escriben siempre con punto decimal, sea cual sea la configuración regional.
+     *
+     * @param persona La persona a convertir. Debe ser un {@link Jugador} o un {@link Entrenador}.
+     * @return La línea con los datos de la persona.
+     * @throws IllegalArgumentException si la persona no es un jugador ni un entrenador.
+     */
+    static String formatearLineaMercado(Persona persona) {
+        if (persona instanceof Jugador j) {
+            return String.format(Locale.ROOT, "J;%s;%s;%s;%.1f;%.1f;%d;%s;%.1f",
+                    j.getNombre(), j.getApellido(),
+                    j.getFechaNacimiento(),
+                    j.getMotivacion(), j.getSueldo(),
+                    j.getDorsal(), j.getPosicion(), j.getCalidad());
+        } else if (persona instanceof Entrenador e) {
+            return String.format(Locale.ROOT, "E;%s;%s;%s;%.1f;%.1f;%d;%b",
+                    e.getNombre(), e.getApellido(),
+                    e.getFechaNacimiento(),
+                    e.getMotivacion(), e.getSueldo(),
+                    e.getTorneosGanados(), e.isSeleccionadorNacional());
         }
+        throw new IllegalArgumentException("Tipo de persona desconocido: " + persona.getClass().getSimpleName());
     }
-}
\ No newline at end of file
+}
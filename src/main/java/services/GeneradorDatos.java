@@ -0,0 +1,307 @@
+package main.java.services;
+
+import main.java.domain.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generador de datos sintéticos para pruebas de carga y benchmarks.
+ * <p>
+ * Crea equipos completos (entrenador y plantilla) y archivos del mercado de fichajes con el mismo formato
+ * que lee {@link FileManager#cargarMercado()}. Todos los valores se obtienen de un {@link SplittableRandom}
+ * creado con la semilla indicada, por lo que la misma semilla y los mismos tamaños producen siempre
+ * los mismos datos.
+ * <p>
+ * Los archivos se escriben en flujo: cada línea del mercado se compone en un búfer reutilizado sin crear
+ * objetos {@link Persona}, y los equipos se escriben de uno en uno con {@link CodecEquipos.Escritor}, de modo
+ * que la memoria necesaria apenas depende del tamaño de los archivos (el archivo de equipos solo guarda en memoria
+ * la posición de cada equipo para su directorio).
+ * <p>
+ * También puede ejecutarse desde la línea de comandos:
+ * {@code java main.java.services.GeneradorDatos <directorio> <equipos> <personas> [semilla]}, que crea
+ * {@code equipos.txt} y {@code mercat_fitxatges.txt} en el directorio indicado.
+ */
+public final class GeneradorDatos {
+    /**
+     * Número de jugadores de la plantilla de cada equipo generado.
+     */
+    public static final int JUGADORES_POR_EQUIPO = 23;
+
+    /**
+     * Cada cuántas personas del mercado se genera un entrenador; el resto son jugadores.
+     */
+    private static final int FRECUENCIA_ENTRENADORES = 6;
+
+    /**
+     * Posición de cada jugador de la plantilla: 3 porteros, 8 defensas, 7 centrocampistas y 5 delanteros.
+     */
+    private static final Posicion[] POSICIONES_PLANTILLA = {
+            Posicion.POR, Posicion.POR, Posicion.POR,
+            Posicion.DEF, Posicion.DEF, Posicion.DEF, Posicion.DEF,
+            Posicion.DEF, Posicion.DEF, Posicion.DEF, Posicion.DEF,
+            Posicion.MIG, Posicion.MIG, Posicion.MIG, Posicion.MIG, Posicion.MIG, Posicion.MIG, Posicion.MIG,
+            Posicion.DAV, Posicion.DAV, Posicion.DAV, Posicion.DAV, Posicion.DAV
+    };
+
+    private static final String[] NOMBRES = {
+            "Pau", "Marc", "Jordi", "Sergi", "Àlex", "Pedro", "Raúl", "Iker", "Dani", "Javi", "Carlos", "David",
+            "Lucas", "Hugo", "Mario", "Pablo", "Adrián", "Álvaro", "Diego", "Jorge", "Víctor", "Rubén", "Nico",
+            "Gerard", "Oriol", "Aitana", "Alexia", "Laia", "Mariona", "Irene", "Olga", "Salma", "Claudia", "Lucía",
+            "Marta", "Ona", "Jenni", "Patri", "Esther", "Vicky"
+    };
+
+    private static final String[] APELLIDOS = {
+            "García", "Martínez", "López", "Sánchez", "Pérez", "Gómez", "Fernández", "Rodríguez", "González",
+            "Navarro", "Torres", "Ramos", "Serrano", "Molina", "Ortega", "Delgado", "Castro", "Ruiz", "Vidal",
+            "Puig", "Soler", "Ferrer", "Roca", "Costa", "Pujol", "Font", "Vila", "Mas", "Bonet", "Riera"
+    };
+
+    private static final String[] CIUDADES = {
+            "Barcelona", "Madrid", "Valencia", "Sevilla", "Bilbao", "Girona", "Palma", "Vigo", "Oviedo",
+            "Zaragoza", "Málaga", "Cádiz", "Granada", "Almería", "Valladolid", "Pamplona", "Vitoria", "Getafe",
+            "Elche", "Huesca", "Lleida", "Tarragona", "Sabadell", "Terrassa", "Reus", "Castelló", "Alacant",
+            "Murcia", "Santander", "Gijón"
+    };
+
+    private static final String[] PREFIJOS_EQUIPO = {"CF", "CD", "UD", "Real", "Atlètic", "SD", "Racing", "CE"};
+
+    private final SplittableRandom rand;
+    private int equiposGenerados;
+
+    /**
+     * Búfer reutilizado para componer cada línea del mercado.
+     */
+    private final StringBuilder linea = new StringBuilder(96);
+
+    /**
+     * Crea un generador a partir de una semilla.
+     *
+     * @param semilla La semilla de todos los datos generados.
+     */
+    public GeneradorDatos(long semilla) {
+        this.rand = new SplittableRandom(semilla);
+    }
+
+    /**
+     * Genera el siguiente equipo, con entrenador y {@link #JUGADORES_POR_EQUIPO} jugadores.
+     * <p>
+     * Los nombres de los equipos no se repiten: cuando se agotan las combinaciones de prefijo y ciudad,
+     * se añade un número al final.
+     *
+     * @return El equipo generado.
+     */
+    public Equipo generarEquipo() {
+        int indice = equiposGenerados++;
+        int combinaciones = PREFIJOS_EQUIPO.length * CIUDADES.length;
+        String ciudad = CIUDADES[indice % CIUDADES.length];
+        String nombre = PREFIJOS_EQUIPO[(indice / CIUDADES.length) % PREFIJOS_EQUIPO.length] + " " + ciudad;
+        if (indice >= combinaciones) {
+            nombre += " " + (indice / combinaciones + 1);
+        }
+
+        Equipo equipo = new Equipo(nombre, 1880 + rand.nextInt(140), ciudad,
+                "Estadi de " + ciudad, nombreCompleto());
+        equipo.setEntrenador(new Entrenador(nombre(), apellido(), fecha(1950, 1985),
+                decimas(500_000, 50_000_000) / 10.0, decimas(1, 10) / 10.0,
+                rand.nextInt(15), rand.nextInt(10) == 0));
+
+        // Calidad base del equipo; cada jugador se reparte alrededor de ella
+        double nivel = 50 + rand.nextDouble(35);
+        int[] dorsales = dorsalesDistintos(JUGADORES_POR_EQUIPO);
+        for (int i = 0; i < JUGADORES_POR_EQUIPO; i++) {
+            double calidad = Math.round(Math.max(30, Math.min(100, nivel + rand.nextGaussian() * 8)) * 10) / 10.0;
+            equipo.agregarJugador(new Jugador(nombre(), apellido(), fecha(1985, 2007),
+                    decimas(200_000, 50_000_000) / 10.0, decimas(1, 10) / 10.0,
+                    dorsales[i], POSICIONES_PLANTILLA[i], calidad));
+        }
+        return equipo;
+    }
+
+    /**
+     * Genera varios equipos seguidos y los devuelve en una lista.
+     *
+     * @param numEquipos El número de equipos a generar.
+     * @return La lista de equipos generados.
+     * @throws IllegalArgumentException si el número de equipos es negativo.
+     */
+    public List<Equipo> generarEquipos(int numEquipos) {
+        if (numEquipos < 0) {
+            throw new IllegalArgumentException("El número de equipos no puede ser negativo.");
+        }
+        List<Equipo> equipos = new ArrayList<>(numEquipos);
+        for (int i = 0; i < numEquipos; i++) {
+            equipos.add(generarEquipo());
+        }
+        return equipos;
+    }
+
+    /**
+     * Genera equipos y los escribe uno a uno en un archivo con el formato de {@link CodecEquipos}.
+     * Solo hay un equipo en memoria en cada momento.
+     *
+     * @param archivo    El archivo de destino. Si existe, se sobrescribe.
+     * @param numEquipos El número de equipos a generar.
+     * @throws IOException              si ocurre un error de escritura.
+     * @throws IllegalArgumentException si el número de equipos es negativo.
+     */
+    public void escribirEquipos(Path archivo, int numEquipos) throws IOException {
+        if (numEquipos < 0) {
+            throw new IllegalArgumentException("El número de equipos no puede ser negativo.");
+        }
+        try (CodecEquipos.Escritor escritor = new CodecEquipos.Escritor(archivo)) {
+            for (int i = 0; i < numEquipos; i++) {
+                escritor.escribir(generarEquipo());
+            }
+        }
+    }
+
+    /**
+     * Genera un archivo del mercado de fichajes codificado en UTF-8.
+     *
+     * @param archivo     El archivo de destino. Si existe, se sobrescribe.
+     * @param numPersonas El número de líneas (personas) a generar.
+     * @throws IOException              si ocurre un error de escritura.
+     * @throws IllegalArgumentException si el número de personas es negativo.
+     * @see #escribirMercado(Writer, long)
+     */
+    public void escribirMercado(Path archivo, long numPersonas) throws IOException {
+        if (numPersonas < 0) {
+            throw new IllegalArgumentException("El número de personas no puede ser negativo.");
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            escribirMercado(writer, numPersonas);
+        }
+    }
+
+    /**
+     * Escribe líneas del mercado de fichajes en un {@link Writer}, con el formato que lee
+     * {@link FileManager#cargarMercado()}: una de cada {@value #FRECUENCIA_ENTRENADORES} personas es un
+     * entrenador y el resto son jugadores. Los números decimales se escriben con un decimal y punto decimal.
+     * El writer no se cierra.
+     *
+     * @param writer      El destino de las líneas.
+     * @param numPersonas El número de líneas (personas) a generar.
+     * @throws IOException              si ocurre un error de escritura.
+     * @throws IllegalArgumentException si el número de personas es negativo.
+     */
+    public void escribirMercado(Writer writer, long numPersonas) throws IOException {
+        if (numPersonas < 0) {
+            throw new IllegalArgumentException("El número de personas no puede ser negativo.");
+        }
+        for (long i = 0; i < numPersonas; i++) {
+            linea.setLength(0);
+            if (i % FRECUENCIA_ENTRENADORES == FRECUENCIA_ENTRENADORES - 1) {
+                linea.append("E;").append(nombre()).append(';').append(apellido()).append(';')
+                        .append(fecha(1950, 1985)).append(';');
+                agregarDecimas(decimas(1, 10)).append(';');
+                agregarDecimas(decimas(500_000, 50_000_000)).append(';')
+                        .append(rand.nextInt(15)).append(';')
+                        .append(rand.nextInt(10) == 0);
+            } else {
+                linea.append("J;").append(nombre()).append(';').append(apellido()).append(';')
+                        .append(fecha(1985, 2007)).append(';');
+                agregarDecimas(decimas(1, 10)).append(';');
+                agregarDecimas(decimas(200_000, 50_000_000)).append(';')
+                        .append(Jugador.DORSAL_MINIMO + rand.nextInt(Jugador.DORSAL_MAXIMO)).append(';')
+                        .append(Jugador.POSICIONES[rand.nextInt(Jugador.POSICIONES.length)]).append(';');
+                agregarDecimas(decimas(30, 100));
+            }
+            linea.append(System.lineSeparator());
+            writer.append(linea);
+        }
+    }
+
+    /**
+     * Obtiene un valor aleatorio en décimas entre dos valores enteros (ambos incluidos).
+     */
+    private long decimas(long minimo, long maximo) {
+        return rand.nextLong(minimo * 10, maximo * 10 + 1);
+    }
+
+    /**
+     * Añade a la línea un valor expresado en décimas con un decimal, por ejemplo {@code 1234} como {@code 123.4}.
+     */
+    private StringBuilder agregarDecimas(long decimas) {
+        return linea.append(decimas / 10).append('.').append(decimas % 10);
+    }
+
+    /**
+     * Elige {@code cantidad} dorsales distintos al azar (Fisher-Yates parcial).
+     */
+    private int[] dorsalesDistintos(int cantidad) {
+        int[] dorsales = new int[Jugador.DORSAL_MAXIMO - Jugador.DORSAL_MINIMO + 1];
+        for (int i = 0; i < dorsales.length; i++) {
+            dorsales[i] = Jugador.DORSAL_MINIMO + i;
+        }
+        for (int i = 0; i < cantidad; i++) {
+            int j = i + rand.nextInt(dorsales.length - i);
+            int aux = dorsales[i];
+            dorsales[i] = dorsales[j];
+            dorsales[j] = aux;
+        }
+        return dorsales;
+    }
+
+    private String nombre() {
+        return NOMBRES[rand.nextInt(NOMBRES.length)];
+    }
+
+    private String apellido() {
+        return APELLIDOS[rand.nextInt(APELLIDOS.length)];
+    }
+
+    private String nombreCompleto() {
+        return nombre() + " " + apellido();
+    }
+
+    /**
+     * Genera una fecha con el formato {@code dd/MM/yyyy} entre dos años (ambos incluidos).
+     */
+    private String fecha(int anioMinimo, int anioMaximo) {
+        int dia = 1 + rand.nextInt(28);
+        int mes = 1 + rand.nextInt(12);
+        int anio = rand.nextInt(anioMinimo, anioMaximo + 1);
+        return (dia < 10 ? "0" : "") + dia + "/" + (mes < 10 ? "0" : "") + mes + "/" + anio;
+    }
+
+    /**
+     * Genera un archivo de equipos y un archivo del mercado.
+     *
+     * @param args El directorio de destino, el número de equipos, el número de personas del mercado y,
+     *             opcionalmente, la semilla (por defecto 42).
+     */
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Uso: GeneradorDatos <directorio> <equipos> <personas> [semilla]");
+            System.exit(1);
+        }
+        try {
+            Path directorio = Paths.get(args[0]);
+            int numEquipos = Integer.parseInt(args[1]);
+            long numPersonas = Long.parseLong(args[2]);
+            long semilla = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+            Files.createDirectories(directorio);
+            GeneradorDatos generador = new GeneradorDatos(semilla);
+            generador.escribirEquipos(directorio.resolve("equipos.txt"), numEquipos);
+            generador.escribirMercado(directorio.resolve("mercat_fitxatges.txt"), numPersonas);
+            System.out.printf("Generados %d equipos y %d personas del mercado en %s%n",
+                    numEquipos, numPersonas, directorio);
+        } catch (NumberFormatException e) {
+            System.err.println("Número no válido: " + e.getMessage());
+            System.exit(1);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error generando datos: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package main.java.services;
+
+import main.java.domain.Equipo;
+
+import java.util.*;
+
+/**
+ * Índice de los equipos por nombre, sin distinguir mayúsculas y minúsculas, que acompaña a una lista de equipos.
+ * <p>
+ * Cada nombre se guarda normalizado ({@link #clave(String)}) en un {@link HashMap}, de modo que comprobar si
+ * un nombre existe o buscar su equipo cuesta O(1), y en un {@link TreeMap} ordenado, que permite buscar por el
+ * principio del nombre en O(log n + resultados). El índice no observa la lista: quien añade o elimina equipos
+ * debe llamar también a {@link #agregar(Equipo)} y {@link #eliminar(Equipo)}.
+ * <p>
+ * Si la lista es una {@link ListaEquiposPerezosa}, el índice se construye con los nombres del almacén sin crear
+ * ningún equipo, y cada equipo se crea la primera vez que se busca.
+ * <p>
+ * Si la lista ya contenía varios equipos con el mismo nombre (por ejemplo, de un archivo guardado por una versión
+ * anterior), las búsquedas devuelven el primero, y los demás se guardan aparte en el orden de la lista: cuando
+ * se elimina el primero, su nombre pasa al siguiente, de modo que ningún equipo de la lista deja de ser
+ * accesible por su nombre.
+ * <p>
+ * No es seguro para hilos.
+ */
+public final class IndiceEquipos {
+    /**
+     * Para cada clave, el {@link Equipo} o el {@link Integer} con su registro en la lista perezosa.
+     */
+    private final HashMap<String, Object> equipos;
+
+    /**
+     * Nombre original de cada clave, ordenado por clave.
+     */
+    private final TreeMap<String, String> nombres = new TreeMap<>();
+
+    /**
+     * Para las claves con más de un equipo en la lista, los equipos que siguen al indexado, en el orden de la
+     * lista, con la misma representación que en {@link #equipos}.
+     */
+    private final HashMap<String, ArrayDeque<Object>> repetidos = new HashMap<>();
+
+    private final ListaEquiposPerezosa perezosa;
+
+    /**
+     * Construye el índice de los equipos de una lista.
+     *
+     * @param lista La lista de equipos.
+     */
+    public IndiceEquipos(List<Equipo> lista) {
+        this.equipos = new HashMap<>(Math.max(16, (int) (lista.size() / 0.75f) + 1));
+        this.perezosa = lista instanceof ListaEquiposPerezosa p ? p : null;
+        for (int i = 0; i < lista.size(); i++) {
+            String nombre;
+            Object equipo;
+            if (perezosa != null && perezosa.getRegistro(i) >= 0) {
+                nombre = perezosa.getNombre(i);
+                equipo = perezosa.getRegistro(i);
+            } else {
+                nombre = lista.get(i).getNombre();
+                equipo = lista.get(i);
+            }
+            if (!indexar(nombre, equipo)) {
+                repetidos.computeIfAbsent(clave(nombre), c -> new ArrayDeque<>(2)).add(equipo);
+            }
+        }
+    }
+
+    /**
+     * Normaliza un nombre de equipo para compararlo sin distinguir mayúsculas y minúsculas.
+     *
+     * @param nombre El nombre.
+     * @return La clave del nombre en el índice.
+     */
+    public static String clave(String nombre) {
+        return nombre.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    private boolean indexar(String nombre, Object equipo) {
+        String clave = clave(nombre);
+        if (equipos.putIfAbsent(clave, equipo) != null) {
+            return false;
+        }
+        nombres.put(clave, nombre);
+        return true;
+    }
+
+    /**
+     * Indica si hay un equipo con un nombre, sin distinguir mayúsculas y minúsculas.
+     *
+     * @param nombre El nombre.
+     * @return {@code true} si el nombre ya está en uso.
+     */
+    public boolean contiene(String nombre) {
+        return equipos.containsKey(clave(nombre));
+    }
+
+    /**
+     * Busca el equipo con un nombre, sin distinguir mayúsculas y minúsculas.
+     *
+     * @param nombre El nombre.
+     * @return El equipo, o {@code null} si no hay ningún equipo con ese nombre.
+     */
+    public Equipo buscar(String nombre) {
+        String clave = clave(nombre);
+        Object equipo = equipos.get(clave);
+        if (equipo instanceof Integer registro) {
+            Equipo cargado = perezosa.getPorRegistro(registro);
+            equipos.put(clave, cargado);
+            return cargado;
+        }
+        return (Equipo) equipo;
+    }
+
+    /**
+     * Obtiene el equipo de una entrada del índice, creándolo si es un registro de la lista perezosa.
+     */
+    private Equipo cargar(Object equipo) {
+        return equipo instanceof Integer registro ? perezosa.getPorRegistro(registro) : (Equipo) equipo;
+    }
+
+    /**
+     * Busca los nombres de los equipos que empiezan por un prefijo, sin distinguir mayúsculas y minúsculas.
+     *
+     * @param prefijo El principio del nombre. Si está vacío, se devuelven los primeros nombres.
+     * @param max     El número máximo de nombres.
+     * @return Una lista nueva con los nombres encontrados, en orden alfabético sin distinguir mayúsculas.
+     */
+    public List<String> buscarPorPrefijo(String prefijo, int max) {
+        String desde = clave(prefijo);
+        List<String> encontrados = new ArrayList<>(Math.min(max, 16));
+        for (Map.Entry<String, String> entrada : nombres.tailMap(desde, true).entrySet()) {
+            if (encontrados.size() >= max || !entrada.getKey().startsWith(desde)) {
+                break;
+            }
+            encontrados.add(entrada.getValue());
+        }
+        return encontrados;
+    }
+
+    /**
+     * Añade un equipo al índice.
+     *
+     * @param equipo El equipo.
+     * @throws IllegalArgumentException si ya hay un equipo con el mismo nombre.
+     */
+    public void agregar(Equipo equipo) {
+        if (!indexar(equipo.getNombre(), equipo)) {
+            throw new IllegalArgumentException("Ya existe un equipo con el nombre " + equipo.getNombre() + ".");
+        }
+    }
+
+    /**
+     * Elimina un equipo del índice. Si era el equipo indexado con su nombre y la lista tenía otros equipos con el
+     * mismo nombre, el nombre pasa al siguiente.
+     *
+     * @param equipo El equipo.
+     * @return {@code true} si el equipo estaba en el índice.
+     */
+    public boolean eliminar(Equipo equipo) {
+        String clave = clave(equipo.getNombre());
+        ArrayDeque<Object> siguientes = repetidos.get(clave);
+        if (buscar(equipo.getNombre()) != equipo) {
+            return siguientes != null && eliminarRepetido(clave, siguientes, equipo);
+        }
+        if (siguientes == null) {
+            equipos.remove(clave);
+            nombres.remove(clave);
+            return true;
+        }
+        Equipo siguiente = cargar(siguientes.removeFirst());
+        if (siguientes.isEmpty()) {
+            repetidos.remove(clave);
+        }
+        equipos.put(clave, siguiente);
+        nombres.put(clave, siguiente.getNombre());
+        return true;
+    }
+
+    private boolean eliminarRepetido(String clave, ArrayDeque<Object> siguientes, Equipo equipo) {
+        for (Iterator<Object> it = siguientes.iterator(); it.hasNext(); ) {
+            if (cargar(it.next()) == equipo) {
+                it.remove();
+                if (siguientes.isEmpty()) {
+                    repetidos.remove(clave);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene el número de nombres indexados. Los equipos con el mismo nombre cuentan una sola vez.
+     *
+     * @return El número de nombres distintos del índice.
+     */
+    public int size() {
+        return equipos.size();
+    }
+}
@@ -13,6 +13,15 @@ import java.util.Scanner;
  * </p>
  */
 public class InputHelper {
+    /**
+     * Opción devuelta por {@link #leerOpcionPagina(Scanner, int, boolean, boolean)} para ir a la página siguiente.
+     */
+    public static final int PAGINA_SIGUIENTE = -1;
+
+    /**
+     * Opción devuelta por {@link #leerOpcionPagina(Scanner, int, boolean, boolean)} para ir a la página anterior.
+     */
+    public static final int PAGINA_ANTERIOR = -2;
 
     /**
      * Lee un número entero introducido por el usuario desde la consola, validando que
@@ -117,4 +126,36 @@ public class InputHelper {
             System.out.print("El camp no pot estar buit. Torna a intentar: ");
         }
     }
+
+    /**
+     * Lee la opción elegida en un listado paginado: un elemento de la página (de 1 a {@code max}),
+     * {@code 0} para volver, {@code n} para la página siguiente o {@code p} para la anterior.
+     * Las letras solo se aceptan si existe la página correspondiente.
+     *
+     * @param scanner      La instancia de {@link Scanner} utilizada para leer la entrada del usuario.
+     * @param max          El número de elementos de la página.
+     * @param hayAnterior  Indica si existe una página anterior.
+     * @param haySiguiente Indica si existe una página siguiente.
+     * @return El número elegido, {@link #PAGINA_SIGUIENTE} o {@link #PAGINA_ANTERIOR}.
+     */
+    public static int leerOpcionPagina(Scanner scanner, int max, boolean hayAnterior, boolean haySiguiente) {
+        while (true) {
+            String entrada = scanner.nextLine().trim();
+            if (haySiguiente && entrada.equalsIgnoreCase("n")) {
+                return PAGINA_SIGUIENTE;
+            }
+            if (hayAnterior && entrada.equalsIgnoreCase("p")) {
+                return PAGINA_ANTERIOR;
+            }
+            try {
+                int valor = Integer.parseInt(entrada);
+                if (valor >= 0 && valor <= max) {
+                    return valor;
+                }
+                System.out.printf("Introdueix un valor entre %d i %d: ", 0, max);
+            } catch (NumberFormatException e) {
+                System.out.print("Opció no vàlida. Torna a intentar: ");
+            }
+        }
+    }
 }
\ No newline at end of file
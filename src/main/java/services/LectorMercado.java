@@ -0,0 +1,447 @@
+package main.java.services;
+
+import main.java.domain.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lector en flujo del archivo del mercado de fichajes.
+ * <p>
+ * Lee el formato de texto descrito en {@link FileManager#cargarMercado()} sin cargar el archivo entero ni
+ * usar {@link String#split(String)}: las líneas se leen en un búfer de caracteres, los campos separados por
+ * {@code ;} se delimitan sobre el propio búfer y los números se convierten directamente desde él. Solo se crean
+ * cadenas para los campos de texto de cada persona.
+ * <p>
+ * Las personas se entregan de una en una ({@link #siguiente()}, {@link #forEach(Consumer)} o {@link #stream()}),
+ * por lo que el archivo puede tener millones de líneas. Las líneas con errores no detienen la lectura: se
+ * notifican a un {@link ErrorLinea} y se pasa a la siguiente. Las líneas en blanco se ignoran.
+ * <p>
+ * La primera línea puede ser una cabecera {@code G;n} con la generación de la instantánea
+ * ({@link #getGeneracion()}), que {@link DiarioMercado} usa para descartar los cambios que ya incluye.
+ * <p>
+ * Para interpretar líneas sueltas que ya están en memoria, como las del {@link DiarioMercado}, se puede crear
+ * un único lector con {@link #paraLineas(ErrorLinea)} y pasarle cada línea a {@link #interpretar(String, int, long)},
+ * que reutiliza su búfer.
+ */
+public final class LectorMercado implements Closeable {
+    /**
+     * Receptor de las líneas del mercado que no se han podido interpretar.
+     */
+    @FunctionalInterface
+    public interface ErrorLinea {
+        /**
+         * Notifica una línea no válida.
+         *
+         * @param numeroLinea El número de la línea en el archivo, empezando por 1.
+         * @param linea       El contenido de la línea, sin el salto de línea.
+         * @param motivo      La descripción del error.
+         */
+        void lineaInvalida(long numeroLinea, String linea, String motivo);
+    }
+
+    private static final int TAMANO_BUFER = 1 << 16;
+
+    /**
+     * Tamaño inicial del búfer de los lectores de líneas sueltas, que crece si alguna línea no cabe.
+     */
+    private static final int TAMANO_BUFER_LINEA = 256;
+    private static final int MAX_CAMPOS = 9;
+
+    /**
+     * Potencias de 10 que se representan exactamente como {@code double}.
+     */
+    private static final double[] POTENCIAS_10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Prefijo de la línea de cabecera con la generación de la instantánea.
+     */
+    static final String PREFIJO_GENERACION = "G;";
+
+    private final Reader reader;
+    private final ErrorLinea errores;
+    private char[] bufer;
+    private int inicioLinea;
+    private int finDatos;
+    private boolean finArchivo;
+    private long numeroLinea;
+    private boolean cabeceraLeida;
+    private long generacion;
+
+    /**
+     * Inicio y fin (exclusivo) de cada campo de la línea actual, ya sin espacios en los extremos.
+     */
+    private final int[] inicios = new int[MAX_CAMPOS];
+    private final int[] finales = new int[MAX_CAMPOS];
+    private int numCampos;
+    private int inicio;
+    private int fin;
+
+    /**
+     * Crea un lector sobre un {@link Reader}. El lector no añade ningún búfer propio.
+     *
+     * @param reader  El origen de los datos. No puede ser nulo.
+     * @param errores El receptor de las líneas no válidas. No puede ser nulo.
+     */
+    public LectorMercado(Reader reader, ErrorLinea errores) {
+        this(reader, errores, TAMANO_BUFER);
+    }
+
+    private LectorMercado(Reader reader, ErrorLinea errores, int tamanoBufer) {
+        this.reader = Objects.requireNonNull(reader, "El reader no puede ser nulo.");
+        this.errores = Objects.requireNonNull(errores, "El receptor de errores no puede ser nulo.");
+        this.bufer = new char[tamanoBufer];
+    }
+
+    /**
+     * Crea un lector sin origen de datos, para interpretar líneas sueltas con {@link #interpretar(String, int, long)}.
+     *
+     * @param errores El receptor de las líneas no válidas. No puede ser nulo.
+     * @return Un lector de líneas sueltas.
+     */
+    public static LectorMercado paraLineas(ErrorLinea errores) {
+        return new LectorMercado(Reader.nullReader(), errores, TAMANO_BUFER_LINEA);
+    }
+
+    /**
+     * Abre un archivo del mercado codificado en UTF-8.
+     *
+     * @param archivo El archivo a leer.
+     * @param errores El receptor de las líneas no válidas.
+     * @return Un lector sobre el archivo, que debe cerrarse al terminar.
+     * @throws IOException si no se puede abrir el archivo.
+     */
+    public static LectorMercado abrir(Path archivo, ErrorLinea errores) throws IOException {
+        return new LectorMercado(new InputStreamReader(Files.newInputStream(archivo), StandardCharsets.UTF_8), errores);
+    }
+
+    /**
+     * Lee la siguiente persona válida.
+     *
+     * @return El {@link Jugador} o {@link Entrenador} leído, o {@code null} si se ha llegado al final.
+     * @throws IOException si ocurre un error de lectura.
+     */
+    public Persona siguiente() throws IOException {
+        leerCabecera();
+        while (siguienteLinea()) {
+            if (fin == inicio) {
+                continue;
+            }
+            Persona persona = interpretarLinea();
+            if (persona != null) {
+                return persona;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene la generación de la instantánea, leyendo la cabecera si todavía no se ha leído.
+     *
+     * @return La generación indicada en la cabecera, o 0 si el archivo no tiene cabecera.
+     * @throws IOException si ocurre un error de lectura.
+     */
+    public long getGeneracion() throws IOException {
+        leerCabecera();
+        return generacion;
+    }
+
+    /**
+     * Lee la primera línea y, si no es una cabecera, la deja para que se lea como persona.
+     */
+    private void leerCabecera() throws IOException {
+        if (cabeceraLeida) {
+            return;
+        }
+        cabeceraLeida = true;
+        if (!siguienteLinea()) {
+            return;
+        }
+        if (fin - inicio > 2 && bufer[inicio] == 'G' && bufer[inicio + 1] == ';') {
+            separarCampos();
+            try {
+                generacion = Long.parseLong(texto(1));
+            } catch (NumberFormatException e) {
+                error("Cabecera no válida");
+            }
+            return;
+        }
+        // Los datos de la línea siguen en el búfer: basta con volver a su inicio
+        inicioLinea = inicio;
+        numeroLinea--;
+    }
+
+    /**
+     * Interpreta una línea suelta, desde una posición hasta el final, reutilizando el búfer del lector. Solo debe
+     * usarse con lectores creados con {@link #paraLineas(ErrorLinea)}.
+     *
+     * @param linea       La línea, sin salto de línea.
+     * @param desde       La posición de la línea en la que empiezan los datos de la persona.
+     * @param numeroLinea El número de línea que se notifica si la línea no es válida.
+     * @return La persona de la línea, o {@code null} si está en blanco o no es válida (y ya se ha notificado).
+     */
+    public Persona interpretar(String linea, int desde, long numeroLinea) {
+        int longitud = linea.length() - desde;
+        if (longitud > bufer.length) {
+            bufer = new char[Math.max(longitud, bufer.length * 2)];
+        }
+        linea.getChars(desde, linea.length(), bufer, 0);
+        inicio = 0;
+        fin = longitud;
+        this.numeroLinea = numeroLinea;
+        while (fin > inicio && bufer[fin - 1] <= ' ') fin--;
+        return fin == inicio ? null : interpretarLinea();
+    }
+
+    /**
+     * Entrega todas las personas restantes a un consumidor.
+     *
+     * @param consumidor El consumidor de las personas leídas.
+     * @throws IOException si ocurre un error de lectura.
+     */
+    public void forEach(Consumer<? super Persona> consumidor) throws IOException {
+        Persona persona;
+        while ((persona = siguiente()) != null) {
+            consumidor.accept(persona);
+        }
+    }
+
+    /**
+     * Devuelve las personas restantes como un {@link Stream} secuencial y perezoso.
+     * <p>
+     * Cerrar el stream cierra también este lector. Los errores de lectura se lanzan como {@link UncheckedIOException}.
+     *
+     * @return Un stream con las personas del archivo.
+     */
+    public Stream<Persona> stream() {
+        Spliterator<Persona> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Persona> accion) {
+                try {
+                    Persona persona = siguiente();
+                    if (persona == null) {
+                        return false;
+                    }
+                    accion.accept(persona);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Avanza a la siguiente línea y deja sus límites en {@link #inicio} y {@link #fin}.
+     *
+     * @return {@code false} si no quedan más líneas.
+     */
+    private boolean siguienteLinea() throws IOException {
+        int buscarDesde = inicioLinea;
+        while (true) {
+            for (int i = buscarDesde; i < finDatos; i++) {
+                if (bufer[i] == '\n') {
+                    marcarLinea(i, i + 1);
+                    return true;
+                }
+            }
+            if (finArchivo) {
+                if (inicioLinea == finDatos) {
+                    return false;
+                }
+                marcarLinea(finDatos, finDatos);
+                return true;
+            }
+            buscarDesde = finDatos - inicioLinea;
+            rellenar();
+        }
+    }
+
+    private void marcarLinea(int finLinea, int siguiente) {
+        inicio = inicioLinea;
+        fin = finLinea > inicio && bufer[finLinea - 1] == '\r' ? finLinea - 1 : finLinea;
+        inicioLinea = siguiente;
+        numeroLinea++;
+    }
+
+    /**
+     * Mueve la línea incompleta al principio del búfer (ampliándolo si no cabe) y lee más datos a continuación.
+     */
+    private void rellenar() throws IOException {
+        int pendiente = finDatos - inicioLinea;
+        if (pendiente == bufer.length) {
+            char[] mayor = new char[bufer.length * 2];
+            System.arraycopy(bufer, inicioLinea, mayor, 0, pendiente);
+            bufer = mayor;
+        } else {
+            System.arraycopy(bufer, inicioLinea, bufer, 0, pendiente);
+        }
+        inicioLinea = 0;
+        finDatos = pendiente;
+        int leidos = reader.read(bufer, finDatos, bufer.length - finDatos);
+        if (leidos < 0) {
+            finArchivo = true;
+        } else {
+            finDatos += leidos;
+        }
+    }
+
+    /**
+     * Interpreta la línea actual.
+     *
+     * @return La persona de la línea, o {@code null} si la línea no es válida (y ya se ha notificado).
+     */
+    private Persona interpretarLinea() {
+        separarCampos();
+        if (numCampos < 6) {
+            return error("Línea con campos insuficientes");
+        }
+        char tipo = finales[0] - inicios[0] == 1 ? Character.toUpperCase(bufer[inicios[0]]) : '?';
+        if (tipo != 'J' && tipo != 'E') {
+            return error("Tipo desconocido: " + texto(0));
+        }
+        if (tipo == 'J' && numCampos < 9) {
+            return error("Jugador con campos insuficientes");
+        }
+        if (tipo == 'E' && numCampos < 8) {
+            return error("Entrenador con campos insuficientes");
+        }
+        if (finales[1] == inicios[1] || finales[2] == inicios[2]) {
+            return error("Nombre o apellido vacío");
+        }
+
+        try {
+            double motivacion = decimal(4);
+            double sueldo = decimal(5);
+            if (tipo == 'J') {
+                int dorsal = entero(6);
+                String posicion = texto(7);
+                double calidad = decimal(8);
+                return new Jugador(texto(1), texto(2), texto(3), sueldo, motivacion, dorsal, posicion, calidad);
+            }
+            int torneosGanados = entero(6);
+            boolean seleccionador = finales[7] - inicios[7] == 4
+                    && String.valueOf(bufer, inicios[7], 4).equalsIgnoreCase("true");
+            return new Entrenador(texto(1), texto(2), texto(3), sueldo, motivacion, torneosGanados, seleccionador);
+        } catch (IllegalArgumentException e) {
+            return error(e.getMessage());
+        }
+    }
+
+    /**
+     * Delimita los campos de la línea actual, recortando los espacios de sus extremos.
+     * Los campos que superan {@link #MAX_CAMPOS} se ignoran.
+     */
+    private void separarCampos() {
+        numCampos = 0;
+        int desde = inicio;
+        for (int i = inicio; i <= fin && numCampos < MAX_CAMPOS; i++) {
+            if (i == fin || bufer[i] == ';') {
+                int a = desde;
+                int b = i;
+                while (a < b && bufer[a] <= ' ') a++;
+                while (b > a && bufer[b - 1] <= ' ') b--;
+                inicios[numCampos] = a;
+                finales[numCampos] = b;
+                numCampos++;
+                desde = i + 1;
+            }
+        }
+    }
+
+    private String texto(int campo) {
+        return new String(bufer, inicios[campo], finales[campo] - inicios[campo]);
+    }
+
+    /**
+     * Convierte un campo a entero sin crear cadenas intermedias.
+     *
+     * @throws NumberFormatException si el campo no es un entero válido.
+     */
+    private int entero(int campo) {
+        int i = inicios[campo];
+        int f = finales[campo];
+        boolean negativo = i < f && bufer[i] == '-';
+        if (negativo || (i < f && bufer[i] == '+')) i++;
+        if (i == f || f - i > 9) {
+            return Integer.parseInt(texto(campo));
+        }
+        int valor = 0;
+        for (; i < f; i++) {
+            char c = bufer[i];
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Número no válido: " + texto(campo));
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return negativo ? -valor : valor;
+    }
+
+    /**
+     * Convierte un campo a {@code double} sin crear cadenas intermedias. Admite tanto {@code .} como {@code ,}
+     * como separador decimal.
+     * <p>
+     * Los valores con hasta 15 dígitos significativos y 22 decimales se calculan como una división exacta
+     * entre un entero y una potencia de 10, que da el mismo resultado que {@link Double#parseDouble(String)};
+     * el resto se delega en él.
+     *
+     * @throws NumberFormatException si el campo no es un número válido.
+     */
+    private double decimal(int campo) {
+        int i = inicios[campo];
+        int f = finales[campo];
+        boolean negativo = i < f && bufer[i] == '-';
+        if (negativo || (i < f && bufer[i] == '+')) i++;
+        long mantisa = 0;
+        int digitos = 0;
+        int decimales = -1;
+        boolean hayDigitos = false;
+        for (; i < f; i++) {
+            char c = bufer[i];
+            if (c >= '0' && c <= '9') {
+                hayDigitos = true;
+                mantisa = mantisa * 10 + (c - '0');
+                if (mantisa != 0) digitos++;
+                if (decimales >= 0) decimales++;
+            } else if ((c == '.' || c == ',') && decimales < 0) {
+                decimales = 0;
+            } else {
+                return Double.parseDouble(texto(campo).replace(',', '.'));
+            }
+        }
+        if (!hayDigitos || digitos > 15 || decimales >= POTENCIAS_10.length || decimales == 0) {
+            return Double.parseDouble(texto(campo).replace(',', '.'));
+        }
+        double valor = decimales > 0 ? mantisa / POTENCIAS_10[decimales] : mantisa;
+        return negativo ? -valor : valor;
+    }
+
+    private Persona error(String motivo) {
+        errores.lineaInvalida(numeroLinea, new String(bufer, inicio, fin - inicio), motivo);
+        return null;
+    }
+}
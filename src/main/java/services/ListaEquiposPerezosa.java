@@ -0,0 +1,268 @@
+package main.java.services;
+
+import main.java.domain.Equipo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Lista de equipos respaldada por un {@link AlmacenEquipos}, que solo crea cada {@link Equipo} la primera vez
+ * que se accede a él.
+ * <p>
+ * Al abrirla no se decodifica ningún equipo, de modo que el tiempo de arranque no depende del tamaño del archivo.
+ * Cada posición contiene el equipo añadido o el índice del equipo dentro del almacén (su registro);
+ * {@link #get(int)} crea el equipo de un registro la primera vez y lo guarda por registro, de modo que un
+ * mismo registro da siempre el mismo objeto aunque cambie de posición en la lista. Los equipos añadidos
+ * después se guardan directamente.
+ * <p>
+ * Para recorrer los nombres sin crear los equipos se puede usar {@link #getNombre(int)}. Como los equipos
+ * se comparan por identidad, {@link #indexOf(Object)} y {@link #remove(Object)} solo examinan los equipos ya
+ * creados. Al guardarla con {@link CodecEquipos#guardar(Path, List)}, los equipos que no se han creado se copian
+ * tal cual desde el almacén, así que no se puede guardar directamente en su propio archivo: hay que escribir
+ * en otro y sustituir el original con {@link #sustituirArchivo(Path, Path)}, que vuelve a abrir el almacén
+ * sobre el archivo nuevo sin crear ningún equipo.
+ * <p>
+ * No es segura para hilos. Los errores al decodificar un equipo se lanzan como {@link UncheckedIOException}.
+ */
+public class ListaEquiposPerezosa extends AbstractList<Equipo> implements RandomAccess {
+    private AlmacenEquipos almacen;
+
+    /**
+     * Cada elemento es un {@link Equipo} añadido a la lista o el {@link Integer} con su registro en el almacén.
+     */
+    private final ArrayList<Object> elementos;
+
+    /**
+     * Equipos ya creados, por registro del almacén.
+     */
+    private final Equipo[] cargados;
+
+    /**
+     * Crea una lista con todos los equipos de un almacén, sin decodificar ninguno.
+     *
+     * @param almacen El almacén de equipos. No puede ser nulo.
+     */
+    public ListaEquiposPerezosa(AlmacenEquipos almacen) {
+        this.almacen = Objects.requireNonNull(almacen, "El almacén no puede ser nulo.");
+        int numEquipos = almacen.getNumEquipos();
+        this.elementos = new ArrayList<>(numEquipos);
+        this.cargados = new Equipo[numEquipos];
+        for (int i = 0; i < numEquipos; i++) {
+            elementos.add(i);
+        }
+    }
+
+    /**
+     * Abre un archivo de equipos indexado como lista perezosa.
+     *
+     * @param archivo El archivo de equipos.
+     * @return La lista de sus equipos.
+     * @throws IOException si no se puede abrir el archivo o no tiene el formato esperado.
+     * @see AlmacenEquipos#abrir(Path)
+     */
+    public static ListaEquiposPerezosa abrir(Path archivo) throws IOException {
+        return new ListaEquiposPerezosa(AlmacenEquipos.abrir(archivo));
+    }
+
+    @Override
+    public Equipo get(int index) {
+        Object elemento = elementos.get(index);
+        return elemento instanceof Equipo equipo ? equipo : getPorRegistro((Integer) elemento);
+    }
+
+    /**
+     * Obtiene el equipo de un registro del almacén, creándolo si todavía no se ha creado.
+     *
+     * @param registro El índice del equipo en el almacén.
+     * @return El equipo, siempre el mismo objeto para un mismo registro.
+     */
+    Equipo getPorRegistro(int registro) {
+        Equipo equipo = cargados[registro];
+        if (equipo == null) {
+            try {
+                equipo = almacen.cargar(registro);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            cargados[registro] = equipo;
+        }
+        return equipo;
+    }
+
+    /**
+     * Obtiene el registro del almacén del que procede el equipo de una posición.
+     *
+     * @param index La posición del equipo.
+     * @return El índice del equipo en el almacén, o -1 si el equipo se ha añadido a la lista después.
+     */
+    int getRegistro(int index) {
+        return elementos.get(index) instanceof Integer registro ? registro : -1;
+    }
+
+    /**
+     * Obtiene el nombre del equipo de una posición sin crear el equipo si todavía no se ha creado.
+     *
+     * @param index La posición del equipo.
+     * @return El nombre del equipo.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public String getNombre(int index) {
+        Equipo equipo = elemento(index);
+        if (equipo != null) {
+            return equipo.getNombre();
+        }
+        try {
+            return almacen.getNombre((Integer) elementos.get(index));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Indica si la lista lee equipos de un archivo, y por tanto solo se puede sustituir con
+     * {@link #sustituirArchivo(Path, Path)}.
+     *
+     * @param archivo El archivo.
+     * @return {@code true} si el almacén de la lista está abierto sobre ese archivo.
+     * @throws IOException si no se puede comprobar si los archivos son el mismo.
+     */
+    public boolean dependeDe(Path archivo) throws IOException {
+        return Files.exists(archivo) && Files.isSameFile(almacen.getArchivo(), archivo);
+    }
+
+    /**
+     * Sustituye el archivo de la lista por otro en el que se acaba de guardar la lista, sin cambios desde
+     * entonces, y sigue leyendo de él los equipos que todavía no se han creado. El almacén se cierra antes de
+     * mover el archivo, porque en algunos sistemas no se puede sustituir un archivo abierto, y después se abre
+     * sobre el archivo nuevo conservando los registros, de modo que no se crea ningún equipo.
+     *
+     * @param guardado El archivo en el que se ha guardado la lista con {@link CodecEquipos#guardar(Path, List)}.
+     * @param archivo  El archivo de la lista, que se sustituye por {@code guardado}.
+     * @throws IOException si no se puede mover el archivo o abrir el nuevo. Si no se puede mover, la lista
+     *                     sigue leyendo del archivo anterior.
+     */
+    void sustituirArchivo(Path guardado, Path archivo) throws IOException {
+        int[] registros = new int[elementos.size()];
+        for (int i = 0; i < registros.length; i++) {
+            registros[i] = getRegistro(i);
+        }
+        almacen.close();
+        try {
+            Files.move(guardado, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            try {
+                almacen = almacen.reabrir();
+            } catch (IOException | RuntimeException e2) {
+                e.addSuppressed(e2);
+            }
+            throw e;
+        }
+        almacen = AlmacenEquipos.abrir(archivo, registros, cargados.length);
+    }
+
+    /**
+     * Indica si el equipo de una posición ya se ha creado.
+     *
+     * @param index La posición del equipo.
+     * @return {@code true} si el equipo ya está en memoria.
+     */
+    public boolean isCargado(int index) {
+        Object elemento = elementos.get(index);
+        return elemento instanceof Equipo || cargados[(Integer) elemento] != null;
+    }
+
+    @Override
+    public int size() {
+        return elementos.size();
+    }
+
+    @Override
+    public Equipo set(int index, Equipo equipo) {
+        Equipo anterior = get(index);
+        elementos.set(index, Objects.requireNonNull(equipo, "El equipo no puede ser nulo."));
+        return anterior;
+    }
+
+    @Override
+    public void add(int index, Equipo equipo) {
+        elementos.add(index, Objects.requireNonNull(equipo, "El equipo no puede ser nulo."));
+        modCount++;
+    }
+
+    @Override
+    public Equipo remove(int index) {
+        Equipo equipo = get(index);
+        elementos.remove(index);
+        modCount++;
+        return equipo;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Equipo) {
+            for (int i = 0; i < elementos.size(); i++) {
+                if (elemento(i) == o) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Equipo) {
+            for (int i = elementos.size() - 1; i >= 0; i--) {
+                if (elemento(i) == o) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Obtiene el equipo de una posición si ya está creado, o {@code null} si no.
+     */
+    private Equipo elemento(int index) {
+        Object elemento = elementos.get(index);
+        return elemento instanceof Equipo equipo ? equipo : cargados[(Integer) elemento];
+    }
+
+    /**
+     * Escribe todos los equipos: los creados se codifican y los demás se copian desde el almacén.
+     */
+    void escribirEn(CodecEquipos.Escritor escritor) throws IOException {
+        for (int i = 0; i < elementos.size(); i++) {
+            Equipo equipo = elemento(i);
+            if (equipo != null) {
+                escritor.escribir(equipo);
+            } else {
+                escritor.escribirRegistro(almacen.getRegistro((Integer) elementos.get(i)));
+            }
+        }
+    }
+}
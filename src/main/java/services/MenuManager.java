@@ -3,6 +3,7 @@ package main.java.services;
 import main.java.domain.*;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Clase encargada de gestionar toda la lógica de los menús interactivos en consola
@@ -18,20 +19,28 @@ import java.util.*;
  * </p>
  */
 public class MenuManager {
+    /**
+     * Número de personas del mercado que se muestran en cada página de los listados de fichajes.
+     */
+    private static final int TAMANO_PAGINA = 20;
+
     private final Scanner scanner;
     private final List<Equipo> equipos;
-    private final List<Persona> mercado;
+    private final IndiceEquipos indiceEquipos;
+    private final Mercado mercado;
+    private final ServicioTraspasos traspasos = new ServicioTraspasos();
     private Liga ligaActual;
 
     /**
      * Constructor que inicializa el gestor del menú con las listas de equipos y mercado de fichajes.
      *
      * @param equipos Lista de equipos creados en la aplicación.
-     * @param mercado Lista de personas (jugadores y entrenadores) disponibles en el mercado.
+     * @param mercado Personas (jugadores y entrenadores) disponibles en el mercado.
      */
-    public MenuManager(List<Equipo> equipos, List<Persona> mercado) {
+    public MenuManager(List<Equipo> equipos, Mercado mercado) {
         this.scanner = new Scanner(System.in);
         this.equipos = equipos;
+        this.indiceEquipos = new IndiceEquipos(equipos);
         this.mercado = mercado;
     }
 
@@ -92,7 +101,8 @@ public class MenuManager {
     }
 
     /**
-     * Permite al usuario seleccionar un equipo de la lista de equipos existentes.
+     * Permite al usuario seleccionar un equipo de la lista de equipos existentes. Si hay más de
+     * {@value #TAMANO_PAGINA} equipos, se busca por nombre en lugar de mostrar la lista entera.
      *
      * @return El equipo seleccionado o {@code null} si el usuario cancela la acción.
      */
@@ -101,10 +111,13 @@ public class MenuManager {
             System.out.println("No hi ha equips disponibles.");
             return null;
         }
+        if (equipos.size() > TAMANO_PAGINA) {
+            return buscarEquipo();
+        }
 
         System.out.println("\nSelecciona un equip:");
         for (int i = 0; i < equipos.size(); i++) {
-            System.out.printf("%d- %s%n", i + 1, equipos.get(i).getNombre());
+            System.out.printf("%d- %s%n", i + 1, getNombreEquipo(i));
         }
         System.out.println("0- Tornar");
 
@@ -114,6 +127,55 @@ public class MenuManager {
         return opcion == 0 ? null : equipos.get(opcion - 1);
     }
 
+    /**
+     * Busca un equipo por su nombre o por el principio de su nombre, sin distinguir mayúsculas y minúsculas,
+     * y deja elegir entre los {@value #TAMANO_PAGINA} primeros que coinciden.
+     *
+     * @return El equipo seleccionado o {@code null} si el usuario cancela la acción.
+     */
+    private Equipo buscarEquipo() {
+        while (true) {
+            System.out.print("\nNom o inici del nom de l'equip (buit per tornar): ");
+            String nombre = scanner.nextLine().trim();
+            if (nombre.isEmpty()) return null;
+
+            Equipo equipo = indiceEquipos.buscar(nombre);
+            if (equipo != null) return equipo;
+
+            List<String> nombres = indiceEquipos.buscarPorPrefijo(nombre, TAMANO_PAGINA);
+            if (nombres.isEmpty()) {
+                System.out.println("No hi ha cap equip amb aquest nom.");
+                continue;
+            }
+            System.out.println("\nSelecciona un equip:");
+            for (int i = 0; i < nombres.size(); i++) {
+                System.out.printf("%d- %s%n", i + 1, nombres.get(i));
+            }
+            System.out.println("0- Tornar a cercar");
+
+            System.out.print("Selecciona una opció: ");
+            int opcion = InputHelper.leerEntero(scanner, 0, nombres.size());
+            if (opcion > 0) return indiceEquipos.buscar(nombres.get(opcion - 1));
+        }
+    }
+
+    /**
+     * Obtiene el nombre del equipo de una posición de la lista. Si la lista es una {@link ListaEquiposPerezosa},
+     * el nombre se lee sin crear el equipo.
+     */
+    private String getNombreEquipo(int indice) {
+        return equipos instanceof ListaEquiposPerezosa perezosa
+                ? perezosa.getNombre(indice)
+                : equipos.get(indice).getNombre();
+    }
+
+    /**
+     * Comprueba si ya existe un equipo con el nombre indicado, sin distinguir mayúsculas y minúsculas.
+     */
+    private boolean existeEquipo(String nombre) {
+        return indiceEquipos.contiene(nombre);
+    }
+
     /**
      * Permite registrar (dar de alta) un nuevo equipo solicitando al usuario los datos necesarios.
      * <p>
@@ -128,8 +190,7 @@ public class MenuManager {
             System.out.print("Nom de l'equip: ");
             nombre = scanner.nextLine();
 
-            String finalNombre = nombre;
-            if (equipos.stream().anyMatch(e -> e.getNombre().equalsIgnoreCase(finalNombre))) {
+            if (existeEquipo(nombre)) {
                 System.out.println("Aquest nom d'equip ja existeix. Tria un altre.");
             } else {
                 break;
@@ -162,6 +223,7 @@ public class MenuManager {
         }
 
         equipos.add(nuevoEquipo);
+        indiceEquipos.agregar(nuevoEquipo);
         System.out.printf("Equip %s afegit correctament.%n", nombre);
     }
 
@@ -220,7 +282,7 @@ public class MenuManager {
         System.out.printf("%s %s afegit/da al mercat de fitxatges amb dorsal %d%n",
                 nombre, apellido, dorsal);
 
-        FileManager.guardarMercado(mercado);
+        FileManager.registrarAltaMercado(mercado, nuevoJugador);
     }
 
     /**
@@ -254,7 +316,7 @@ public class MenuManager {
         System.out.printf("%s %s afegit/da al mercat de fitxatges com a entrenador/a%n",
                 nombre, apellido);
 
-        FileManager.guardarMercado(mercado);
+        FileManager.registrarAltaMercado(mercado, nuevoEntrenador);
     }
 
     /**
@@ -282,7 +344,7 @@ public class MenuManager {
             System.out.println("Sense entrenador assignat");
         }
 
-        System.out.println("\nJugadors/es (" + equipo.getJugadores().size() + "):");
+        System.out.println("\nJugadors/es (" + equipo.getNumeroJugadores() + "):");
         equipo.getJugadores().forEach(j -> System.out.println("  " + j));
     }
 
@@ -294,7 +356,7 @@ public class MenuManager {
         Equipo equipo = seleccionarEquipo();
         if (equipo == null) return;
 
-        if (equipo.getJugadores().isEmpty()) {
+        if (equipo.getNumeroJugadores() == 0) {
             System.out.println("Aquest equip no té jugadors/es.");
             return;
         }
@@ -323,7 +385,8 @@ public class MenuManager {
      * Configura una nueva liga solicitando al usuario los datos necesarios, como el nombre
      * de la liga y los equipos participantes.
      * <p>
-     * Una vez configurada, se disputan los partidos de la liga.
+     * Una vez configurada, se disputan los partidos de la liga: de una vez a una sola vuelta, o como una
+     * temporada a doble vuelta jugada jornada a jornada (véase {@link #jugarTemporada()}).
      * </p>
      */
     private void disputarNuevaLiga() {
@@ -366,14 +429,56 @@ public class MenuManager {
             }
         }
 
+        System.out.println("Format de la lliga:");
+        System.out.println("1- Una volta, tots els partits d'una vegada");
+        System.out.println("2- Temporada d'anada i tornada, jornada a jornada");
+        System.out.print("Selecciona una opció: ");
+        int formato = InputHelper.leerEntero(scanner, 1, 2);
+        ligaActual = nuevaLiga;
+
+        if (formato == 2) {
+            jugarTemporada();
+            return;
+        }
+
         System.out.println("\nDisputant partits de la lliga...");
         nuevaLiga.disputarLiga();
-        ligaActual = nuevaLiga;
 
         System.out.println("\nLliga disputada amb èxit!");
         ligaActual.mostrarClasificacion();
     }
 
+    /**
+     * Juega una temporada a doble vuelta de la liga actual jornada a jornada, mostrando la clasificación
+     * después de cada jornada. Antes de cada jornada, el usuario puede jugarla, jugar todas las que quedan
+     * sin detenerse o terminar (la temporada queda a medias).
+     */
+    private void jugarTemporada() {
+        ligaActual.iniciarTemporada();
+        int numJornadas = ligaActual.getCalendario().getNumJornadas();
+        boolean seguido = false;
+        while (!ligaActual.isTemporadaTerminada()) {
+            int jornada = ligaActual.getJornadasJugadas() + 1;
+            if (!seguido) {
+                System.out.printf("%nJornada %d de %d. 1- Jugar jornada  2- Jugar la resta  0- Acabar: ",
+                        jornada, numJornadas);
+                int opcion = InputHelper.leerEntero(scanner, 0, 2);
+                if (opcion == 0) {
+                    System.out.printf("Temporada aturada després de %d jornades.%n", jornada - 1);
+                    return;
+                }
+                seguido = opcion == 2;
+            }
+            System.out.printf("%n--- Jornada %d ---%n", jornada);
+            ligaActual.jugarJornada();
+            if (!seguido) {
+                ligaActual.mostrarClasificacion();
+            }
+        }
+        System.out.println("\nTemporada acabada!");
+        ligaActual.mostrarClasificacion();
+    }
+
     /**
      * Realiza una sesión de entrenamiento para todas las personas en el mercado de fichajes,
      * permitiendo así mejorar estadísticas de jugadores y entrenadores.
@@ -381,15 +486,7 @@ public class MenuManager {
     private void realizarEntrenamientoMercado() {
         System.out.println("\nRealitzant sessió d'entrenament al mercat de fitxatges...");
 
-        for (Persona persona : mercado) {
-            persona.entrenamiento();
-
-            if (persona instanceof Jugador) {
-                ((Jugador) persona).canviDePosicio();
-            } else if (persona instanceof Entrenador) {
-                ((Entrenador) persona).incrementarSou();
-            }
-        }
+        ServicioEntrenamiento.entrenarMercado(mercado, new Random().nextLong());
 
         System.out.println("Sessió d'entrenament completada per a tots els jugadors/es i entrenadors/es del mercat.");
 
@@ -398,7 +495,8 @@ public class MenuManager {
 
     /**
      * Permite transferir un jugador de un equipo a otro, asegurándose de que no se genere
-     * un conflicto en los dorsales del equipo destino.
+     * un conflicto en los dorsales del equipo destino. El traspaso se hace de forma atómica con
+     * {@link ServicioTraspasos}.
      */
     private void transferirJugador() {
         System.out.println("\nTransferir jugador/a:");
@@ -431,22 +529,22 @@ public class MenuManager {
         }
 
         int nuevoDorsal = jugador.getDorsal();
-        int finalNuevoDorsal = nuevoDorsal;
-        if (equipoDestino.getJugadores().stream().anyMatch(j -> j.getDorsal() == finalNuevoDorsal)) {
+        if (equipoDestino.isDorsalOcupado(nuevoDorsal)) {
             System.out.printf("El dorsal %d ja està ocupat a %s.%n",
                     nuevoDorsal, equipoDestino.getNombre());
             System.out.print("Introdueix un nou dorsal: ");
             nuevoDorsal = InputHelper.leerEntero(scanner, 1, 99);
 
-            while (equipoDestino.getJugadores().stream().anyMatch(j -> j.getDorsal() == finalNuevoDorsal)) {
+            while (equipoDestino.isDorsalOcupado(nuevoDorsal)) {
                 System.out.print("Aquest dorsal també està ocupat. Tria un altre: ");
                 nuevoDorsal = InputHelper.leerEntero(scanner, 1, 99);
             }
         }
 
-        equipoOrigen.eliminarJugador(jugador.getNombre(), jugador.getDorsal());
-        jugador.setDorsal(nuevoDorsal);
-        equipoDestino.agregarJugador(jugador);
+        if (!traspasos.traspasar(jugador, equipoOrigen, equipoDestino, nuevoDorsal)) {
+            System.out.println("No s'ha pogut fer la transferència: el jugador/a o el dorsal ja no estan disponibles.");
+            return;
+        }
 
         System.out.printf("%s %s transferit/da de %s a %s amb dorsal %d%n",
                 jugador.getNombre(), jugador.getApellido(),
@@ -503,6 +601,7 @@ public class MenuManager {
         System.out.print("Estàs segur que vols donar de baixa l'equip " + equipo.getNombre() + "? (S/N): ");
         if (scanner.nextLine().equalsIgnoreCase("S")) {
             equipos.remove(equipo);
+            indiceEquipos.eliminar(equipo);
             System.out.println("Equip " + equipo.getNombre() + " donat de baixa.");
         } else {
             System.out.println("Operació cancel·lada.");
@@ -550,6 +649,7 @@ public class MenuManager {
             Entrenador entrenadorDestituido = equipo.getEntrenador();
             equipo.setEntrenador(null);
             mercado.add(entrenadorDestituido);
+            FileManager.registrarAltaMercado(mercado, entrenadorDestituido);
             System.out.println(entrenadorDestituido.getNombre() + " destituït/da i afegit/da al mercat.");
         } else {
             System.out.println("Operació cancel·lada.");
@@ -565,14 +665,16 @@ public class MenuManager {
         System.out.println("\nFitxar:");
         System.out.println("1- Jugador/a");
         System.out.println("2- Entrenador/a");
+        System.out.println("3- Entrenador/a amb més torneigs guanyats");
         System.out.println("0- Tornar");
         System.out.print("Selecciona una opció: ");
 
-        int opcion = InputHelper.leerEntero(scanner, 0, 2);
+        int opcion = InputHelper.leerEntero(scanner, 0, 3);
 
         switch (opcion) {
             case 1 -> fitxarJugador(equipo);
             case 2 -> fitxarEntrenador(equipo);
+            case 3 -> fitxarEntrenadorMasLaureado(equipo);
             case 0 -> {}
         }
     }
@@ -584,42 +686,29 @@ public class MenuManager {
      * @param equipo El equipo que está realizando el fichaje.
      */
     private void fitxarJugador(Equipo equipo) {
-        List<Jugador> jugadoresMercado = mercado.stream()
-                .filter(p -> p instanceof Jugador)
-                .map(p -> (Jugador) p)
-                .sorted()
-                .toList();
-
-        if (jugadoresMercado.isEmpty()) {
-            System.out.println("No hi ha jugadors/es disponibles al mercat.");
-            return;
-        }
-
-        System.out.println("\nJugadors/es disponibles al mercat:");
-        for (int i = 0; i < jugadoresMercado.size(); i++) {
-            Jugador j = jugadoresMercado.get(i);
-            System.out.printf("%d- %s %s (Pos: %s, Cal: %.1f, Dorsal: %d)%n",
-                    i + 1, j.getNombre(), j.getApellido(),
-                    j.getPosicion(), j.getCalidad(), j.getDorsal());
-        }
-        System.out.println("0- Tornar");
-
-        System.out.print("Selecciona un jugador/a per fitxar: ");
-        int opcion = InputHelper.leerEntero(scanner, 0, jugadoresMercado.size());
-        if (opcion == 0) return;
-
-        Jugador jugador = jugadoresMercado.get(opcion - 1);
+        Jugador jugador = elegirDelMercado(mercado.paginarJugadores(null, TAMANO_PAGINA),
+                "No hi ha jugadors/es disponibles al mercat.",
+                "\nJugadors/es disponibles al mercat:",
+                "Selecciona un jugador/a per fitxar: ",
+                j -> String.format("%s %s (Pos: %s, Cal: %.1f, Dorsal: %d)",
+                        j.getNombre(), j.getApellido(), j.getPosicion(), j.getCalidad(), j.getDorsal()));
+        if (jugador == null) return;
 
         int dorsal = jugador.getDorsal();
-        int finalDorsal = dorsal;
-        if (equipo.getJugadores().stream().anyMatch(j -> j.getDorsal() == finalDorsal)) {
+        if (equipo.isDorsalOcupado(dorsal)) {
             System.out.print("Aquest dorsal ja està ocupat. Introdueix un nou dorsal: ");
             dorsal = InputHelper.leerEntero(scanner, 1, 99);
+
+            while (equipo.isDorsalOcupado(dorsal)) {
+                System.out.print("Aquest dorsal també està ocupat. Tria un altre: ");
+                dorsal = InputHelper.leerEntero(scanner, 1, 99);
+            }
         }
 
         jugador.setDorsal(dorsal);
         equipo.agregarJugador(jugador);
         mercado.remove(jugador);
+        FileManager.registrarBajaMercado(mercado, jugador);
         System.out.printf("%s %s fitxat/da per %s amb dorsal %d%n",
                 jugador.getNombre(), jugador.getApellido(),
                 equipo.getNombre(), dorsal);
@@ -632,32 +721,49 @@ public class MenuManager {
      * @param equipo El equipo que está realizando el fichaje.
      */
     private void fitxarEntrenador(Equipo equipo) {
-        List<Entrenador> entrenadoresMercado = mercado.stream()
-                .filter(p -> p instanceof Entrenador)
-                .map(p -> (Entrenador) p)
-                .toList();
+        Entrenador entrenador = elegirDelMercado(mercado.paginarEntrenadores(TAMANO_PAGINA),
+                "No hi ha entrenadors/es disponibles al mercat.",
+                "\nEntrenadors/es disponibles al mercat:",
+                "Selecciona un entrenador/a per fitxar: ",
+                e -> String.format("%s %s (Torneus: %d, %s)",
+                        e.getNombre(), e.getApellido(), e.getTorneosGanados(),
+                        e.isSeleccionadorNacional() ? "Seleccionador" : "No seleccionador"));
+        if (entrenador == null) return;
+        contratarEntrenador(equipo, entrenador);
+    }
 
-        if (entrenadoresMercado.isEmpty()) {
+    /**
+     * Permite fichar a uno de los {@value #TAMANO_PAGINA} entrenadores del mercado con más torneos ganados.
+     * El mercado no tiene índice por torneos, así que se seleccionan con {@link Mercado#getMejores} sin
+     * ordenar todo el mercado.
+     *
+     * @param equipo El equipo que está realizando el fichaje.
+     */
+    private void fitxarEntrenadorMasLaureado(Equipo equipo) {
+        List<Entrenador> entrenadores = mercado.getMejores(Entrenador.class,
+                Comparator.comparingInt(Entrenador::getTorneosGanados).reversed(), TAMANO_PAGINA);
+        if (entrenadores.isEmpty()) {
             System.out.println("No hi ha entrenadors/es disponibles al mercat.");
             return;
         }
 
-        System.out.println("\nEntrenadors/es disponibles al mercat:");
-        for (int i = 0; i < entrenadoresMercado.size(); i++) {
-            Entrenador e = entrenadoresMercado.get(i);
-            System.out.printf("%d- %s %s (Torneus: %d, %s)%n",
-                    i + 1, e.getNombre(), e.getApellido(),
-                    e.getTorneosGanados(),
-                    e.isSeleccionadorNacional() ? "Seleccionador" : "No seleccionador");
+        System.out.println("\nEntrenadors/es amb més torneigs guanyats:");
+        for (int i = 0; i < entrenadores.size(); i++) {
+            Entrenador e = entrenadores.get(i);
+            System.out.printf("%d- %s %s (Torneus: %d)%n", i + 1, e.getNombre(), e.getApellido(),
+                    e.getTorneosGanados());
         }
         System.out.println("0- Tornar");
-
         System.out.print("Selecciona un entrenador/a per fitxar: ");
-        int opcion = InputHelper.leerEntero(scanner, 0, entrenadoresMercado.size());
-        if (opcion == 0) return;
-
-        Entrenador entrenador = entrenadoresMercado.get(opcion - 1);
+        int opcion = InputHelper.leerEntero(scanner, 0, entrenadores.size());
+        if (opcion > 0) contratarEntrenador(equipo, entrenadores.get(opcion - 1));
+    }
 
+    /**
+     * Ficha a un entrenador del mercado para un equipo. Si el equipo ya tiene un entrenador, se le da la
+     * opción de sustituirlo, y el entrenador sustituido vuelve al mercado.
+     */
+    private void contratarEntrenador(Equipo equipo, Entrenador entrenador) {
         if (equipo.getEntrenador() != null) {
             System.out.print("L'equip ja té un entrenador. Vols substituir-lo? (S/N): ");
             if (!scanner.nextLine().equalsIgnoreCase("S")) {
@@ -665,12 +771,58 @@ public class MenuManager {
                 return;
             }
             mercado.add(equipo.getEntrenador());
+            FileManager.registrarAltaMercado(mercado, equipo.getEntrenador());
         }
 
         equipo.setEntrenador(entrenador);
         mercado.remove(entrenador);
+        FileManager.registrarBajaMercado(mercado, entrenador);
         System.out.printf("%s %s fitxat/da com a entrenador/a de %s%n",
                 entrenador.getNombre(), entrenador.getApellido(),
                 equipo.getNombre());
     }
+
+    /**
+     * Muestra un listado del mercado de {@value #TAMANO_PAGINA} en {@value #TAMANO_PAGINA} personas y deja
+     * elegir una, avanzando con {@code n} y retrocediendo con {@code p}.
+     *
+     * @param pagina      La primera página del listado.
+     * @param sinPersonas El mensaje que se muestra si el listado está vacío.
+     * @param titulo      El título del listado.
+     * @param pregunta    El mensaje que pide elegir una persona.
+     * @param descripcion La descripción de cada persona en el listado.
+     * @return La persona elegida, o {@code null} si el listado está vacío o se vuelve atrás.
+     */
+    private <T extends Persona> T elegirDelMercado(Mercado.Pagina<T> pagina, String sinPersonas, String titulo,
+                                                   String pregunta, Function<T, String> descripcion) {
+        if (pagina.getElementos().isEmpty()) {
+            System.out.println(sinPersonas);
+            return null;
+        }
+
+        while (true) {
+            List<T> personas = pagina.getElementos();
+            System.out.println(titulo);
+            for (int i = 0; i < personas.size(); i++) {
+                System.out.printf("%d- %s%n", i + 1, descripcion.apply(personas.get(i)));
+            }
+            if (pagina.haySiguiente()) System.out.println("n- Pàgina següent");
+            if (pagina.hayAnterior()) System.out.println("p- Pàgina anterior");
+            System.out.println("0- Tornar");
+
+            System.out.print(pregunta);
+            int opcion = InputHelper.leerOpcionPagina(scanner, personas.size(),
+                    pagina.hayAnterior(), pagina.haySiguiente());
+            switch (opcion) {
+                case 0 -> {
+                    return null;
+                }
+                case InputHelper.PAGINA_SIGUIENTE -> pagina = pagina.siguiente();
+                case InputHelper.PAGINA_ANTERIOR -> pagina = pagina.anterior();
+                default -> {
+                    return personas.get(opcion - 1);
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,414 @@
+package main.java.services;
+
+import main.java.domain.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Ejecución sin menú interactivo, pensada para tareas programadas, procesos por lotes y mediciones.
+ * <p>
+ * Recibe una lista de órdenes, ya sea desde los argumentos de la línea de comandos (con la forma
+ * {@code orden} u {@code orden=valor}) o desde un archivo de guion (una orden por línea con la forma
+ * {@code orden valor}; las líneas vacías y las que empiezan por {@code #} se ignoran), y las ejecuta en orden:
+ * <ul>
+ *     <li>{@code equipos=archivo}: carga los equipos del archivo indicado.</li>
+ *     <li>{@code mercado=archivo}: carga el mercado de fichajes del archivo indicado.</li>
+ *     <li>{@code generar=N}: sustituye los equipos por N equipos generados con {@link GeneradorDatos}.</li>
+ *     <li>{@code semilla=S}: fija la semilla de las ligas, de los entrenamientos y de los datos generados
+ *     (por defecto 42).</li>
+ *     <li>{@code ligas=N}: disputa N ligas con todos los equipos, sin mostrar los partidos.</li>
+ *     <li>{@code temporadas=N}: disputa N temporadas a doble vuelta con todos los equipos, jornada a jornada.</li>
+ *     <li>{@code divisiones=D}: número de divisiones de la pirámide (por defecto 4).</li>
+ *     <li>{@code piramide=N}: disputa N temporadas de una {@link Piramide} con ascensos y descensos. La primera
+ *     vez reparte los equipos en divisiones del mismo tamaño, por orden; las siguientes continúa con la misma
+ *     pirámide.</li>
+ *     <li>{@code resultados}: a partir de aquí, muestra los resultados de los partidos por lotes.</li>
+ *     <li>{@code entrenar=N}: realiza N sesiones de entrenamiento de los equipos y del mercado, en paralelo.</li>
+ *     <li>{@code traspasos=N}: intenta N traspasos de jugadores al azar entre los equipos, en paralelo, con
+ *     {@link ServicioTraspasos}.</li>
+ *     <li>{@code exportar=archivo}: escribe en CSV la clasificación final de todas las ligas disputadas.</li>
+ *     <li>{@code guardar}: guarda los equipos y el mercado en sus archivos habituales.</li>
+ *     <li>{@code metricas}: muestra los contadores de {@link Metricas} (objetos creados, partidos jugados...).</li>
+ * </ul>
+ * Si no se carga ningún archivo, se usan los archivos habituales de {@link FileManager}. Si no se puede leer
+ * un archivo indicado en una orden o no se puede guardar, la ejecución se detiene con
+ * {@link #SALIDA_ERROR_ARCHIVO}. Los mensajes informativos de {@link FileManager} se desactivan y al terminar
+ * cada orden se muestra un resumen con su duración. Por ejemplo: {@code java main.Main --batch generar=500 ligas=10 exportar=clasificacion.csv}.
+ */
+public final class ModoBatch {
+    /**
+     * Código de salida cuando todas las órdenes se han ejecutado correctamente.
+     */
+    public static final int SALIDA_OK = 0;
+
+    /**
+     * Código de salida cuando las órdenes no son válidas.
+     */
+    public static final int SALIDA_ORDEN_NO_VALIDA = 1;
+
+    /**
+     * Código de salida cuando ha fallado la lectura o la escritura de un archivo.
+     */
+    public static final int SALIDA_ERROR_ARCHIVO = 2;
+
+    /**
+     * Una orden con su valor, que es {@code null} si no tiene.
+     */
+    private record Orden(String nombre, String valor) {
+    }
+
+    /**
+     * Clasificación final de una liga disputada. Se guarda solo la clasificación, y no la liga con todos sus
+     * partidos, para que la memoria no crezca con el número de partidos disputados.
+     */
+    private record Clasificacion(String liga, List<Liga.EquipoStats> equipos) {
+        Clasificacion(Liga liga) {
+            this(liga.getNombre(), liga.getClasificacion());
+        }
+    }
+
+    private final PrintStream salida;
+    private List<Equipo> equipos;
+    private List<Persona> mercado;
+    private long semilla = 42L;
+    private OyentePartido oyente = OyentePartido.NINGUNO;
+    private final List<Clasificacion> clasificaciones = new ArrayList<>();
+    private int numDivisiones = 4;
+    private Piramide piramide;
+
+    private ModoBatch(PrintStream salida) {
+        this.salida = salida;
+    }
+
+    /**
+     * Ejecuta las órdenes recibidas desde la línea de comandos.
+     * <p>
+     * Si el primer argumento es {@code --script}, el segundo es el archivo de guion del que se leen las órdenes.
+     *
+     * @param args Las órdenes, o {@code --script archivo}.
+     * @return Uno de los códigos de salida {@link #SALIDA_OK}, {@link #SALIDA_ORDEN_NO_VALIDA} o
+     *         {@link #SALIDA_ERROR_ARCHIVO}.
+     */
+    public static int ejecutar(String[] args) {
+        return ejecutar(args, System.out);
+    }
+
+    /**
+     * Ejecuta las órdenes recibidas desde la línea de comandos, mostrando el resumen en la salida indicada.
+     *
+     * @param args   Las órdenes, o {@code --script archivo}.
+     * @param salida La salida del resumen y de los resultados de los partidos.
+     * @return El código de salida.
+     * @see #ejecutar(String[])
+     */
+    public static int ejecutar(String[] args, PrintStream salida) {
+        List<Orden> ordenes;
+        try {
+            ordenes = args.length > 0 && args[0].equals("--script")
+                    ? leerGuion(args)
+                    : interpretarArgumentos(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return SALIDA_ORDEN_NO_VALIDA;
+        } catch (IOException e) {
+            System.err.println("Error leyendo el guion: " + e.getMessage());
+            return SALIDA_ERROR_ARCHIVO;
+        }
+
+        boolean silenciosoAnterior = FileManager.isSilencioso();
+        FileManager.setSilencioso(true);
+        try {
+            ModoBatch batch = new ModoBatch(salida);
+            for (Orden orden : ordenes) {
+                long inicio = System.nanoTime();
+                batch.ejecutar(orden);
+                salida.printf(Locale.ROOT, "%s completado en %.1f ms%n", orden.nombre(),
+                        (System.nanoTime() - inicio) / 1e6);
+            }
+            return SALIDA_OK;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return SALIDA_ORDEN_NO_VALIDA;
+        } catch (IOException e) {
+            System.err.println("Error de archivo: " + e.getMessage());
+            return SALIDA_ERROR_ARCHIVO;
+        } finally {
+            FileManager.setSilencioso(silenciosoAnterior);
+        }
+    }
+
+    /**
+     * Convierte los argumentos {@code orden} u {@code orden=valor} en órdenes.
+     */
+    private static List<Orden> interpretarArgumentos(String[] args) {
+        List<Orden> ordenes = new ArrayList<>(args.length);
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            ordenes.add(igual < 0
+                    ? new Orden(arg, null)
+                    : new Orden(arg.substring(0, igual), arg.substring(igual + 1)));
+        }
+        return ordenes;
+    }
+
+    /**
+     * Lee las órdenes del archivo de guion indicado en {@code args[1]}.
+     */
+    private static List<Orden> leerGuion(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Uso: --script <archivo>");
+        }
+        List<Orden> ordenes = new ArrayList<>();
+        for (String linea : Files.readAllLines(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+            linea = linea.strip();
+            if (linea.isEmpty() || linea.startsWith("#")) {
+                continue;
+            }
+            String[] partes = linea.split("\\s+", 2);
+            ordenes.add(new Orden(partes[0], partes.length > 1 ? partes[1] : null));
+        }
+        return ordenes;
+    }
+
+    private void ejecutar(Orden orden) throws IOException {
+        switch (orden.nombre()) {
+            case "equipos" -> {
+                equipos = FileManager.leerEquipos(Paths.get(valor(orden)));
+                salida.printf("Equipos cargados: %d%n", equipos.size());
+            }
+            case "mercado" -> {
+                mercado = FileManager.leerMercado(Paths.get(valor(orden)));
+                salida.printf("Personas del mercado cargadas: %d%n", mercado.size());
+            }
+            case "generar" -> {
+                equipos = new GeneradorDatos(semilla).generarEquipos(entero(orden));
+                salida.printf("Equipos generados: %d%n", equipos.size());
+            }
+            case "semilla" -> semilla = Long.parseLong(valor(orden));
+            case "resultados" -> oyente = new OyenteEnLotes(salida);
+            case "ligas" -> disputarLigas(entero(orden));
+            case "temporadas" -> disputarTemporadas(entero(orden));
+            case "divisiones" -> {
+                numDivisiones = entero(orden);
+                piramide = null;
+            }
+            case "piramide" -> disputarPiramide(entero(orden));
+            case "entrenar" -> entrenar(entero(orden));
+            case "traspasos" -> traspasar(entero(orden));
+            case "exportar" -> exportar(Paths.get(valor(orden)));
+            case "guardar" -> {
+                FileManager.escribirEquipos(getEquipos());
+                FileManager.escribirMercado(getMercado());
+            }
+            case "metricas" -> Metricas.instantanea().forEach((nombre, valor) ->
+                    salida.printf("%s: %d%n", nombre, valor));
+            default -> throw new IllegalArgumentException("Orden desconocida: " + orden.nombre());
+        }
+    }
+
+    /**
+     * Disputa varias ligas con todos los equipos. La liga {@code i} usa la semilla {@code semilla + i},
+     * de modo que la misma semilla reproduce los mismos resultados.
+     */
+    private void disputarLigas(int numLigas) {
+        List<Equipo> participantes = getEquipos();
+        for (int i = 0; i < numLigas; i++) {
+            Liga liga = crearLiga(participantes);
+            liga.disputarLigaParalela(semilla + i);
+            clasificaciones.add(new Clasificacion(liga));
+            if (oyente instanceof OyenteEnLotes enLotes) {
+                enLotes.flush();
+            }
+        }
+        semilla += numLigas;
+        salida.printf("Ligas disputadas: %d (%d equipos)%n", numLigas, participantes.size());
+    }
+
+    /**
+     * Disputa varias temporadas a doble vuelta con todos los equipos, jugando cada jornada en paralelo.
+     * Las semillas de las jornadas de la temporada {@code i} se derivan de {@code semilla + i}.
+     */
+    private void disputarTemporadas(int numTemporadas) {
+        List<Equipo> participantes = getEquipos();
+        for (int i = 0; i < numTemporadas; i++) {
+            Liga liga = crearLiga(participantes);
+            SplittableRandom jornadas = new SplittableRandom(semilla + i);
+            liga.iniciarTemporada();
+            while (!liga.isTemporadaTerminada()) {
+                liga.jugarJornada(jornadas.nextLong());
+                if (oyente instanceof OyenteEnLotes enLotes) {
+                    enLotes.flush();
+                }
+            }
+            clasificaciones.add(new Clasificacion(liga));
+        }
+        semilla += numTemporadas;
+        salida.printf("Temporadas disputadas: %d (%d equipos)%n", numTemporadas, participantes.size());
+    }
+
+    /**
+     * Disputa varias temporadas de la pirámide, creándola si todavía no existe. Cada división tiene al menos
+     * dos equipos; los que sobran al repartir van a la última. Suben y bajan tres equipos entre cada par de
+     * divisiones, o menos si alguna división es pequeña.
+     */
+    private void disputarPiramide(int numTemporadas) {
+        if (piramide == null) {
+            List<Equipo> participantes = getEquipos();
+            if (numDivisiones < 1 || participantes.size() < 2 * numDivisiones) {
+                throw new IllegalArgumentException("No hay suficientes equipos para " + numDivisiones
+                        + " divisiones.");
+            }
+            int porDivision = participantes.size() / numDivisiones;
+            List<List<Equipo>> divisiones = new ArrayList<>(numDivisiones);
+            for (int d = 0; d < numDivisiones; d++) {
+                int hasta = d == numDivisiones - 1 ? participantes.size() : (d + 1) * porDivision;
+                divisiones.add(participantes.subList(d * porDivision, hasta));
+            }
+            piramide = new Piramide("Pirámide", divisiones, Math.min(3, porDivision / 2));
+            piramide.setOyente(OyentePartido.NINGUNO);
+        }
+        for (int i = 0; i < numTemporadas; i++) {
+            piramide.disputarTemporada(semilla + i);
+            for (Liga liga : piramide.getUltimaTemporada()) {
+                clasificaciones.add(new Clasificacion(liga));
+            }
+        }
+        semilla += numTemporadas;
+        salida.printf("Temporadas de la pirámide: %d (%d divisiones, %d en total)%n", numTemporadas,
+                piramide.getNumDivisiones(), piramide.getTemporadasDisputadas());
+        for (Liga liga : piramide.getUltimaTemporada()) {
+            salida.printf("  %s: campeón %s%n", liga.getNombre(),
+                    liga.getClasificacion().get(0).getEquipo().getNombre());
+        }
+    }
+
+    /**
+     * Crea una liga con todos los equipos, numerada a continuación de las ya disputadas.
+     */
+    private Liga crearLiga(List<Equipo> participantes) {
+        if (participantes.size() < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos dos equipos para disputar una liga.");
+        }
+        Liga liga = new Liga("Liga " + (clasificaciones.size() + 1));
+        liga.setOyente(oyente);
+        for (Equipo equipo : participantes) {
+            liga.agregarEquipo(equipo);
+        }
+        return liga;
+    }
+
+    /**
+     * Realiza sesiones de entrenamiento de todos los equipos y de todo el mercado con
+     * {@link ServicioEntrenamiento}. Como en las ligas, la sesión {@code i} deriva sus semillas de
+     * {@code semilla + i}, de modo que la misma semilla reproduce los mismos resultados.
+     */
+    private void entrenar(int sesiones) {
+        List<Equipo> equiposEntrenados = getEquipos();
+        List<Persona> mercadoEntrenado = getMercado();
+        for (int i = 0; i < sesiones; i++) {
+            SplittableRandom sesion = new SplittableRandom(semilla + i);
+            ServicioEntrenamiento.entrenarEquipos(equiposEntrenados, sesion.nextLong());
+            ServicioEntrenamiento.entrenarMercado(mercadoEntrenado, sesion.nextLong());
+        }
+        semilla += sesiones;
+        salida.printf("Sesiones de entrenamiento: %d (%d equipos, %d personas del mercado)%n",
+                sesiones, equiposEntrenados.size(), mercadoEntrenado.size());
+    }
+
+    /**
+     * Intenta varios traspasos al azar a la vez, como un periodo de fichajes: cada traspaso elige un jugador de
+     * un equipo y otro equipo de destino, y conserva el dorsal del jugador si está libre. Los traspasos se eligen
+     * antes de empezar, así que los de un jugador que ya se ha traspasado se rechazan. La elección depende de
+     * {@code semilla}; cuáles se realizan cuando compiten por un mismo jugador o dorsal depende del orden en
+     * que se ejecutan.
+     */
+    private void traspasar(int numTraspasos) {
+        List<Equipo> participantes = getEquipos();
+        if (participantes.size() < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos dos equipos para hacer traspasos.");
+        }
+        SplittableRandom rand = new SplittableRandom(semilla++);
+        List<ServicioTraspasos.Traspaso> traspasos = new ArrayList<>(numTraspasos);
+        for (int i = 0; i < numTraspasos; i++) {
+            int indiceOrigen = rand.nextInt(participantes.size());
+            int indiceDestino = rand.nextInt(participantes.size() - 1);
+            if (indiceDestino >= indiceOrigen) {
+                indiceDestino++;
+            }
+            Equipo origen = participantes.get(indiceOrigen);
+            Equipo destino = participantes.get(indiceDestino);
+            List<Jugador> jugadores = origen.getJugadores();
+            if (!jugadores.isEmpty()) {
+                traspasos.add(new ServicioTraspasos.Traspaso(jugadores.get(rand.nextInt(jugadores.size())),
+                        origen, destino, ServicioTraspasos.CUALQUIER_DORSAL));
+            }
+        }
+        int realizados = new ServicioTraspasos().traspasar(traspasos).size();
+        salida.printf("Traspasos realizados: %d de %d%n", realizados, numTraspasos);
+    }
+
+    /**
+     * Escribe en CSV la clasificación final de cada liga disputada.
+     */
+    private void exportar(Path archivo) throws IOException {
+        try (BufferedWriter bw = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            bw.write("liga;posicion;equipo;pj;pg;pe;pp;gf;gc;dg;pts");
+            bw.newLine();
+            for (Clasificacion clasificacion : clasificaciones) {
+                int posicion = 1;
+                for (Liga.EquipoStats stats : clasificacion.equipos()) {
+                    bw.write(clasificacion.liga() + ";" + posicion++ + ";" + stats.getEquipo().getNombre() + ";"
+                            + stats.getPartidosJugados() + ";" + stats.getPartidosGanados() + ";"
+                            + stats.getPartidosEmpatados() + ";" + stats.getPartidosPerdidos() + ";"
+                            + stats.getGolesFavor() + ";" + stats.getGolesContra() + ";"
+                            + stats.getDiferenciaGoles() + ";" + stats.getPuntos());
+                    bw.newLine();
+                }
+            }
+        }
+        salida.printf("Clasificaciones exportadas: %d ligas en %s%n", clasificaciones.size(), archivo);
+    }
+
+    private List<Equipo> getEquipos() {
+        if (equipos == null) {
+            equipos = FileManager.cargarEquipos();
+        }
+        return equipos;
+    }
+
+    private List<Persona> getMercado() {
+        if (mercado == null) {
+            mercado = FileManager.cargarMercado();
+        }
+        return mercado;
+    }
+
+    private static String valor(Orden orden) {
+        if (orden.valor() == null || orden.valor().isBlank()) {
+            throw new IllegalArgumentException("La orden " + orden.nombre() + " necesita un valor.");
+        }
+        return orden.valor();
+    }
+
+    private static int entero(Orden orden) {
+        try {
+            int valor = Integer.parseInt(valor(orden));
+            if (valor < 0) {
+                throw new IllegalArgumentException("El valor de " + orden.nombre() + " no puede ser negativo.");
+            }
+            return valor;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número no válido para " + orden.nombre() + ": " + orden.valor());
+        }
+    }
+}
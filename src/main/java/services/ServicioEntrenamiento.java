@@ -0,0 +1,164 @@
+package main.java.services;
+
+import main.java.domain.Entrenador;
+import main.java.domain.Equipo;
+import main.java.domain.Jugador;
+import main.java.domain.Mercado;
+import main.java.domain.Persona;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sesiones de entrenamiento en bloque del mercado de fichajes y de los equipos.
+ * <p>
+ * Las personas (o los equipos) se reparten entre los hilos de un {@link ForkJoinPool} y cada una se entrena
+ * una sola vez. Igual que en {@link main.java.domain.Liga#disputarLigaParalela(long)}, cada tarea divide su
+ * rango en dos mitades y cede a la segunda un generador obtenido con {@link SplittableRandom#split()}, así que
+ * el generador que usa cada elemento solo depende de la semilla y de su posición en la lista: la misma semilla
+ * produce siempre los mismos resultados, sea cual sea el número de hilos.
+ * <p>
+ * Cada elemento se modifica desde un único hilo. La lista no debe cambiar mientras dura la sesión, y una
+ * misma persona no debe aparecer dos veces (ni en el mercado y en un equipo que se entrenan a la vez).
+ */
+public final class ServicioEntrenamiento {
+    /**
+     * Número de personas por debajo del cual una tarea entrena su rango sin dividirlo.
+     */
+    static final int UMBRAL_SECUENCIAL = 4096;
+
+    /**
+     * Número de equipos por debajo del cual una tarea entrena su rango sin dividirlo. Con plantillas de unos
+     * veinte o treinta jugadores, equivale aproximadamente a {@link #UMBRAL_SECUENCIAL} personas.
+     */
+    static final int UMBRAL_SECUENCIAL_EQUIPOS = 128;
+
+    private ServicioEntrenamiento() {
+    }
+
+    /**
+     * Realiza una sesión de entrenamiento de todo el mercado usando el pool común de fork/join.
+     *
+     * @param mercado Las personas del mercado.
+     * @param semilla La semilla de la que se derivan los generadores aleatorios.
+     * @see #entrenarMercado(List, long, ForkJoinPool)
+     */
+    public static void entrenarMercado(List<? extends Persona> mercado, long semilla) {
+        entrenarMercado(mercado, semilla, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Realiza una sesión de entrenamiento de todo el mercado repartida entre los hilos de un pool.
+     * <p>
+     * Cada persona hace su entrenamiento; además, cada jugador tiene la posibilidad de cambiar de posición
+     * ({@link Jugador#canviDePosicio(RandomGenerator)}) y cada entrenador recibe un aumento de sueldo
+     * ({@link Entrenador#incrementarSou()}). Si la lista es un {@link Mercado}, sus índices se reconstruyen en
+     * la siguiente consulta.
+     *
+     * @param mercado Las personas del mercado.
+     * @param semilla La semilla de la que se derivan los generadores aleatorios.
+     * @param pool    El pool en el que se ejecutan las tareas. No puede ser nulo.
+     * @throws NullPointerException si el pool es nulo.
+     */
+    public static void entrenarMercado(List<? extends Persona> mercado, long semilla, ForkJoinPool pool) {
+        entrenar(mercado.toArray(new Persona[0]), ServicioEntrenamiento::entrenarPersona,
+                UMBRAL_SECUENCIAL, semilla, pool);
+        if (mercado instanceof Mercado indexado) {
+            indexado.invalidarIndices();
+        }
+    }
+
+    /**
+     * Realiza una sesión de entrenamiento de todos los equipos usando el pool común de fork/join.
+     *
+     * @param equipos Los equipos a entrenar.
+     * @param semilla La semilla de la que se derivan los generadores aleatorios.
+     * @see #entrenarEquipos(List, long, ForkJoinPool)
+     */
+    public static void entrenarEquipos(List<Equipo> equipos, long semilla) {
+        entrenarEquipos(equipos, semilla, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Realiza una sesión de entrenamiento de todos los equipos ({@link Equipo#realizarEntrenamiento(RandomGenerator)})
+     * repartida entre los hilos de un pool. Cada equipo se entrena entero en un mismo hilo.
+     *
+     * @param equipos Los equipos a entrenar.
+     * @param semilla La semilla de la que se derivan los generadores aleatorios.
+     * @param pool    El pool en el que se ejecutan las tareas. No puede ser nulo.
+     * @throws NullPointerException si el pool es nulo.
+     */
+    public static void entrenarEquipos(List<Equipo> equipos, long semilla, ForkJoinPool pool) {
+        entrenar(equipos.toArray(new Equipo[0]), Equipo::realizarEntrenamiento,
+                UMBRAL_SECUENCIAL_EQUIPOS, semilla, pool);
+    }
+
+    /**
+     * Entrena a una persona del mercado, como la opción correspondiente del menú.
+     */
+    private static void entrenarPersona(Persona persona, RandomGenerator rand) {
+        if (persona instanceof Jugador jugador) {
+            jugador.entrenamiento(rand);
+            jugador.canviDePosicio(rand);
+        } else {
+            persona.entrenamiento();
+            if (persona instanceof Entrenador entrenador) {
+                entrenador.incrementarSou();
+            }
+        }
+    }
+
+    private static <T> void entrenar(T[] elementos, BiConsumer<? super T, RandomGenerator> sesion, int umbral,
+                                     long semilla, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "El pool no puede ser nulo.");
+        if (elementos.length > 0) {
+            pool.invoke(new Sesion<>(elementos, sesion, umbral, 0, elementos.length, new SplittableRandom(semilla)));
+        }
+    }
+
+    /**
+     * Tarea de fork/join que entrena un rango de elementos. Si el rango supera el umbral, se divide en dos
+     * mitades: la primera conserva el generador de la tarea y la segunda recibe uno obtenido con
+     * {@link SplittableRandom#split()}.
+     */
+    private static final class Sesion<T> extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final T[] elementos;
+        private final BiConsumer<? super T, RandomGenerator> sesion;
+        private final int umbral;
+        private final int desde;
+        private final int hasta;
+        private final SplittableRandom rand;
+
+        Sesion(T[] elementos, BiConsumer<? super T, RandomGenerator> sesion, int umbral, int desde, int hasta,
+               SplittableRandom rand) {
+            this.elementos = elementos;
+            this.sesion = sesion;
+            this.umbral = umbral;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.rand = rand;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= umbral) {
+                for (int i = desde; i < hasta; i++) {
+                    sesion.accept(elementos[i], rand);
+                }
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            Sesion<T> segunda = new Sesion<>(elementos, sesion, umbral, medio, hasta, rand.split());
+            invokeAll(new Sesion<>(elementos, sesion, umbral, desde, medio, rand), segunda);
+        }
+    }
+}
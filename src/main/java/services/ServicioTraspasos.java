@@ -0,0 +1,260 @@
+package main.java.services;
+
+import main.java.domain.Equipo;
+import main.java.domain.Jugador;
+
+import java.io.Serial;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Traspasos de jugadores entre equipos que pueden hacerse desde varios hilos a la vez, por ejemplo durante un
+ * periodo de fichajes simulado.
+ * <p>
+ * Los equipos se reparten entre {@value #NUM_CERROJOS} cerrojos según su código hash de identidad, y una
+ * operación toma los cerrojos de todos los equipos que modifica antes de empezar
+ * ({@link #ejecutar(Collection, Supplier)}). Los cerrojos se toman siempre en el mismo orden, el de su posición,
+ * de modo que dos operaciones nunca se bloquean mutuamente. No hay ningún cerrojo global: los traspasos entre
+ * equipos distintos avanzan en paralelo y solo esperan los que comparten algún equipo o, con poca probabilidad,
+ * algún cerrojo.
+ * <p>
+ * Un traspaso comprueba, con los dos cerrojos tomados, que el jugador sigue en el equipo de origen y que tiene
+ * un dorsal libre en el de destino; si no, se rechaza sin modificar nada. Como un jugador solo entra o sale de
+ * un equipo con el cerrojo de ese equipo, dos traspasos del mismo jugador no pueden realizarse los dos, y
+ * ninguna plantilla queda con un jugador perdido o repetido.
+ * <p>
+ * Mientras se hacen traspasos, las plantillas de los equipos afectados solo se deben consultar dentro de
+ * {@link #ejecutar(Collection, Supplier)}, ya que {@link Equipo} no es seguro para hilos. El servicio no guarda
+ * ninguna referencia a los equipos, así que puede durar toda la sesión aunque se carguen o sustituyan equipos.
+ */
+public final class ServicioTraspasos {
+    /**
+     * Dorsal que indica que el jugador conserva el suyo si está libre en el destino o, si no, recibe el
+     * dorsal libre más bajo.
+     */
+    public static final int CUALQUIER_DORSAL = 0;
+
+    /**
+     * Número de traspasos por debajo del cual una tarea procesa su rango sin dividirlo.
+     */
+    static final int UMBRAL_SECUENCIAL = 256;
+
+    /**
+     * Número de cerrojos entre los que se reparten los equipos. Es una potencia de dos.
+     */
+    static final int NUM_CERROJOS = 256;
+
+    /**
+     * Traspaso de un jugador de un equipo a otro.
+     *
+     * @param jugador El jugador.
+     * @param origen  El equipo en el que debe estar el jugador.
+     * @param destino El equipo al que pasa. Debe ser distinto del origen.
+     * @param dorsal  El dorsal en el destino, o {@link #CUALQUIER_DORSAL}.
+     */
+    public record Traspaso(Jugador jugador, Equipo origen, Equipo destino, int dorsal) {
+        /**
+         * @throws IllegalArgumentException si los equipos son el mismo o el dorsal no es válido.
+         * @throws NullPointerException     si el jugador o algún equipo son nulos.
+         */
+        public Traspaso {
+            Objects.requireNonNull(jugador, "El jugador no puede ser nulo.");
+            Objects.requireNonNull(origen, "El equipo de origen no puede ser nulo.");
+            Objects.requireNonNull(destino, "El equipo de destino no puede ser nulo.");
+            if (origen == destino) {
+                throw new IllegalArgumentException("El equipo de origen y el de destino son el mismo.");
+            }
+            if (dorsal != CUALQUIER_DORSAL && (dorsal < Jugador.DORSAL_MINIMO || dorsal > Jugador.DORSAL_MAXIMO)) {
+                throw new IllegalArgumentException("Dorsal no válido: " + dorsal);
+            }
+        }
+    }
+
+    private final ReentrantLock[] cerrojos = new ReentrantLock[NUM_CERROJOS];
+
+    /**
+     * Crea un servicio de traspasos.
+     */
+    public ServicioTraspasos() {
+        for (int i = 0; i < NUM_CERROJOS; i++) {
+            cerrojos[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Obtiene la posición del cerrojo de un equipo, que solo depende de la identidad del equipo.
+     */
+    private static int cerrojo(Equipo equipo) {
+        int hash = System.identityHashCode(equipo);
+        return (hash ^ (hash >>> 16)) & (NUM_CERROJOS - 1);
+    }
+
+    /**
+     * Ejecuta una operación con los cerrojos de varios equipos tomados, de modo que ninguna otra operación del
+     * servicio sobre esos equipos puede ejecutarse a la vez.
+     *
+     * @param equipos  Los equipos que la operación consulta o modifica. Puede haber repetidos.
+     * @param operacion La operación.
+     * @param <T>      El tipo del resultado.
+     * @return El resultado de la operación.
+     */
+    public <T> T ejecutar(Collection<Equipo> equipos, Supplier<T> operacion) {
+        int[] ordenados = new int[equipos.size()];
+        int n = 0;
+        for (Equipo equipo : equipos) {
+            ordenados[n++] = cerrojo(equipo);
+        }
+        Arrays.sort(ordenados, 0, n);
+        int tomados = 0;
+        try {
+            for (int i = 0; i < n; i++) {
+                if (i == 0 || ordenados[i] != ordenados[i - 1]) {
+                    cerrojos[ordenados[i]].lock();
+                    tomados = i + 1;
+                }
+            }
+            return operacion.get();
+        } finally {
+            for (int i = tomados - 1; i >= 0; i--) {
+                if (i == 0 || ordenados[i] != ordenados[i - 1]) {
+                    cerrojos[ordenados[i]].unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Realiza un traspaso de forma atómica: o el jugador pasa del origen al destino con su nuevo dorsal, o no
+     * cambia nada.
+     *
+     * @param traspaso El traspaso.
+     * @return {@code true} si se ha realizado; {@code false} si el jugador ya no está en el equipo de origen o
+     *         no tiene un dorsal libre en el destino.
+     */
+    public boolean traspasar(Traspaso traspaso) {
+        return ejecutar(List.of(traspaso.origen(), traspaso.destino()), () -> aplicar(traspaso));
+    }
+
+    /**
+     * Realiza un traspaso de forma atómica.
+     *
+     * @param jugador El jugador.
+     * @param origen  El equipo en el que debe estar el jugador.
+     * @param destino El equipo al que pasa.
+     * @param dorsal  El dorsal en el destino, o {@link #CUALQUIER_DORSAL}.
+     * @return {@code true} si se ha realizado.
+     * @see #traspasar(Traspaso)
+     */
+    public boolean traspasar(Jugador jugador, Equipo origen, Equipo destino, int dorsal) {
+        return traspasar(new Traspaso(jugador, origen, destino, dorsal));
+    }
+
+    /**
+     * Realiza un lote de traspasos en el pool común de fork/join.
+     *
+     * @param traspasos Los traspasos.
+     * @return Los traspasos realizados.
+     * @see #traspasar(List, ForkJoinPool)
+     */
+    public List<Traspaso> traspasar(List<Traspaso> traspasos) {
+        return traspasar(traspasos, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Realiza un lote de traspasos repartidos entre los hilos de un pool. Cada traspaso es atómico, pero el
+     * lote no: cuando varios traspasos compiten por un mismo jugador o dorsal, cuál se realiza depende del
+     * orden en que se ejecutan.
+     *
+     * @param traspasos Los traspasos.
+     * @param pool      El pool en el que se ejecutan. No puede ser nulo.
+     * @return Una lista nueva con los traspasos realizados, en el orden del lote.
+     * @throws NullPointerException si el pool es nulo.
+     */
+    public List<Traspaso> traspasar(List<Traspaso> traspasos, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "El pool no puede ser nulo.");
+        Traspaso[] lote = traspasos.toArray(new Traspaso[0]);
+        boolean[] realizados = new boolean[lote.length];
+        if (lote.length > 0) {
+            pool.invoke(new Lote(lote, realizados, 0, lote.length));
+        }
+        List<Traspaso> hechos = new ArrayList<>();
+        for (int i = 0; i < lote.length; i++) {
+            if (realizados[i]) {
+                hechos.add(lote[i]);
+            }
+        }
+        return hechos;
+    }
+
+    /**
+     * Aplica un traspaso con los cerrojos de los dos equipos ya tomados.
+     */
+    private static boolean aplicar(Traspaso traspaso) {
+        Jugador jugador = traspaso.jugador();
+        Equipo destino = traspaso.destino();
+        if (jugador.getEquipo() != traspaso.origen()) {
+            return false;
+        }
+        int dorsal = elegirDorsal(destino, traspaso.dorsal(), jugador.getDorsal());
+        if (dorsal == CUALQUIER_DORSAL) {
+            return false;
+        }
+        traspaso.origen().eliminarJugador(jugador.getNombre(), jugador.getDorsal());
+        jugador.setDorsal(dorsal);
+        destino.agregarJugador(jugador);
+        return true;
+    }
+
+    /**
+     * Elige el dorsal del jugador en el destino, o devuelve {@link #CUALQUIER_DORSAL} si no hay ninguno libre.
+     */
+    private static int elegirDorsal(Equipo destino, int pedido, int actual) {
+        if (pedido != CUALQUIER_DORSAL) {
+            return destino.isDorsalOcupado(pedido) ? CUALQUIER_DORSAL : pedido;
+        }
+        if (!destino.isDorsalOcupado(actual)) {
+            return actual;
+        }
+        for (int dorsal = Jugador.DORSAL_MINIMO; dorsal <= Jugador.DORSAL_MAXIMO; dorsal++) {
+            if (!destino.isDorsalOcupado(dorsal)) {
+                return dorsal;
+            }
+        }
+        return CUALQUIER_DORSAL;
+    }
+
+    /**
+     * Tarea de fork/join que realiza un rango de traspasos, dividiéndolo en dos mitades si supera el umbral.
+     */
+    private final class Lote extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Traspaso[] traspasos;
+        private final boolean[] realizados;
+        private final int desde;
+        private final int hasta;
+
+        Lote(Traspaso[] traspasos, boolean[] realizados, int desde, int hasta) {
+            this.traspasos = traspasos;
+            this.realizados = realizados;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= UMBRAL_SECUENCIAL) {
+                for (int i = desde; i < hasta; i++) {
+                    realizados[i] = traspasar(traspasos[i]);
+                }
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new Lote(traspasos, realizados, desde, medio), new Lote(traspasos, realizados, medio, hasta));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package test.java.domain;
+
+import main.java.domain.*;
+import main.java.services.GeneradorDatos;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarioTest {
+
+    @Test
+    public void testCalendario_DobleVueltaSinRepetirEquiposEnUnaJornada() {
+        for (int n = 2; n <= 9; n++) {
+            List<Equipo> equipos = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                equipos.add(new Equipo("Equipo " + i, 1900, "Ciudad"));
+            }
+            Calendario calendario = new Calendario(equipos);
+            assertEquals(n % 2 == 0 ? 2 * (n - 1) : 2 * n, calendario.getNumJornadas());
+
+            Set<List<Equipo>> enfrentamientos = new HashSet<>();
+            for (int jornada = 0; jornada < calendario.getNumJornadas(); jornada++) {
+                Set<Equipo> juegan = new HashSet<>();
+                for (Partido partido : calendario.crearPartidos(jornada)) {
+                    assertTrue(juegan.add(partido.getLocal()));
+                    assertTrue(juegan.add(partido.getVisitante()));
+                    assertTrue(enfrentamientos.add(List.of(partido.getLocal(), partido.getVisitante())));
+                }
+                Equipo descansa = calendario.getEquipoQueDescansa(jornada);
+                assertEquals(n % 2 == 1, descansa != null);
+                assertFalse(juegan.contains(descansa));
+            }
+            assertEquals(n * (n - 1), enfrentamientos.size());
+        }
+    }
+
+    @Test
+    public void testJugarJornada_ClasificacionIncrementalYReproducible() {
+        List<Equipo> equipos = new GeneradorDatos(5).generarEquipos(7);
+        Liga secuencial = new Liga("A");
+        Liga paralela = new Liga("B");
+        for (Liga liga : List.of(secuencial, paralela)) {
+            liga.setOyente(OyentePartido.NINGUNO);
+            equipos.forEach(liga::agregarEquipo);
+            liga.iniciarTemporada();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            List<Liga.EquipoStats> anterior = secuencial.getClasificacion();
+            for (int jornada = 1; jornada <= 14; jornada++) {
+                secuencial.jugarJornada(jornada, ForkJoinPool.commonPool());
+                paralela.jugarJornada(jornada, pool);
+                assertEquals(jornada, secuencial.getJornadasJugadas());
+                int partidos = secuencial.getClasificacion().stream()
+                        .mapToInt(Liga.EquipoStats::getPartidosJugados).sum();
+                assertEquals(2 * 3 * jornada, partidos);
+                assertEquals(2 * 3 * (jornada - 1), anterior.stream()
+                        .mapToInt(Liga.EquipoStats::getPartidosJugados).sum());
+                anterior = secuencial.getClasificacion();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(secuencial.isTemporadaTerminada());
+        assertThrows(IllegalStateException.class, secuencial::jugarJornada);
+        for (int i = 0; i < equipos.size(); i++) {
+            Liga.EquipoStats a = secuencial.getClasificacion().get(i);
+            Liga.EquipoStats b = paralela.getClasificacion().get(i);
+            assertSame(a.getEquipo(), b.getEquipo());
+            assertEquals(12, a.getPartidosJugados());
+            assertEquals(a.getPuntos(), b.getPuntos());
+            assertEquals(a.getGolesFavor(), b.getGolesFavor());
+        }
+    }
+}
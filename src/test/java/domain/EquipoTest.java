@@ -0,0 +1,99 @@
+package test.java.domain;
+
+import main.java.domain.Equipo;
+import main.java.domain.Jugador;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EquipoTest {
+
+    private Equipo equipo;
+
+    @BeforeEach
+    public void setUp() {
+        equipo = new Equipo("Girona", 1930, "Girona");
+    }
+
+    private Jugador crearJugador(String nombre, int dorsal, double calidad) {
+        return new Jugador(nombre, "Prova", "01/01/2000", 100000, 5, dorsal, "MIG", calidad);
+    }
+
+    @Test
+    public void testAgregarJugador_IndexaPorDorsalYNombre() {
+        Jugador jugador = crearJugador("Aleix", 10, 80);
+        equipo.agregarJugador(jugador);
+
+        assertSame(jugador, equipo.buscarJugador(10));
+        assertSame(jugador, equipo.buscarJugador("Aleix", 10));
+        assertNull(equipo.buscarJugador("Altre", 10));
+        assertEquals(1, equipo.buscarJugadores("Aleix").size());
+        assertTrue(equipo.isDorsalOcupado(10));
+        assertEquals(1, equipo.getNumeroJugadores());
+        assertSame(equipo, jugador.getEquipo());
+    }
+
+    @Test
+    public void testAgregarJugador_DorsalDuplicado() {
+        equipo.agregarJugador(crearJugador("Aleix", 10, 80));
+        assertThrows(IllegalArgumentException.class, () -> equipo.agregarJugador(crearJugador("Bernat", 10, 70)));
+        assertEquals(1, equipo.getNumeroJugadores());
+    }
+
+    @Test
+    public void testEliminarJugador_LiberaDorsal() {
+        Jugador jugador = crearJugador("Aleix", 10, 80);
+        equipo.agregarJugador(jugador);
+
+        assertFalse(equipo.eliminarJugador("Altre", 10));
+        assertTrue(equipo.eliminarJugador("Aleix", 10));
+        assertFalse(equipo.isDorsalOcupado(10));
+        assertTrue(equipo.buscarJugadores("Aleix").isEmpty());
+        assertNull(jugador.getEquipo());
+    }
+
+    @Test
+    public void testSetDorsal_ReubicaEnLaPlantilla() {
+        Jugador jugador = crearJugador("Aleix", 10, 80);
+        equipo.agregarJugador(jugador);
+        equipo.agregarJugador(crearJugador("Bernat", 7, 70));
+
+        jugador.setDorsal(11);
+        assertFalse(equipo.isDorsalOcupado(10));
+        assertSame(jugador, equipo.buscarJugador(11));
+        assertThrows(IllegalArgumentException.class, () -> jugador.setDorsal(7));
+        assertEquals(11, jugador.getDorsal());
+    }
+
+    @Test
+    public void testCalcularCalidadMedia_SeActualizaConLaPlantilla() {
+        Jugador jugador = crearJugador("Aleix", 10, 80);
+        equipo.agregarJugador(jugador);
+        equipo.agregarJugador(crearJugador("Bernat", 7, 60));
+        assertEquals(70, equipo.calcularCalidadMedia(), 1e-9);
+
+        jugador.setCalidad(90);
+        assertEquals(75, equipo.calcularCalidadMedia(), 1e-9);
+
+        equipo.eliminarJugador("Bernat", 7);
+        assertEquals(90, equipo.calcularCalidadMedia(), 1e-9);
+    }
+
+    @Test
+    public void testGetJugadores_ReutilizaLaVistaHastaQueCambiaLaPlantilla() {
+        Jugador jugador = crearJugador("Aleix", 10, 80);
+        equipo.agregarJugador(jugador);
+        equipo.agregarJugador(crearJugador("Bernat", 7, 60));
+
+        assertSame(equipo.getJugadores(), equipo.getJugadores());
+        assertSame(jugador, equipo.getJugadoresPorCalidad().get(0));
+
+        jugador.setCalidad(50);
+        assertEquals("Bernat", equipo.getJugadoresPorCalidad().get(0).getNombre());
+
+        equipo.agregarJugador(crearJugador("Carles", 9, 99));
+        assertEquals(3, equipo.getJugadores().size());
+        assertEquals("Carles", equipo.getJugadoresPorCalidad().get(0).getNombre());
+    }
+}
@@ -0,0 +1,70 @@
+package test.java.domain;
+
+import main.java.domain.Equipo;
+import main.java.domain.Liga;
+import main.java.domain.OyentePartido;
+import main.java.domain.Partido;
+import main.java.services.GeneradorDatos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LigaTest {
+
+    private static Liga crearLiga(String nombre, List<Equipo> equipos, OyentePartido oyente) {
+        Liga liga = new Liga(nombre);
+        liga.setOyente(oyente);
+        equipos.forEach(liga::agregarEquipo);
+        return liga;
+    }
+
+    @Test
+    public void testDisputarLigaParalela_MismaSemillaMismoResultadoConCualquierNumeroDeHilos() {
+        List<Equipo> equipos = new GeneradorDatos(3).generarEquipos(20);
+        List<Partido> notificados = new ArrayList<>();
+        Liga unHilo = crearLiga("A", equipos, OyentePartido.NINGUNO);
+        Liga cuatroHilos = crearLiga("B", equipos, notificados::add);
+
+        ForkJoinPool pool1 = new ForkJoinPool(1);
+        ForkJoinPool pool4 = new ForkJoinPool(4);
+        try {
+            unHilo.disputarLigaParalela(17, pool1);
+            cuatroHilos.disputarLigaParalela(17, pool4);
+        } finally {
+            pool1.shutdown();
+            pool4.shutdown();
+        }
+
+        List<Partido> a = unHilo.getPartidos();
+        List<Partido> b = cuatroHilos.getPartidos();
+        assertEquals(20 * 19 / 2, a.size());
+        assertEquals(b, notificados);
+        for (int i = 0; i < a.size(); i++) {
+            assertSame(a.get(i).getLocal(), b.get(i).getLocal());
+            assertSame(a.get(i).getVisitante(), b.get(i).getVisitante());
+            assertEquals(a.get(i).getGolesLocal(), b.get(i).getGolesLocal());
+            assertEquals(a.get(i).getGolesVisitante(), b.get(i).getGolesVisitante());
+        }
+        for (int i = 0; i < equipos.size(); i++) {
+            Liga.EquipoStats sa = unHilo.getClasificacion().get(i);
+            Liga.EquipoStats sb = cuatroHilos.getClasificacion().get(i);
+            assertSame(sa.getEquipo(), sb.getEquipo());
+            assertEquals(sa.getPuntos(), sb.getPuntos());
+            assertEquals(sa.getGolesFavor(), sb.getGolesFavor());
+            assertEquals(sa.getGolesContra(), sb.getGolesContra());
+        }
+
+        Liga otraSemilla = crearLiga("C", equipos, OyentePartido.NINGUNO);
+        otraSemilla.disputarLigaParalela(18, ForkJoinPool.commonPool());
+        boolean distinto = false;
+        for (int i = 0; i < a.size() && !distinto; i++) {
+            distinto = a.get(i).getGolesLocal() != otraSemilla.getPartidos().get(i).getGolesLocal()
+                    || a.get(i).getGolesVisitante() != otraSemilla.getPartidos().get(i).getGolesVisitante();
+        }
+        assertTrue(distinto);
+    }
+}
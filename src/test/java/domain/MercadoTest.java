@@ -0,0 +1,118 @@
+package test.java.domain;
+
+import main.java.domain.Entrenador;
+import main.java.domain.Jugador;
+import main.java.domain.Mercado;
+import main.java.domain.Persona;
+import main.java.domain.Posicion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MercadoTest {
+
+    private static Jugador jugador(String apellido, Posicion posicion, double calidad, double sueldo) {
+        return new Jugador("Jugador", apellido, "01/01/2000", sueldo, 5, 1, posicion, calidad);
+    }
+
+    @Test
+    public void testListados_CoincidenConOrdenarElMercadoDespuesDeAltasYBajas() {
+        Random rand = new Random(3);
+        Mercado mercado = new Mercado();
+        List<Persona> esperado = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Persona persona = i % 10 == 0
+                    ? new Entrenador("Entrenador", "E" + i, "01/01/1980", rand.nextInt(50) * 1000, 5, 0, false)
+                    : jugador("J" + i, Posicion.values()[rand.nextInt(4)], 30 + rand.nextInt(15) * 5, rand.nextInt(50) * 1000);
+            mercado.add(persona);
+            esperado.add(persona);
+            if (i % 7 == 0) {
+                Persona baja = esperado.remove(rand.nextInt(esperado.size()));
+                assertTrue(mercado.remove(baja));
+                assertFalse(mercado.contains(baja));
+            }
+        }
+
+        assertEquals(esperado.size(), mercado.size());
+        assertTrue(mercado.containsAll(esperado));
+        for (Posicion posicion : Posicion.values()) {
+            List<Jugador> jugadores = esperado.stream()
+                    .filter(p -> p instanceof Jugador j && j.getPosicionCampo() == posicion)
+                    .map(p -> (Jugador) p).sorted().toList();
+            assertEquals(jugadores, mercado.getJugadores(posicion));
+            assertEquals(jugadores.stream().filter(j -> j.getCalidad() >= 40 && j.getCalidad() <= 70
+                    && j.getSueldo() <= 25000).toList(), mercado.buscarJugadores(posicion, 40, 70, 25000));
+        }
+        List<Entrenador> entrenadores = mercado.getEntrenadores();
+        for (int i = 1; i < entrenadores.size(); i++) {
+            assertTrue(entrenadores.get(i - 1).getSueldo() <= entrenadores.get(i).getSueldo());
+        }
+        assertEquals(esperado.stream().filter(p -> p instanceof Entrenador).count(), entrenadores.size());
+    }
+
+    @Test
+    public void testActualizarEInvalidar_ReflejanLosCambiosDeLosJugadores() {
+        Jugador a = jugador("A", Posicion.DEF, 50, 1000);
+        Jugador b = jugador("B", Posicion.DEF, 60, 2000);
+        Mercado mercado = new Mercado(List.of(a, b));
+        assertEquals(List.of(b, a), mercado.getJugadores(Posicion.DEF));
+        assertThrows(IllegalArgumentException.class, () -> mercado.add(a));
+
+        a.setCalidad(70);
+        a.setPosicion(Posicion.DAV);
+        mercado.actualizar(a);
+        assertEquals(List.of(b), mercado.getJugadores(Posicion.DEF));
+        assertEquals(List.of(a), mercado.buscarJugadoresPorSueldo(Posicion.DAV, 0, 1000));
+
+        b.setCalidad(80);
+        mercado.invalidarIndices();
+        assertEquals(List.of(b, a), mercado.getJugadores(null));
+        assertEquals(1, mercado.getNumJugadores(Posicion.DAV));
+    }
+
+    @Test
+    public void testPaginas_RecorrenElListadoAdelanteYAtrasAunqueSeFicheAlguien() {
+        List<Jugador> jugadores = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            jugadores.add(jugador("J" + i, Posicion.MIG, 30 + i, 1000));
+        }
+        Mercado mercado = new Mercado(jugadores);
+        List<Jugador> orden = mercado.getJugadores(Posicion.MIG);
+
+        Mercado.Pagina<Jugador> pagina = mercado.paginarJugadores(Posicion.MIG, 20);
+        assertFalse(pagina.hayAnterior());
+        assertEquals(orden.subList(0, 20), pagina.getElementos());
+        pagina = pagina.siguiente();
+        assertEquals(orden.subList(20, 40), pagina.getElementos());
+
+        mercado.remove(orden.get(39));
+        pagina = pagina.siguiente();
+        assertEquals(orden.subList(40, 45), pagina.getElementos());
+        assertFalse(pagina.haySiguiente());
+        pagina = pagina.anterior();
+        assertEquals(orden.subList(19, 39), pagina.getElementos());
+    }
+
+    @Test
+    public void testGetMejores_DevuelveLosKPrimerosDelOrden() {
+        List<Persona> personas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            personas.add(jugador("J" + i, Posicion.values()[i % 4], 30 + (i * 37) % 70, (i * 53) % 100 * 1000));
+            personas.add(new Entrenador("Entrenador", "E" + i, "01/01/1980", 1000, 5, i, false));
+        }
+        Mercado mercado = new Mercado(personas);
+        Comparator<Jugador> porSueldo = Comparator.comparingDouble(Jugador::getSueldo);
+
+        List<Jugador> esperado = personas.stream().filter(p -> p instanceof Jugador)
+                .map(p -> (Jugador) p).sorted(porSueldo).limit(10).toList();
+        assertEquals(esperado, mercado.getMejores(Jugador.class, porSueldo, 10));
+        assertEquals(100, mercado.getMejores(Entrenador.class,
+                Comparator.comparingInt(Entrenador::getTorneosGanados), 500).size());
+        assertTrue(mercado.getMejores(Jugador.class, porSueldo, 0).isEmpty());
+    }
+}
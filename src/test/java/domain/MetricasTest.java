@@ -0,0 +1,32 @@
+package test.java.domain;
+
+import main.java.domain.Entrenador;
+import main.java.domain.Jugador;
+import main.java.domain.Metricas;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricasTest {
+
+    @Test
+    public void testContadores_NoPierdenIncrementosEnParalelo() {
+        long jugadores = Metricas.valor(Metricas.JUGADORES_CREADOS);
+        long entrenadores = Metricas.valor(Metricas.ENTRENADORES_CREADOS);
+
+        IntStream.range(0, 40_000).parallel().forEach(i -> {
+            new Jugador("Nombre", "Apellido", "01/01/2000", 1000, 5, 1 + i % 99, "MIG", 50);
+            if (i % 4 == 0) {
+                new Entrenador("Nombre", "Apellido", "01/01/1970", 1000, 5, 0, false);
+            }
+        });
+
+        assertEquals(jugadores + 40_000, Metricas.valor(Metricas.JUGADORES_CREADOS));
+        assertEquals(entrenadores + 10_000, Metricas.valor(Metricas.ENTRENADORES_CREADOS));
+        assertEquals(Metricas.valor(Metricas.JUGADORES_CREADOS), Jugador.getTotalJugadores());
+        assertEquals(Metricas.instantanea().get(Metricas.ENTRENADORES_CREADOS),
+                Entrenador.getTotalEntrenadores());
+    }
+}
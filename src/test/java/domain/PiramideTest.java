@@ -0,0 +1,68 @@
+package test.java.domain;
+
+import main.java.domain.Equipo;
+import main.java.domain.Liga;
+import main.java.domain.Piramide;
+import main.java.services.GeneradorDatos;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PiramideTest {
+
+    @Test
+    public void testDisputarTemporada_AsciendenLosPrimerosYBajanLosUltimos() {
+        List<Equipo> equipos = new GeneradorDatos(9).generarEquipos(18);
+        Piramide piramide = new Piramide("Test",
+                List.of(equipos.subList(0, 6), equipos.subList(6, 12), equipos.subList(12, 18)), 2);
+
+        List<Piramide.Cambio> cambios = piramide.disputarTemporada(1);
+        assertEquals(8, cambios.size());
+
+        List<Liga> ligas = piramide.getUltimaTemporada();
+        for (int d = 0; d < 3; d++) {
+            assertEquals(6, piramide.getEquipos(d).size());
+            assertEquals(10, ligas.get(d).getClasificacion().get(0).getPartidosJugados());
+        }
+        List<Liga.EquipoStats> primera = ligas.get(0).getClasificacion();
+        List<Liga.EquipoStats> segunda = ligas.get(1).getClasificacion();
+        for (int i = 0; i < 2; i++) {
+            assertTrue(piramide.getEquipos(1).contains(primera.get(4 + i).getEquipo()));
+            assertTrue(piramide.getEquipos(0).contains(segunda.get(i).getEquipo()));
+        }
+        assertEquals(4, cambios.stream().filter(Piramide.Cambio::isAscenso).count());
+    }
+
+    @Test
+    public void testDisputarTemporada_MismaSemillaMismasDivisionesConCualquierNumeroDeHilos() {
+        Piramide unHilo = crear();
+        Piramide variosHilos = crear();
+        ForkJoinPool pool1 = new ForkJoinPool(1);
+        ForkJoinPool pool4 = new ForkJoinPool(4);
+        try {
+            for (int temporada = 0; temporada < 5; temporada++) {
+                unHilo.disputarTemporada(temporada, pool1);
+                variosHilos.disputarTemporada(temporada, pool4);
+            }
+        } finally {
+            pool1.shutdown();
+            pool4.shutdown();
+        }
+        for (int d = 0; d < 4; d++) {
+            assertEquals(nombres(unHilo.getEquipos(d)), nombres(variosHilos.getEquipos(d)));
+        }
+    }
+
+    private static Piramide crear() {
+        List<Equipo> equipos = new GeneradorDatos(4).generarEquipos(32);
+        return new Piramide("Test", List.of(equipos.subList(0, 8), equipos.subList(8, 16),
+                equipos.subList(16, 24), equipos.subList(24, 32)), 3);
+    }
+
+    private static List<String> nombres(List<Equipo> equipos) {
+        return equipos.stream().map(Equipo::getNombre).toList();
+    }
+}
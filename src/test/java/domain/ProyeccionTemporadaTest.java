@@ -0,0 +1,155 @@
+package test.java.domain;
+
+import main.java.domain.Equipo;
+import main.java.domain.Jugador;
+import main.java.domain.Liga;
+import main.java.domain.ProyeccionTemporada;
+import main.java.domain.SimuladorPartido;
+import main.java.services.GeneradorDatos;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProyeccionTemporadaTest {
+
+    private static Liga crearLiga(List<Equipo> equipos) {
+        Liga liga = new Liga("Proyección");
+        equipos.forEach(liga::agregarEquipo);
+        return liga;
+    }
+
+    private static Equipo equipo(String nombre, double calidad) {
+        Equipo equipo = new Equipo(nombre, 1900, "Barcelona");
+        equipo.agregarJugador(new Jugador("Jugador", nombre, "01/01/2000", 1000, 5, 1, "MIG", calidad));
+        return equipo;
+    }
+
+    @Test
+    public void testProyectar_MismaSemillaMismoResultadoConCualquierNumeroDeHilos() {
+        List<Equipo> equipos = new GeneradorDatos(4).generarEquipos(12);
+        Liga liga = crearLiga(equipos);
+
+        ForkJoinPool unHilo = new ForkJoinPool(1);
+        ForkJoinPool cuatroHilos = new ForkJoinPool(4);
+        ProyeccionTemporada.Resultado a;
+        ProyeccionTemporada.Resultado b;
+        try {
+            a = ProyeccionTemporada.proyectar(liga, 2001, 21, unHilo);
+            b = ProyeccionTemporada.proyectar(liga, 2001, 21, cuatroHilos);
+        } finally {
+            unHilo.shutdown();
+            cuatroHilos.shutdown();
+        }
+
+        for (Equipo equipo : equipos) {
+            assertArrayEquals(a.getHistogramaPosiciones(equipo), b.getHistogramaPosiciones(equipo));
+            assertArrayEquals(a.getHistogramaPuntos(equipo), b.getHistogramaPuntos(equipo));
+            assertEquals(a.getPuntosMedios(equipo), b.getPuntosMedios(equipo));
+        }
+        assertTrue(liga.getPartidos().isEmpty());
+    }
+
+    @Test
+    public void testProyectar_LasProbabilidadesDeCadaEquipoSumanUno() {
+        List<Equipo> equipos = new GeneradorDatos(6).generarEquipos(9);
+        ProyeccionTemporada.Resultado resultado = ProyeccionTemporada.proyectar(crearLiga(equipos), 5000, 2);
+
+        double titulos = 0;
+        int[] porPosicion = new int[equipos.size()];
+        for (Equipo equipo : equipos) {
+            int[] posiciones = resultado.getHistogramaPosiciones(equipo);
+            assertEquals(5000, Arrays.stream(posiciones).sum());
+            assertEquals(5000, Arrays.stream(resultado.getHistogramaPuntos(equipo)).sum());
+            assertEquals(1.0, resultado.getProbabilidadDescenso(equipo, equipos.size()), 1e-12);
+            titulos += resultado.getProbabilidadTitulo(equipo);
+            for (int p = 0; p < posiciones.length; p++) {
+                porPosicion[p] += posiciones[p];
+            }
+        }
+        assertEquals(1.0, titulos, 1e-12);
+        for (int veces : porPosicion) {
+            assertEquals(5000, veces);
+        }
+    }
+
+    @Test
+    public void testProyectar_DesempataComoLaClasificacionDeLaLiga() {
+        List<Equipo> equipos = new GeneradorDatos(8).generarEquipos(6);
+        Liga liga = crearLiga(equipos);
+        int n = equipos.size();
+        double[] factores = equipos.stream().mapToDouble(SimuladorPartido::calcularFactor).toArray();
+
+        int empatesConDistintosGoles = 0;
+        for (long semilla = 0; semilla < 300; semilla++) {
+            // La misma temporada que la única simulación de la proyección con esta semilla
+            SplittableRandom rand = new SplittableRandom(semilla);
+            int[] puntos = new int[n];
+            int[] golesFavor = new int[n];
+            int[] diferencia = new int[n];
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    int local = SimuladorPartido.calcularGoles(
+                            SimuladorPartido.calcularLimite(factores[i], factores[j]), rand);
+                    int visitante = SimuladorPartido.calcularGoles(
+                            SimuladorPartido.calcularLimite(factores[j], factores[i]), rand);
+                    golesFavor[i] += local;
+                    golesFavor[j] += visitante;
+                    diferencia[i] += local - visitante;
+                    diferencia[j] += visitante - local;
+                    puntos[i] += local > visitante ? 3 : local == visitante ? 1 : 0;
+                    puntos[j] += visitante > local ? 3 : local == visitante ? 1 : 0;
+                }
+            }
+            // Orden de Liga.getClasificacion(): puntos, diferencia de goles y, si empatan, orden en la liga
+            Integer[] orden = {0, 1, 2, 3, 4, 5};
+            Arrays.sort(orden, Comparator.<Integer>comparingInt(i -> puntos[i])
+                    .thenComparingInt(i -> diferencia[i]).reversed());
+            for (int p = 1; p < n; p++) {
+                int a = orden[p - 1];
+                int b = orden[p];
+                if (puntos[a] == puntos[b] && diferencia[a] == diferencia[b] && golesFavor[a] != golesFavor[b]) {
+                    empatesConDistintosGoles++;
+                }
+            }
+
+            ProyeccionTemporada.Resultado resultado = ProyeccionTemporada.proyectar(liga, 1, semilla);
+            for (int p = 0; p < n; p++) {
+                Equipo equipo = equipos.get(orden[p]);
+                assertEquals(1, resultado.getHistogramaPuntos(equipo)[puntos[orden[p]]]);
+                assertEquals(1, resultado.getHistogramaPosiciones(equipo)[p], "semilla " + semilla);
+            }
+        }
+        assertTrue(empatesConDistintosGoles > 0);
+    }
+
+    @Test
+    public void testProyectar_LimitesDeLaClaveDeClasificacion() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ProyeccionTemporada.proyectar(crearLiga(List.of(equipo("A", 50))), 10, 1));
+        Liga demasiados = new Liga("Demasiados");
+        for (int i = 0; i <= ProyeccionTemporada.MAX_EQUIPOS; i++) {
+            demasiados.agregarEquipo(new Equipo("Equipo " + i, 1900, "Barcelona"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ProyeccionTemporada.proyectar(demasiados, 10, 1));
+
+        // Los puntos ocupan los bits más altos de la clave y el orden en la liga los más bajos: con dos equipos
+        // iguales, el primero queda primero cuando gana y cuando empata (mismos puntos y goles)
+        Equipo primero = equipo("Primero", 60);
+        Equipo segundo = equipo("Segundo", 60);
+        ProyeccionTemporada.Resultado resultado = ProyeccionTemporada.proyectar(
+                crearLiga(List.of(primero, segundo)), 10000, 3);
+        int[] puntosPrimero = resultado.getHistogramaPuntos(primero);
+        int[] puntosSegundo = resultado.getHistogramaPuntos(segundo);
+        assertEquals(3 + 1, puntosPrimero.length);
+        assertTrue(puntosPrimero[1] > 0);
+        assertEquals(puntosPrimero[1], puntosSegundo[1]);
+        assertEquals(puntosPrimero[3] + puntosPrimero[1], resultado.getHistogramaPosiciones(primero)[0]);
+        assertEquals(puntosSegundo[3], resultado.getHistogramaPosiciones(segundo)[0]);
+    }
+}
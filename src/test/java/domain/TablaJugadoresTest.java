@@ -0,0 +1,46 @@
+package test.java.domain;
+
+import main.java.domain.Equipo;
+import main.java.domain.Jugador;
+import main.java.domain.TablaJugadores;
+import main.java.services.GeneradorDatos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TablaJugadoresTest {
+
+    @Test
+    public void testConsultas_CoincidenConLasDeLosObjetos() {
+        List<Equipo> equipos = new GeneradorDatos(3).generarEquipos(20);
+        TablaJugadores tabla = TablaJugadores.desdeEquipos(equipos);
+        TablaJugadores.Fila fila = tabla.fila();
+
+        List<Jugador> todos = new ArrayList<>();
+        equipos.forEach(e -> todos.addAll(e.getJugadores()));
+        assertEquals(todos.size(), tabla.size());
+
+        double[] medias = tabla.getCalidadMediaPorEquipo();
+        for (int id = 0; id < equipos.size(); id++) {
+            assertEquals(equipos.get(id).calcularCalidadMedia(), medias[id], 1e-9);
+        }
+
+        Collections.sort(todos);
+        int[] filas = tabla.getFilasPorCalidad();
+        for (int i = 0; i < filas.length; i++) {
+            assertSame(todos.get(i), fila.en(filas[i]).getJugador());
+        }
+
+        int[] mejores = tabla.getMejoresPorPosicion();
+        for (int codigo = 0; codigo < mejores.length; codigo++) {
+            String posicion = Jugador.POSICIONES[codigo];
+            Jugador esperado = todos.stream().filter(j -> j.getPosicion().equals(posicion)).findFirst().orElseThrow();
+            assertSame(esperado, fila.en(mejores[codigo]).getJugador());
+            assertSame(esperado.getEquipo(), fila.getEquipo());
+        }
+    }
+}
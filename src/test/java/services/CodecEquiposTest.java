@@ -0,0 +1,134 @@
+package test.java.services;
+
+import main.java.domain.Entrenador;
+import main.java.domain.Equipo;
+import main.java.domain.Jugador;
+import main.java.services.CodecEquipos;
+import main.java.services.FileManager;
+import main.java.services.ListaEquiposPerezosa;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CodecEquiposTest {
+
+    @Test
+    public void testGuardarYCargar_ConservaEquiposEntrenadoresYJugadores() throws IOException {
+        Equipo equipo = new Equipo("Sant Andreu", 1909, "Barcelona", "Narcís Sala", null);
+        equipo.setEntrenador(new Entrenador("Natxo", "González", "12/03/1966", 250000, 7.5, 2, false));
+        equipo.agregarJugador(new Jugador("Jordi", "Ibáñez", "01/02/1999", 90000, 6, 1, "POR", 72.5));
+        equipo.agregarJugador(new Jugador("Àlex", "Serra", "15/09/2001", 80000, 8, 9, "DAV", 80.1));
+        Equipo sinPlantilla = new Equipo("Europa", 1907, "Barcelona");
+
+        Path archivo = Files.createTempFile("equipos", ".bin");
+        try {
+            CodecEquipos.guardar(archivo, List.of(equipo, sinPlantilla));
+            assertTrue(CodecEquipos.esFormatoBinario(archivo));
+
+            List<Equipo> cargados = CodecEquipos.cargar(archivo);
+            assertEquals(2, cargados.size());
+
+            Equipo cargado = cargados.get(0);
+            assertEquals("Sant Andreu", cargado.getNombre());
+            assertEquals("Narcís Sala", cargado.getNombreEstadio());
+            assertNull(cargado.getNombrePresidente());
+            assertEquals("González", cargado.getEntrenador().getApellido());
+            assertEquals(2, cargado.getEntrenador().getTorneosGanados());
+            assertEquals(2, cargado.getNumeroJugadores());
+            Jugador delantero = cargado.buscarJugador(9);
+            assertEquals("Àlex", delantero.getNombre());
+            assertEquals("DAV", delantero.getPosicion());
+            assertEquals(80.1, delantero.getCalidad(), 0);
+
+            assertNull(cargados.get(1).getEntrenador());
+            assertEquals(0, cargados.get(1).getNumeroJugadores());
+        } finally {
+            Files.deleteIfExists(archivo);
+        }
+    }
+
+    @Test
+    public void testEsFormatoBinario_ArchivoDeTexto() throws IOException {
+        Path archivo = Files.createTempFile("equipos", ".txt");
+        try {
+            Files.writeString(archivo, "no es binari");
+            assertFalse(CodecEquipos.esFormatoBinario(archivo));
+            assertThrows(IOException.class, () -> CodecEquipos.cargar(archivo));
+        } finally {
+            Files.deleteIfExists(archivo);
+        }
+    }
+
+    @Test
+    public void testListaPerezosa_CreaEquiposAlAccederYCopiaLosDemasAlGuardar() throws IOException {
+        Equipo primero = new Equipo("Jupiter", 1909, "Barcelona");
+        primero.agregarJugador(new Jugador("Pere", "Mas", "01/02/1999", 50000, 5, 4, "DEF", 60));
+        Equipo segundo = new Equipo("Martinenc", 1915, "Barcelona");
+        segundo.agregarJugador(new Jugador("Joan", "Puig", "03/04/2000", 60000, 6, 10, "MIG", 65));
+
+        Path archivo = Files.createTempFile("equipos", ".bin");
+        Path copia = Files.createTempFile("equipos", ".bin");
+        try {
+            CodecEquipos.guardar(archivo, List.of(primero, segundo));
+            ListaEquiposPerezosa lista = ListaEquiposPerezosa.abrir(archivo);
+            assertEquals(2, lista.size());
+            assertEquals("Martinenc", lista.getNombre(1));
+            assertFalse(lista.isCargado(1));
+
+            Equipo cargado = lista.get(0);
+            assertTrue(lista.isCargado(0));
+            assertSame(cargado, lista.get(0));
+            cargado.setNombreEstadio("Camp del Jupiter");
+            lista.add(new Equipo("Europa", 1907, "Barcelona"));
+
+            CodecEquipos.guardar(copia, lista);
+            List<Equipo> guardados = CodecEquipos.cargar(copia);
+            assertEquals(3, guardados.size());
+            assertEquals("Camp del Jupiter", guardados.get(0).getNombreEstadio());
+            assertEquals("Joan", guardados.get(1).buscarJugador(10).getNombre());
+            assertEquals("Europa", guardados.get(2).getNombre());
+        } finally {
+            Files.deleteIfExists(archivo);
+            Files.deleteIfExists(copia);
+        }
+    }
+
+    @Test
+    public void testListaPerezosa_SeGuardaEncimaDeSuPropioArchivo() throws IOException {
+        Path archivo = Files.createTempFile("equipos", ".bin");
+        try {
+            CodecEquipos.guardar(archivo, List.of(new Equipo("Jupiter", 1909, "Barcelona"),
+                    new Equipo("Martinenc", 1915, "Barcelona"), new Equipo("Europa", 1907, "Barcelona")));
+            ListaEquiposPerezosa lista = ListaEquiposPerezosa.abrir(archivo);
+            assertTrue(lista.dependeDe(archivo));
+            lista.remove(1);
+            Equipo jupiter = lista.get(0);
+            jupiter.setNombreEstadio("Camp del Jupiter");
+
+            // Los equipos que no se han creado se siguen leyendo del archivo nuevo, con sus registros
+            FileManager.escribirEquipos(lista, archivo);
+            assertTrue(lista.dependeDe(archivo));
+            assertFalse(lista.isCargado(1));
+            assertEquals("Europa", lista.getNombre(1));
+            assertSame(jupiter, lista.get(0));
+
+            lista.add(new Equipo("Sant Andreu", 1909, "Barcelona"));
+            FileManager.escribirEquipos(lista, archivo);
+            assertFalse(lista.isCargado(1));
+            assertEquals("Europa", lista.get(1).getNombre());
+
+            List<Equipo> guardados = FileManager.leerEquipos(archivo);
+            assertEquals(3, guardados.size());
+            assertEquals("Camp del Jupiter", guardados.get(0).getNombreEstadio());
+            assertEquals("Europa", guardados.get(1).getNombre());
+            assertEquals("Sant Andreu", guardados.get(2).getNombre());
+        } finally {
+            Files.deleteIfExists(archivo);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package test.java.services;
+
+import main.java.domain.Jugador;
+import main.java.domain.Persona;
+import main.java.services.DiarioMercado;
+import main.java.services.DiarioMercado.Operacion;
+import main.java.services.LectorMercado;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DiarioMercadoTest {
+
+    @Test
+    public void testReproducir_DescartaLasEntradasYaIncluidasEnLaInstantanea() throws IOException {
+        Path instantanea = Files.createTempFile("mercado", ".txt");
+        Path archivoDiario = Files.createTempFile("mercado", ".diario");
+        try {
+            DiarioMercado diario = new DiarioMercado(archivoDiario);
+            diario.reproducir(new ArrayList<>(), 1, (n, linea, motivo) -> fail(motivo));
+            diario.registrar(Operacion.ALTA, new Jugador("Pere", "Mas", "01/02/1999", 50000, 5, 4, "DEF", 60));
+
+            // Instantánea nueva ya sustituida, pero el programa se interrumpe antes de vaciar el diario
+            Files.writeString(instantanea, "G;2\nJ;Pere;Mas;01/02/1999;5;50000.0;4;DEF;60.0\n",
+                    StandardCharsets.UTF_8);
+
+            List<Persona> mercado = new ArrayList<>();
+            long generacion;
+            try (LectorMercado lector = LectorMercado.abrir(instantanea, (n, linea, motivo) -> fail(motivo))) {
+                generacion = lector.getGeneracion();
+                lector.forEach(mercado::add);
+            }
+            assertEquals(2, generacion);
+            DiarioMercado reabierto = new DiarioMercado(archivoDiario);
+            reabierto.reproducir(mercado, generacion, (n, linea, motivo) -> fail(motivo));
+            assertEquals(1, mercado.size());
+
+            reabierto.registrar(Operacion.ALTA, new Jugador("Joan", "Puig", "03/04/2000", 60000, 6, 4, "MIG", 65));
+            new DiarioMercado(archivoDiario).reproducir(mercado, generacion, (n, linea, motivo) -> fail(motivo));
+            assertEquals(2, mercado.size());
+            assertEquals("Joan", mercado.get(1).getNombre());
+        } finally {
+            Files.deleteIfExists(instantanea);
+            Files.deleteIfExists(archivoDiario);
+        }
+    }
+}
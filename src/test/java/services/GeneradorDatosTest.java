@@ -0,0 +1,47 @@
+package test.java.services;
+
+import main.java.domain.Equipo;
+import main.java.domain.Jugador;
+import main.java.domain.Persona;
+import main.java.services.GeneradorDatos;
+import main.java.services.LectorMercado;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneradorDatosTest {
+
+    @Test
+    public void testEscribirMercado_MismaSemillaMismasLineasYSeLeenSinErrores() throws IOException {
+        StringWriter primero = new StringWriter();
+        StringWriter segundo = new StringWriter();
+        new GeneradorDatos(7).escribirMercado(primero, 600);
+        new GeneradorDatos(7).escribirMercado(segundo, 600);
+        assertEquals(primero.toString(), segundo.toString());
+
+        List<Persona> personas = new ArrayList<>();
+        List<String> errores = new ArrayList<>();
+        new LectorMercado(new StringReader(primero.toString()), (n, linea, motivo) -> errores.add(motivo))
+                .forEach(personas::add);
+        assertEquals(List.of(), errores);
+        assertEquals(600, personas.size());
+        assertEquals(500, personas.stream().filter(p -> p instanceof Jugador).count());
+    }
+
+    @Test
+    public void testGenerarEquipos_PlantillasCompletasYNombresDistintos() {
+        List<Equipo> equipos = new GeneradorDatos(7).generarEquipos(300);
+
+        assertEquals(300, equipos.stream().map(Equipo::getNombre).distinct().count());
+        for (Equipo equipo : equipos) {
+            assertNotNull(equipo.getEntrenador());
+            assertEquals(GeneradorDatos.JUGADORES_POR_EQUIPO, equipo.getNumeroJugadores());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package test.java.services;
+
+import main.java.domain.Equipo;
+import main.java.services.CodecEquipos;
+import main.java.services.IndiceEquipos;
+import main.java.services.ListaEquiposPerezosa;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndiceEquiposTest {
+
+    @Test
+    public void testBuscar_SinDistinguirMayusculasYPorPrefijo() {
+        List<Equipo> equipos = new ArrayList<>(List.of(new Equipo("Sant Andreu", 1909, "Barcelona"),
+                new Equipo("Sabadell", 1903, "Sabadell"), new Equipo("Europa", 1907, "Barcelona")));
+        IndiceEquipos indice = new IndiceEquipos(equipos);
+
+        assertTrue(indice.contiene("SANT ANDREU"));
+        assertSame(equipos.get(2), indice.buscar("europa"));
+        assertEquals(List.of("Sabadell", "Sant Andreu"), indice.buscarPorPrefijo("sa", 10));
+        assertEquals(List.of("Sabadell"), indice.buscarPorPrefijo("SA", 1));
+        assertThrows(IllegalArgumentException.class, () -> indice.agregar(new Equipo("EUROPA", 1907, "Barcelona")));
+
+        assertTrue(indice.eliminar(equipos.get(2)));
+        assertFalse(indice.contiene("Europa"));
+        Equipo nuevo = new Equipo("Europa", 1907, "Barcelona");
+        indice.agregar(nuevo);
+        assertSame(nuevo, indice.buscar("EUROPA"));
+        assertEquals(3, indice.size());
+    }
+
+    @Test
+    public void testNombresRepetidos_AlEliminarElPrimeroSeIndexaElSiguiente() {
+        Equipo primero = new Equipo("Jupiter", 1909, "Barcelona");
+        Equipo segundo = new Equipo("JUPITER", 1910, "Barcelona");
+        Equipo tercero = new Equipo("jupiter", 1911, "Barcelona");
+        IndiceEquipos indice = new IndiceEquipos(List.of(primero, segundo, tercero));
+        assertEquals(1, indice.size());
+        assertSame(primero, indice.buscar("jupiter"));
+
+        assertTrue(indice.eliminar(tercero));
+        assertSame(primero, indice.buscar("jupiter"));
+        assertTrue(indice.eliminar(primero));
+        assertSame(segundo, indice.buscar("jupiter"));
+        assertEquals(List.of("JUPITER"), indice.buscarPorPrefijo("jup", 10));
+        assertFalse(indice.eliminar(primero));
+        assertTrue(indice.eliminar(segundo));
+        assertFalse(indice.contiene("Jupiter"));
+        assertEquals(0, indice.size());
+    }
+
+    @Test
+    public void testListaPerezosa_SoloCreaLosEquiposBuscados() throws IOException {
+        Path archivo = Files.createTempFile("equipos", ".bin");
+        try {
+            CodecEquipos.guardar(archivo, List.of(new Equipo("Jupiter", 1909, "Barcelona"),
+                    new Equipo("Martinenc", 1915, "Barcelona"), new Equipo("JUPITER", 1910, "Barcelona")));
+            ListaEquiposPerezosa lista = ListaEquiposPerezosa.abrir(archivo);
+            IndiceEquipos indice = new IndiceEquipos(lista);
+            assertTrue(indice.contiene("jupiter"));
+            assertFalse(lista.isCargado(0));
+
+            lista.remove(0);
+            Equipo martinenc = indice.buscar("MARTINENC");
+            assertTrue(lista.isCargado(0));
+            assertSame(martinenc, lista.get(0));
+
+            assertTrue(indice.eliminar(indice.buscar("jupiter")));
+            assertSame(lista.get(1), indice.buscar("Jupiter"));
+        } finally {
+            Files.deleteIfExists(archivo);
+        }
+    }
+}
@@ -58,4 +58,12 @@ public class InputHelperTest {
         String resultado = InputHelper.leerStringNoVacio(scanner, "Introduce texto: ");
         assertEquals("Texto válido", resultado);
     }
+
+    @Test
+    public void testLeerOpcionPagina_SoloAceptaLasPaginasQueExisten() {
+        Scanner scanner = new Scanner(new StringReader("p\nN\n"));
+        assertEquals(InputHelper.PAGINA_SIGUIENTE, InputHelper.leerOpcionPagina(scanner, 20, false, true));
+        scanner = new Scanner(new StringReader("n\n21\n20\n"));
+        assertEquals(20, InputHelper.leerOpcionPagina(scanner, 20, true, false));
+    }
 }
@@ -0,0 +1,94 @@
+package test.java.services;
+
+import main.java.domain.Entrenador;
+import main.java.domain.Jugador;
+import main.java.services.LectorMercado;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LectorMercadoTest {
+
+    private final List<String> errores = new ArrayList<>();
+    private final LectorMercado lector = LectorMercado.paraLineas((n, linea, motivo) -> errores.add(linea));
+
+    private double sueldo(String valor) {
+        Jugador jugador = (Jugador) lector.interpretar("J;Pere;Mas;01/02/1999;5;" + valor + ";4;DEF;60", 0, 1);
+        assertNotNull(jugador, valor);
+        return jugador.getSueldo();
+    }
+
+    private int torneos(String valor) {
+        Entrenador entrenador = (Entrenador) lector.interpretar("E;Joan;Puig;03/04/1970;5;1000;" + valor + ";false",
+                0, 1);
+        assertNotNull(entrenador, valor);
+        return entrenador.getTorneosGanados();
+    }
+
+    private static double esperado(String valor) {
+        return Double.parseDouble(valor.strip().replace(',', '.'));
+    }
+
+    @Test
+    public void testDecimal_CoincideConParseDouble() {
+        List<String> valores = List.of("0", "-0", "+0", "+123.5", "123,5", " 42.0 ", "007.250", "1.50000",
+                ".5", "5.", "0.1", "0.3", "4.35", "2.675", "0.000001", "000000000000000000001.5",
+                "123456789012345", "12345678901234.5", "0.123456789012345", "999999999999999",
+                // Más de 15 dígitos significativos o de 22 decimales, o con exponente: se delegan en parseDouble
+                "1234567890123456", "9007199254740993", "999999999999999.9", "0.1234567890123456789",
+                "1.000000000000000000001", "1.0000000000000000000000", "1e3", "1.7976931348623157E308");
+        for (String valor : valores) {
+            assertEquals(Double.doubleToRawLongBits(esperado(valor)), Double.doubleToRawLongBits(sueldo(valor)),
+                    valor);
+        }
+
+        // Mantisas largas con muchos decimales, cerca del límite en el que se redondea
+        SplittableRandom rand = new SplittableRandom(9);
+        for (int i = 0; i < 20000; i++) {
+            int digitos = 1 + rand.nextInt(15);
+            StringBuilder valor = new StringBuilder(rand.nextBoolean() ? "+" : "");
+            for (int d = 0; d < digitos; d++) {
+                valor.append((char) ('0' + rand.nextInt(10)));
+            }
+            int decimales = rand.nextInt(Math.min(digitos, 21) + 1);
+            if (decimales > 0) {
+                valor.insert(valor.length() - decimales, rand.nextBoolean() ? '.' : ',');
+            }
+            String texto = valor.toString();
+            assertEquals(Double.doubleToRawLongBits(esperado(texto)), Double.doubleToRawLongBits(sueldo(texto)),
+                    texto);
+        }
+        assertTrue(errores.isEmpty());
+    }
+
+    @Test
+    public void testEntero_CoincideConParseInt() {
+        for (String valor : List.of("0", "-0", "+7", "007", " 12 ", "123456789", "1234567890", "2147483647",
+                "+0002147483647")) {
+            assertEquals(Integer.parseInt(valor.strip()), torneos(valor), valor);
+        }
+        assertTrue(errores.isEmpty());
+    }
+
+    @Test
+    public void testNumerosNoValidos_SeInformanComoLineasErroneas() {
+        List<String> decimales = List.of("", "abc", "+", "-", ".", "1.2.3", "1,2,3", "1e", "--1", "12a", "1 2",
+                "-1.5");
+        for (String valor : decimales) {
+            String linea = "J;Pere;Mas;01/02/1999;5;" + valor + ";4;DEF;60";
+            assertNull(lector.interpretar(linea, 0, 1), valor);
+            assertEquals(linea, errores.get(errores.size() - 1));
+        }
+        List<String> enteros = List.of("", "1.5", "abc", "+", "-", "2147483648", "99999999999", "1 2", "-3");
+        for (String valor : enteros) {
+            String linea = "E;Joan;Puig;03/04/1970;5;1000;" + valor + ";false";
+            assertNull(lector.interpretar(linea, 0, 1), valor);
+            assertEquals(linea, errores.get(errores.size() - 1));
+        }
+        assertEquals(decimales.size() + enteros.size(), errores.size());
+    }
+}
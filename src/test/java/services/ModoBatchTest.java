@@ -0,0 +1,76 @@
+package test.java.services;
+
+import main.java.services.ModoBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModoBatchTest {
+
+    @TempDir
+    Path directorio;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final PrintStream salida = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+
+    private int ejecutar(String... args) {
+        return ModoBatch.ejecutar(args, salida);
+    }
+
+    @Test
+    public void testGuion_IgnoraComentariosYEjecutaLasOrdenesEnOrden() throws IOException {
+        Path csv = directorio.resolve("clasificacion.csv");
+        Path guion = directorio.resolve("guion.txt");
+        Files.write(guion, List.of("# Dos ligas con cuatro equipos", "", "semilla 7", "generar 4",
+                "  ligas   2  ", "exportar " + csv), StandardCharsets.UTF_8);
+
+        assertEquals(ModoBatch.SALIDA_OK, ejecutar("--script", guion.toString()));
+        String texto = bytes.toString(StandardCharsets.UTF_8);
+        assertTrue(texto.contains("Equipos generados: 4"));
+        assertTrue(texto.contains("Ligas disputadas: 2 (4 equipos)"));
+        assertTrue(texto.indexOf("generar completado") < texto.indexOf("ligas completado"));
+
+        List<String> filas = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        assertEquals(1 + 2 * 4, filas.size());
+        assertTrue(filas.get(1).startsWith("Liga 1;1;"));
+        assertTrue(filas.get(8).startsWith("Liga 2;4;"));
+    }
+
+    @Test
+    public void testMismaSemilla_MismaExportacion() throws IOException {
+        Path a = directorio.resolve("a.csv");
+        Path b = directorio.resolve("b.csv");
+        assertEquals(ModoBatch.SALIDA_OK, ejecutar("generar=6", "ligas=3", "exportar=" + a));
+        assertEquals(ModoBatch.SALIDA_OK, ejecutar("generar=6", "ligas=3", "exportar=" + b));
+        assertEquals(Files.readAllLines(a), Files.readAllLines(b));
+    }
+
+    @Test
+    public void testOrdenesNoValidas_DevuelvenSalidaOrdenNoValida() {
+        assertEquals(ModoBatch.SALIDA_ORDEN_NO_VALIDA, ejecutar("generar=4", "volar=3"));
+        assertEquals(ModoBatch.SALIDA_ORDEN_NO_VALIDA, ejecutar("ligas=muchas"));
+        assertEquals(ModoBatch.SALIDA_ORDEN_NO_VALIDA, ejecutar("generar=-1"));
+        assertEquals(ModoBatch.SALIDA_ORDEN_NO_VALIDA, ejecutar("exportar"));
+        assertEquals(ModoBatch.SALIDA_ORDEN_NO_VALIDA, ejecutar("generar=1", "ligas=1"));
+        assertEquals(ModoBatch.SALIDA_ORDEN_NO_VALIDA, ejecutar("--script"));
+    }
+
+    @Test
+    public void testArchivosQueNoSePuedenLeer_DevuelvenSalidaErrorArchivo() {
+        Path inexistente = directorio.resolve("no/existe.bin");
+        assertEquals(ModoBatch.SALIDA_ERROR_ARCHIVO, ejecutar("equipos=" + inexistente, "ligas=1"));
+        assertFalse(bytes.toString(StandardCharsets.UTF_8).contains("ligas completado"));
+        assertEquals(ModoBatch.SALIDA_ERROR_ARCHIVO, ejecutar("mercado=" + inexistente));
+        assertEquals(ModoBatch.SALIDA_ERROR_ARCHIVO, ejecutar("--script", inexistente.toString()));
+        assertEquals(ModoBatch.SALIDA_ERROR_ARCHIVO, ejecutar("generar=2", "exportar=" + inexistente));
+    }
+}
@@ -0,0 +1,65 @@
+package test.java.services;
+
+import main.java.domain.Jugador;
+import main.java.domain.Persona;
+import main.java.services.GeneradorDatos;
+import main.java.services.LectorMercado;
+import main.java.services.ServicioEntrenamiento;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServicioEntrenamientoTest {
+
+    @Test
+    public void testEntrenarMercado_MismaSemillaMismoResultadoConCualquierNumeroDeHilos() throws IOException {
+        StringWriter datos = new StringWriter();
+        new GeneradorDatos(11).escribirMercado(datos, 30_000);
+        List<Persona> secuencial = leer(datos.toString());
+        List<Persona> paralelo = leer(datos.toString());
+
+        ForkJoinPool unHilo = new ForkJoinPool(1);
+        ForkJoinPool cuatroHilos = new ForkJoinPool(4);
+        try {
+            for (int sesion = 0; sesion < 3; sesion++) {
+                ServicioEntrenamiento.entrenarMercado(secuencial, 5 + sesion, unHilo);
+                ServicioEntrenamiento.entrenarMercado(paralelo, 5 + sesion, cuatroHilos);
+            }
+        } finally {
+            unHilo.shutdown();
+            cuatroHilos.shutdown();
+        }
+
+        int cambiosPosicion = 0;
+        List<Persona> original = leer(datos.toString());
+        for (int i = 0; i < secuencial.size(); i++) {
+            Persona a = secuencial.get(i);
+            Persona b = paralelo.get(i);
+            assertEquals(a.getMotivacion(), b.getMotivacion());
+            assertEquals(a.getSueldo(), b.getSueldo());
+            if (a instanceof Jugador ja) {
+                Jugador jb = (Jugador) b;
+                assertEquals(ja.getCalidad(), jb.getCalidad());
+                assertEquals(ja.getPosicion(), jb.getPosicion());
+                assertTrue(ja.getCalidad() >= ((Jugador) original.get(i)).getCalidad());
+                if (!ja.getPosicion().equals(((Jugador) original.get(i)).getPosicion())) {
+                    cambiosPosicion++;
+                }
+            }
+        }
+        assertTrue(cambiosPosicion > 0);
+    }
+
+    private static List<Persona> leer(String datos) throws IOException {
+        List<Persona> personas = new ArrayList<>();
+        new LectorMercado(new StringReader(datos), (n, linea, motivo) -> fail(motivo)).forEach(personas::add);
+        return personas;
+    }
+}
@@ -0,0 +1,89 @@
+package test.java.services;
+
+import main.java.domain.Equipo;
+import main.java.domain.Jugador;
+import main.java.services.GeneradorDatos;
+import main.java.services.ServicioTraspasos;
+import main.java.services.ServicioTraspasos.Traspaso;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServicioTraspasosTest {
+
+    @Test
+    public void testTraspasarEnParalelo_NingunJugadorSePierdeNiSeRepite() {
+        List<Equipo> equipos = new GeneradorDatos(5).generarEquipos(20);
+        int totalJugadores = equipos.stream().mapToInt(Equipo::getNumeroJugadores).sum();
+        SplittableRandom rand = new SplittableRandom(8);
+        List<Traspaso> traspasos = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            Equipo origen = equipos.get(rand.nextInt(20));
+            Equipo destino = equipos.get((equipos.indexOf(origen) + 1 + rand.nextInt(19)) % 20);
+            List<Jugador> jugadores = origen.getJugadores();
+            traspasos.add(new Traspaso(jugadores.get(rand.nextInt(jugadores.size())), origen, destino,
+                    ServicioTraspasos.CUALQUIER_DORSAL));
+        }
+        // El mismo jugador, a dos equipos distintos: solo puede realizarse uno
+        Jugador disputado = equipos.get(0).getJugadores().get(0);
+        traspasos.add(new Traspaso(disputado, equipos.get(0), equipos.get(1), ServicioTraspasos.CUALQUIER_DORSAL));
+        traspasos.add(new Traspaso(disputado, equipos.get(0), equipos.get(2), ServicioTraspasos.CUALQUIER_DORSAL));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Traspaso> realizados = new ServicioTraspasos().traspasar(traspasos, pool);
+            assertFalse(realizados.isEmpty());
+        } finally {
+            pool.shutdown();
+        }
+
+        Set<Jugador> vistos = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Equipo equipo : equipos) {
+            for (Jugador jugador : equipo.getJugadores()) {
+                assertTrue(vistos.add(jugador));
+                assertSame(equipo, jugador.getEquipo());
+                assertSame(jugador, equipo.buscarJugador(jugador.getDorsal()));
+            }
+        }
+        assertEquals(totalJugadores, vistos.size());
+    }
+
+    @Test
+    public void testTraspasar_RechazaSinCambiosSiElDorsalEstaOcupado() {
+        Equipo origen = new Equipo("Jupiter", 1909, "Barcelona");
+        Equipo destino = new Equipo("Martinenc", 1915, "Barcelona");
+        Jugador jugador = new Jugador("Pere", "Mas", "01/02/1999", 50000, 5, 4, "DEF", 60);
+        origen.agregarJugador(jugador);
+        destino.agregarJugador(new Jugador("Joan", "Puig", "03/04/2000", 60000, 6, 4, "MIG", 65));
+        ServicioTraspasos servicio = new ServicioTraspasos();
+
+        assertFalse(servicio.traspasar(jugador, origen, destino, 4));
+        assertSame(origen, jugador.getEquipo());
+        assertTrue(servicio.traspasar(jugador, origen, destino, ServicioTraspasos.CUALQUIER_DORSAL));
+        assertEquals(1, jugador.getDorsal());
+        assertFalse(servicio.traspasar(jugador, origen, destino, 7));
+        assertEquals(2, destino.getNumeroJugadores());
+        assertThrows(IllegalArgumentException.class, () -> servicio.traspasar(jugador, destino, destino, 7));
+    }
+
+    @Test
+    public void testEjecutar_EquiposQueCompartenCerrojo() throws Exception {
+        // Más equipos que cerrojos: varios comparten cerrojo y cada cerrojo se toma una sola vez
+        List<Equipo> equipos = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            equipos.add(new Equipo("Equipo " + i, 1900, "Barcelona"));
+        }
+        ServicioTraspasos servicio = new ServicioTraspasos();
+        int resultado = servicio.ejecutar(equipos,
+                () -> servicio.ejecutar(List.of(equipos.get(999), equipos.get(0), equipos.get(999)), () -> 42));
+        assertEquals(42, resultado);
+        // Todos los cerrojos se han liberado: otro hilo puede tomarlos
+        assertEquals(Boolean.TRUE, CompletableFuture.supplyAsync(() -> servicio.ejecutar(equipos, () -> Boolean.TRUE))
+                .get(10, TimeUnit.SECONDS));
+    }
+}